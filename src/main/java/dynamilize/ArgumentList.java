@@ -63,6 +63,20 @@ public class ArgumentList{
     return res;
   }
 
+  /**创建一个不经过实例堆栈的参数列表，不同于{@link ArgumentList#asWithType(FunctionType, Object...)}，此方法不需要同步，
+   * 适用于并发调用频繁的场合，创建的实例同样可以回收
+   *
+   * @param type 实参列表的形式参数类型
+   * @param args 实参列表
+   * @return 封装参数对象*/
+  public static ArgumentList of(FunctionType type, Object... args){
+    ArgumentList res = new ArgumentList();
+    res.args = args;
+    res.type = type;
+
+    return res;
+  }
+
   /**回收实例，使实例重新入栈，若堆栈已到达最大容量，则不会继续插入实例堆栈中*/
   public void recycle(){
     args = null;
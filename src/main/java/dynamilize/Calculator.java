@@ -6,4 +6,40 @@ package dynamilize;
 @FunctionalInterface
 public interface Calculator<Type>{
   Type calculate(Type input);
+
+  /**基本类型int的变量计算器，参见{@link DynamicObject#calculateVarInt(String, IntCalculator)}*/
+  @FunctionalInterface
+  interface IntCalculator{
+    int calculate(int input);
+  }
+
+  /**@see IntCalculator*/
+  @FunctionalInterface
+  interface LongCalculator{
+    long calculate(long input);
+  }
+
+  /**@see IntCalculator*/
+  @FunctionalInterface
+  interface FloatCalculator{
+    float calculate(float input);
+  }
+
+  /**@see IntCalculator*/
+  @FunctionalInterface
+  interface DoubleCalculator{
+    double calculate(double input);
+  }
+
+  /**@see IntCalculator*/
+  @FunctionalInterface
+  interface BooleanCalculator{
+    boolean calculate(boolean input);
+  }
+
+  /**变量累加器，以变量的当前值与给出的值计算变量的新值，参见{@link DynamicObject#accumulateVar(String, Object, Accumulator)}*/
+  @FunctionalInterface
+  interface Accumulator<Type>{
+    Type accumulate(Type current, Type x);
+  }
 }
@@ -1,6 +1,8 @@
 package dynamilize;
 
+import java.lang.invoke.SwitchPoint;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**用于存储和处置动态对象数据的信息容器，不应从外部访问，每一个动态对象都会绑定一个数据池存放对象的变量/函数等信息。
  * <p>对于一个{@linkplain DynamicClass 动态类}的实例，实例的数据池一定会有一个父池，这个池以动态类的直接超类描述的信息进行初始化。
@@ -10,6 +12,7 @@ import java.util.*;
 @SuppressWarnings({"unchecked"})
 public class DataPool{
   private static final String init = "<init>";
+  private static final int initId = SymbolTable.FUNCTIONS.id(init);
 
   private static final List<IFunctionEntry> TMP_LIS = new ArrayList<>();
   public static final IFunctionEntry[] EMP_METS = new IFunctionEntry[0];
@@ -17,37 +20,53 @@ public class DataPool{
   private static final List<IVariable> TMP_VAR = new ArrayList<>();
   public static final IVariable[] EMP_VARS = new IVariable[0];
 
-  private final DataPool superPool;
 
-  private final Map<String, Map<FunctionType, IFunctionEntry>> funcPool = new HashMap<>();
-  private final Map<String, IVariable> varPool = new HashMap<>();
+  private final DataPool superPool;
+  private final boolean delegate;
+
+  /**池层次结构共享的变更状态，同一根池下的所有池，即一个动态类的继承树中的类型与其实例的池共享同一个对象*/
+  private final Hierarchy hierarchy;
+  /**此池自身的修改戳，此池中的函数发生变更时递增*/
+  private volatile int localStamp;
+  /**此池自身的函数变更开关点，仅在被获取过后才会创建*/
+  private SwitchPoint localSwitchPoint;
+  /**此池是否为其他池的父池，被共享的池中的函数变更会影响层次结构中其他池的函数选择*/
+  private volatile boolean shared;
+
+  /**以{@linkplain SymbolTable#FUNCTIONS 函数名称标识}为键的函数表，容量只与池中的函数名称数量有关*/
+  private SymbolMap<Map<FunctionType, IFunctionEntry>> funcPool = SymbolMap.empty();
+  /**以{@linkplain SymbolTable#VARIABLES 变量名称标识}为键的变量表，容量只与池中的变量数量有关*/
+  private SymbolMap<IVariable> varPool = SymbolMap.empty();
+  private boolean hasFunction;
 
   /**创建一个池对象并绑定到父池，父池可为null，这种情况下此池应当为被委托类型的方法/字段引用。
    * <p><strong>你不应该在外部使用时调用此类型</strong>
    *
    * @param superPool 此池的父池*/
   public DataPool(DataPool superPool){
-    this.superPool = superPool;
+    this(superPool, false);
   }
 
-  public void init(DynamicObject<?> self, Object... args){
-    DynamicClass curr = self.getDyClass();
-    HashSet<String> varSetted = new HashSet<>();
+  /**创建一个池对象并绑定到父池，同时指明此池是否为被委托类型的方法/字段引用，在这样的池中设置的函数不会被视为对方法的{@linkplain DataPool#isOverridden(int) 重写}
+   *
+   * @param superPool 此池的父池
+   * @param delegate 此池是否为被委托类型的方法/字段引用*/
+  public DataPool(DataPool superPool, boolean delegate){
+    this.superPool = superPool;
+    this.delegate = delegate;
+    this.hierarchy = superPool == null? new Hierarchy(): superPool.hierarchy;
 
-    while(curr != null){
-      for(Map.Entry<String, Initializer<?>> entry: curr.getVarInit().entrySet()){
-        if(varSetted.add(entry.getKey())) self.setVar(entry.getKey(), entry.getValue());
-      }
+    if(superPool != null) superPool.shared = true;
+  }
 
-      curr = curr.superDyClass();
-    }
+  public void init(DynamicObject<?> self, Object... args){
+    self.getDyClass().getInitializerPlan().apply(self);
 
     ArgumentList lis = ArgumentList.as(args);
-    IFunctionEntry fun = select(init, lis.type());
+    IFunctionEntry fun = select(initId, lis.type());
     if(fun == null) return;
 
     fun.getFunction().invoke((DynamicObject<Object>) self, args);
-    lis.type().recycle();
     lis.recycle();
   }
 
@@ -56,10 +75,7 @@ public class DataPool{
   }
 
   public Function<?, ?> getConstructor(Class<?>... argType){
-    FunctionType type = FunctionType.inst(argType);
-    Function<?, ?> fun = select(init, type).getFunction();
-    type.recycle();
-    return fun;
+    return select(init, FunctionType.inst(argType)).getFunction();
   }
 
   /**在本池设置一个函数，无论父池是否具有同名同类型的函数存在，若本池中存在同名同类型函数，则旧函数将被覆盖。
@@ -78,21 +94,103 @@ public class DataPool{
    * @param function 描述此函数行为的匿名函数*/
   public void setFunction(String name, Function<?, ?> function, Class<?>... argsType){
     FunctionType type = FunctionType.inst(argsType);
-    funcPool.computeIfAbsent(name, n -> new HashMap<>())
-        .put(type, new FunctionEntry<>(name, true, function, type, this));
+    functions(SymbolTable.FUNCTIONS.id(name)).put(type, new FunctionEntry<>(name, true, function, type, this));
+    functionChanged();
   }
 
   public <R, S> void setFunction(String name, Function.SuperGetFunction<S,R> func, Class<?>[] argTypes){
     FunctionType type = FunctionType.inst(argTypes);
-    funcPool.computeIfAbsent(name, n -> new HashMap<>())
-        .put(type, new FunctionEntry<>(name, true, func, type, this));
+    functions(SymbolTable.FUNCTIONS.id(name)).put(type, new FunctionEntry<>(name, true, func, type, this));
+    functionChanged();
   }
 
   public void setFunction(IFunctionEntry functionEntry){
     if(functionEntry.owner() != this)
       throw new IllegalHandleException("function owner pool must equal added pool");
 
-    funcPool.computeIfAbsent(functionEntry.getName(), e -> new HashMap<>()).put(functionEntry.getType(), functionEntry);
+    functions(SymbolTable.FUNCTIONS.id(functionEntry.getName())).put(functionEntry.getType(), functionEntry);
+    functionChanged();
+  }
+
+  private Map<FunctionType, IFunctionEntry> functions(int id){
+    Map<FunctionType, IFunctionEntry> res = funcPool.get(id);
+    if(res == null) funcPool = funcPool.put(id, res = new HashMap<>());
+    hasFunction = true;
+
+    return res;
+  }
+
+  /**此池或其父池中，是否有被委托类型的方法池以外的池设置过此名称的函数，若没有，则对此名称的函数的选择结果必然是被委托类型自身的方法，可以直接调用超类方法。
+   * <p>结果只与此池所在的层次结构有关，其他动态类型设置的同名函数不会影响此池
+   *
+   * @param id 函数名称的标识
+   * @return 此名称的函数是否被重写过*/
+  public boolean isOverridden(int id){
+    for(DataPool curr = this; curr != null; curr = curr.superPool){
+      if(!curr.delegate && curr.functionMap(id) != null) return true;
+    }
+
+    return false;
+  }
+
+  /**此池是否为被委托类型的方法/字段引用*/
+  public boolean isDelegate(){
+    return delegate;
+  }
+
+  private void functionChanged(){
+    localStamp++;
+    SwitchPoint local;
+    synchronized(this){
+      local = localSwitchPoint;
+      localSwitchPoint = null;
+    }
+
+    //实例的池不会成为其他池的父池，其变更只影响以此池为等效池的选择结果，不需要使整个层次结构的缓存与链接失效
+    SwitchPoint shared = this.shared? hierarchy.changed(): null;
+
+    if(local != null && shared != null) SwitchPoint.invalidateAll(new SwitchPoint[]{local, shared});
+    else if(local != null) SwitchPoint.invalidateAll(new SwitchPoint[]{local});
+    else if(shared != null) SwitchPoint.invalidateAll(new SwitchPoint[]{shared});
+  }
+
+  /**获取此池当前有效的函数变更开关点，在此之后此池中设置函数会使此开关点失效。
+   * <p>以此池为{@linkplain DataPool#selectKey() 等效池}的选择结果还依赖于父池中的函数，需要同时以{@link DataPool#hierarchySwitchPoint()}保护
+   *
+   * @return 此池当前的开关点*/
+  public synchronized SwitchPoint switchPoint(){
+    if(localSwitchPoint == null) localSwitchPoint = new SwitchPoint();
+    return localSwitchPoint;
+  }
+
+  /**获取此池所在的层次结构当前有效的函数变更开关点，在此之后层次结构中任意被共享的池（动态类型的池）中设置函数都会使此开关点失效，
+   * 其他层次结构中的函数变更不会影响此开关点
+   *
+   * @return 层次结构当前的开关点*/
+  public SwitchPoint hierarchySwitchPoint(){
+    return hierarchy.switchPoint();
+  }
+
+  /**获取此池的修改戳，在此池或者此池所在层次结构中被共享的池（动态类型的池）中设置函数都会改变此值，
+   * 其他层次结构中的池，以及同一层次结构中其他实例的池中的函数变更不会改变此值
+   *
+   * @return 当前的修改戳*/
+  public int modifyStamp(){
+    //两个戳都只会递增，因此二者之和在任意一个变化后都不会与先前的值相同
+    return hierarchy.stamp.get() + localStamp;
+  }
+
+  /**获取此池在函数选择上的等效池，若此池自身没有定义任何函数，那么函数选择的结果完全由父池决定，此时会沿父池向上查找到第一个定义了函数的池。
+   * <p>同一动态类型的实例若都没有设置实例自身的函数，则它们的等效池是同一个，这使得调用点缓存可以被这些实例共享
+   *
+   * @return 函数选择的等效池*/
+  public DataPool selectKey(){
+    DataPool curr = this;
+    while(!curr.hasFunction && curr.superPool != null){
+      curr = curr.superPool;
+    }
+
+    return curr;
   }
 
   /**从类层次结构中获取变量的对象
@@ -100,11 +198,20 @@ public class DataPool{
    * @param name 变量名
    * @return 变量对象*/
   public IVariable getVariable(String name){
-    IVariable var = varPool.get(name);
+    int id = SymbolTable.VARIABLES.lookup(name);
+    return id < 0? null: getVariable(id);
+  }
+
+  /**以变量名称的{@linkplain SymbolTable#VARIABLES 标识}从类层次结构中获取变量的对象
+   *
+   * @param id 变量名称的标识
+   * @return 变量对象*/
+  public IVariable getVariable(int id){
+    IVariable var = varPool.get(id);
     if(var != null) return var;
 
     if(superPool != null){
-      return superPool.getVariable(name);
+      return superPool.getVariable(id);
     }
 
     return null;
@@ -114,7 +221,15 @@ public class DataPool{
    *
    * @param var 加入池的变量*/
   public void setVariable(IVariable var){
-    varPool.putIfAbsent(var.name(), var);
+    int id = SymbolTable.VARIABLES.id(var.name());
+    if(varPool.get(id) == null) varPool = varPool.put(id, var);
+  }
+
+  /**向池中放入一个变量对象，若池中已存在同名的变量则将其替换，用于动态类型重复声明变量时更新变量的属性
+   *
+   * @param var 放入池的变量*/
+  void putVariable(IVariable var){
+    varPool = varPool.put(SymbolTable.VARIABLES.id(var.name()), var);
   }
 
   /**将类层次结构中定义的函数输出为函数入口，会优先查找类型签名相同的函数，若未查找到相同的才会转入类型签名匹配的函数，
@@ -125,12 +240,22 @@ public class DataPool{
    * @param type 函数的参数类型
    * @return 选中函数的函数入口*/
   public IFunctionEntry select(String name, FunctionType type){
+    int id = SymbolTable.FUNCTIONS.lookup(name);
+    return id < 0? null: select(id, type);
+  }
+
+  /**以函数名称的{@linkplain SymbolTable#FUNCTIONS 标识}选择函数，规则与{@link DataPool#select(String, FunctionType)}相同
+   *
+   * @param id 函数名称的标识
+   * @param type 函数的参数类型
+   * @return 选中函数的函数入口*/
+  public IFunctionEntry select(int id, FunctionType type){
     Map<FunctionType, IFunctionEntry> map;
     IFunctionEntry res;
 
     DataPool curr = this;
     while(curr != null){
-      map = curr.funcPool.get(name);
+      map = curr.functionMap(id);
       if(map != null){
         res = map.get(type);
         if(res != null) return res;
@@ -141,10 +266,10 @@ public class DataPool{
 
     curr = this;
     while(curr != null){
-      map = curr.funcPool.get(name);
+      map = curr.functionMap(id);
       if(map != null){
         for(Map.Entry<FunctionType, IFunctionEntry> entry: map.entrySet()){
-          if(entry.getKey().match(type.getTypes())){
+          if(entry.getKey().match(type.types())){
             return entry.getValue();
           }
         }
@@ -156,16 +281,44 @@ public class DataPool{
     return null;
   }
 
+  /**池中函数名称标识的上界，池中所有函数名称的标识都小于此值*/
+  int functionBound(){
+    return funcPool.bound();
+  }
+
+  /**仅在此池自身中获取变量，不会查找父池*/
+  IVariable localVariable(int id){
+    return varPool.get(id);
+  }
+
+  SymbolMap<Map<FunctionType, IFunctionEntry>> functionMaps(){
+    return funcPool;
+  }
+
+  SymbolMap<IVariable> variables(){
+    return varPool;
+  }
+
+  Map<FunctionType, IFunctionEntry> functionMap(int id){
+    return funcPool.get(id);
+  }
+
   public IVariable[] getVariables(){
     TMP_VAR.clear();
-    TMP_VAR.addAll(varPool.values());
+    SymbolMap<IVariable> vars = varPool;
+    for(int i = 0; i < vars.capacity(); i++){
+      IVariable var = vars.valueAt(i);
+      if(var != null) TMP_VAR.add(var);
+    }
     return TMP_VAR.toArray(EMP_VARS);
   }
 
   public IFunctionEntry[] getFunctions(){
     TMP_LIS.clear();
-    for(Map<FunctionType, IFunctionEntry> entry: funcPool.values()){
-      TMP_LIS.addAll(entry.values());
+    SymbolMap<Map<FunctionType, IFunctionEntry>> functions = funcPool;
+    for(int i = 0; i < functions.capacity(); i++){
+      Map<FunctionType, IFunctionEntry> entry = functions.valueAt(i);
+      if(entry != null) TMP_LIS.addAll(entry.values());
     }
 
     return TMP_LIS.toArray(EMP_METS);
@@ -180,6 +333,26 @@ public class DataPool{
     return superPool == null? alternative: ReadOnlyPool.get(superPool, owner, alternative);
   }
 
+  private static class Hierarchy{
+    private final AtomicInteger stamp = new AtomicInteger();
+    private SwitchPoint switchPoint;
+
+    synchronized SwitchPoint switchPoint(){
+      if(switchPoint == null) switchPoint = new SwitchPoint();
+      return switchPoint;
+    }
+
+    /**递增修改戳并取出当前的开关点，返回的开关点需要由调用方在锁外使其失效*/
+    SwitchPoint changed(){
+      stamp.incrementAndGet();
+      synchronized(this){
+        SwitchPoint res = switchPoint;
+        switchPoint = null;
+        return res;
+      }
+    }
+  }
+
   public static class ReadOnlyPool{
     public static int MAX_CHANCES = 2048;
     private static final Stack<ReadOnlyPool> POOLS = new Stack<>();
@@ -250,7 +423,6 @@ public class DataPool{
     public <R> R invokeFunc(String name, Object... args){
       ArgumentList lis = ArgumentList.as(args);
       R r = invokeFunc(name, lis);
-      lis.type().recycle();
       lis.recycle();
       return r;
     }
@@ -2,11 +2,20 @@ package dynamilize;
 
 import dynamilize.annotation.Exclude;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
 
 /**保存动态对象行为信息的动态类型，描述了对象的共有行为和变量信息。
  * <p>在{@link DynamicMaker}的构造实例方法里使用动态类型构造动态对象，动态对象会具有其类型描述的行为，对于基类与动态类中描述的同一方法会正常的处理覆盖关系。
@@ -65,6 +74,19 @@ public class DynamicClass{
 
   private final DataPool data;
   private final Map<String, Initializer<?>> varInit = new HashMap<>();
+  private final Map<String, Initializer<?>> varInitView = new VarInitView();
+  /**继承树共享的变量布局*/
+  private final VariableLayout layout;
+
+  /**此动态类的直接子类，函数发生变更时需要通知子类更新函数版本。子类以弱引用记录，使{@linkplain DynamicClass#anonymous(String, DynamicClass) 匿名的}子类不会被超类持有*/
+  private final List<WeakReference<DynamicClass>> subclasses = new ArrayList<>();
+  /**此类及其超类的函数版本，类型继承链上任意函数发生变更都会使版本递增，用于判断{@linkplain FunctionTable 函数表}是否仍然有效*/
+  private int funcVersion;
+  private final HashMap<DataPool, FunctionTable> functionTables = new HashMap<>();
+  /**此类及其超类的变量版本，类型继承链上任意变量的声明发生变更都会使版本递增，用于判断{@linkplain InitializerPlan 初始化计划}是否仍然有效*/
+  private int varVersion;
+  private volatile InitializerPlan initPlan;
+  private final HashMap<DataPool, VariableTable> variableTables = new HashMap<>();
 
   /**废弃标记，在类型已废弃后，不可再实例化此类型*/
   private boolean isObsoleted;
@@ -85,6 +107,16 @@ public class DynamicClass{
     return dyc;
   }
 
+  /**创建一个不登记在类型池中的动态类型，此类型不能通过名称获取，超类也只以弱引用记录它，因此在不再被引用后即可被回收，不需要{@linkplain DynamicClass#delete() 删除}。
+   * <p>用于由工具在内部生成的类型，例如{@linkplain ProxyMaker 代理生成器}的代理动态类型，名称仅用于描述类型
+   *
+   * @param name 类型的名称
+   * @param superDyClass 此动态类型的直接超类，可以为null
+   * @return 一个新的动态类实例*/
+  static DynamicClass anonymous(String name, DynamicClass superDyClass){
+    return new DynamicClass(name, superDyClass);
+  }
+
   /**获取动态类实例，如果此名称指明的类型不存在则使用给出的名称创建一个新的动态类
    * <p>从此方法创建的新类没有明确的直接超类，实例将以委托的基类作为直接超类，若需要具有明确的直接超类的类型，请使用{@link DynamicClass#declare(String, DynamicClass)}声明
    *
@@ -98,7 +130,26 @@ public class DynamicClass{
   private DynamicClass(String name, DynamicClass superDyClass){
     this.name = name;
     this.superDyClass = superDyClass;
-    this.data = new DataPool(superDyClass == null? null: superDyClass.data);
+    this.layout = superDyClass == null? new VariableLayout(): superDyClass.layout;
+    this.data = new DataPool(superDyClass == null? null: superDyClass.data){
+      private FunctionTable table;
+
+      @Override
+      public IFunctionEntry select(int id, FunctionType type){
+        if(table == null || table.version() != funcVersion) table = getFunctionTable(null);
+
+        return table.select(id, type, null);
+      }
+
+      @Override
+      public boolean isOverridden(int id){
+        if(table == null || table.version() != funcVersion) table = getFunctionTable(null);
+
+        return table.isOverridden(id);
+      }
+    };
+
+    if(superDyClass != null) superDyClass.addSubclass(this);
   }
 
   /**将此类型对象从池中移除并废弃，任何一个动态类不再被使用后，都应当正确的删除。
@@ -107,6 +158,7 @@ public class DynamicClass{
     checkFinalized();
 
     classPool.remove(name);
+    if(superDyClass != null) superDyClass.subclasses.removeIf(r -> r.get() == null || r.get() == this);
     isObsoleted = true;
   }
 
@@ -128,34 +180,180 @@ public class DynamicClass{
     return superDyClass;
   }
 
+  /**获取此类型自身声明的变量的初始化器，返回的映射是写穿的视图，向映射放入初始化器与调用{@link DynamicClass#setVariable(String, Initializer.Producer, boolean)}等方法相同，
+   * 会在类型中声明变量并使{@linkplain InitializerPlan 初始化计划}在下一次实例化时重建。
+   * <p>从映射中移除初始化器后，之后创建的实例不再初始化此变量，但变量的声明仍然保留，读取时得到其类型的默认值
+   *
+   * @return 变量名称到初始化器的映射*/
   public Map<String, Initializer<?>> getVarInit(){
-    return varInit;
+    return varInitView;
+  }
+
+  /**获取此类型的变量初始化计划，若此类型继承链上的变量声明在上一次构建后发生过变更则重新构建计划
+   *
+   * @return 当前有效的初始化计划*/
+  public InitializerPlan getInitializerPlan(){
+    InitializerPlan res = initPlan;
+    if(res != null && res.version() == varVersion) return res;
+
+    synchronized(this){
+      res = initPlan;
+      if(res == null || res.version() != varVersion){
+        res = new InitializerPlan(varVersion, this);
+        initPlan = res;
+      }
+      return res;
+    }
+  }
+
+  private void variableChanged(){
+    varVersion++;
+    for(DynamicClass subclass: subclasses()){
+      subclass.variableChanged();
+    }
+  }
+
+  private void addSubclass(DynamicClass subclass){
+    subclasses.removeIf(r -> r.get() == null);
+    subclasses.add(new WeakReference<>(subclass));
+  }
+
+  /**获取仍然存活的直接子类，同时清除已被回收的子类的记录*/
+  private List<DynamicClass> subclasses(){
+    ArrayList<DynamicClass> res = new ArrayList<>(subclasses.size());
+    subclasses.removeIf(r -> {
+      DynamicClass c = r.get();
+      if(c != null) res.add(c);
+      return c == null;
+    });
+    return res;
+  }
+
+  /**获取此类型的变量布局，同一继承树中的动态类型共享同一个布局
+   *
+   * @return 变量布局*/
+  public VariableLayout variableLayout(){
+    return layout;
   }
 
   public DataPool genPool(DataPool basePool){
     return new DataPool(data){
+      private FunctionTable table;
+      private VariableTable varTable;
+      /**实例在运行时添加的变量由形状描述，添加变量时转移到共享的子形状，实例不再持有自己的变量表。形状的转移在此池的锁下进行*/
+      private volatile VariableShape shape = layout.rootShape();
+
       @Override
-      public IFunctionEntry select(String name1, FunctionType type){
-        IFunctionEntry res1 = super.select(name1, type);
-        if(res1 != null) return res1;
+      public IFunctionEntry select(int id, FunctionType type){
+        if(table == null || table.version() != funcVersion) table = getFunctionTable(basePool);
 
-        return basePool.select(name1, type);
+        return table.select(id, type, functionMap(id));
       }
 
       @Override
-      public IVariable getVariable(String name1){
-        IVariable var = super.getVariable(name1);
+      public boolean isOverridden(int id){
+        if(functionMap(id) != null) return true;
+        if(table == null || table.version() != funcVersion) table = getFunctionTable(basePool);
+
+        return table.isOverridden(id);
+      }
+
+      @Override
+      public IVariable getVariable(int id){
+        IVariable var = shape.get(id);
         if(var != null) return var;
 
-        return basePool.getVariable(name1);
+        var = localVariable(id);
+        if(var != null) return var;
+
+        if(varTable == null || varTable.version() != varVersion) varTable = getVariableTable(basePool);
+        return varTable.get(id);
+      }
+
+      @Override
+      public void setVariable(IVariable var){
+        if(var instanceof ShapeVariable){
+          synchronized(this){
+            shape = shape.transition(var.name());
+          }
+          return;
+        }
+
+        super.setVariable(var);
+      }
+
+      @Override
+      public IVariable[] getVariables(){
+        IVariable[] local = super.getVariables();
+        VariableShape curr = shape;
+        if(curr.size() == 0) return local;
+
+        IVariable[] added = curr.getVariables();
+        IVariable[] res = Arrays.copyOf(added, added.length + local.length);
+        System.arraycopy(local, 0, res, added.length, local.length);
+        return res;
       }
     };
   }
 
+  /**获取此类型与给定的委托基类池的扁平化函数表，若此类型继承链上的函数在上一次构建后发生过变更则重新构建函数表
+   *
+   * @param basePool 委托基类的池，为null时函数表仅包含动态类型继承链上的函数
+   * @return 当前有效的函数表*/
+  public synchronized FunctionTable getFunctionTable(DataPool basePool){
+    FunctionTable res = functionTables.get(basePool);
+    if(res == null || res.version() != funcVersion){
+      ArrayList<DataPool> pools = new ArrayList<>();
+      DynamicClass curr = this;
+      while(curr != null){
+        pools.add(curr.data);
+        curr = curr.superDyClass;
+      }
+
+      res = new FunctionTable(funcVersion, pools, basePool);
+      functionTables.put(basePool, res);
+    }
+
+    return res;
+  }
+
+  /**获取此类型与给定的委托基类池的扁平化变量表，若此类型继承链上的变量声明在上一次构建后发生过变更则重新构建变量表
+   *
+   * @param basePool 委托基类的池，为null时变量表仅包含动态类型继承链上的变量
+   * @return 当前有效的变量表*/
+  public synchronized VariableTable getVariableTable(DataPool basePool){
+    VariableTable res = variableTables.get(basePool);
+    if(res == null || res.version() != varVersion){
+      ArrayList<DataPool> pools = new ArrayList<>();
+      for(DynamicClass curr = this; curr != null; curr = curr.superDyClass){
+        pools.add(curr.data);
+      }
+
+      res = new VariableTable(varVersion, pools, basePool);
+      variableTables.put(basePool, res);
+    }
+
+    return res;
+  }
+
+  private void functionChanged(){
+    funcVersion++;
+    for(DynamicClass subclass: subclasses()){
+      subclass.functionChanged();
+    }
+  }
+
   public IFunctionEntry[] getFunctions(){
     return data.getFunctions();
   }
 
+  /**获取此类及其超类的函数版本，类型继承链上任意函数发生变更后版本都会递增，可用于判断依据此类型的函数构建的缓存是否仍然有效
+   *
+   * @return 当前的函数版本*/
+  public int functionVersion(){
+    return funcVersion;
+  }
+
   public IVariable[] getVariables(){
     return data.getVariables();
   }
@@ -187,6 +385,7 @@ public class DynamicClass{
 
       data.setFunction(new JavaMethodEntry(method, data));
     }
+    functionChanged();
 
     for(Field field: template.getDeclaredFields()){
       if(field.getAnnotation(Exclude.class) != null) continue;
@@ -206,6 +405,7 @@ public class DynamicClass{
       throw new IllegalHandleException("method template must be public and static");
 
     data.setFunction(new JavaMethodEntry(method, data));
+    functionChanged();
   }
 
   /**访问一个字段样版，不同于{@link DynamicClass#visitClass(Class)}，此方法只访问一个单独的字段并创建其行为样版。
@@ -226,10 +426,185 @@ public class DynamicClass{
    * @param argTypes 函数的形式参数类型*/
   public <S, R> void setFunction(String name, Function<S, R> func, Class<?>... argTypes){
     data.setFunction(name, func, argTypes);
+    functionChanged();
   }
 
   public <S, R> void setFunction(String name, Function.SuperGetFunction<S, R> func, Class<?>... argTypes){
     data.setFunction(name, func, argTypes);
+    functionChanged();
+  }
+
+  /**以定长参数的匿名函数设置函数，效果与{@link DynamicClass#setFunction(String, Function, Class[])}相同，
+   * 但以相同数量的实参调用此函数时实参会直接传递给匿名函数，不会产生参数表。
+   * <p>由于与变长参数的重载在lambda参数数量相同时会产生歧义，定长的设置方法以参数数量区分名称
+   *
+   * @param name 函数名称
+   * @param func 描述函数行为的定长参数匿名函数*/
+  public <S, R> void setFunction0(String name, Function.Function0<S, R> func){
+    data.setFunction(name, func);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setFunction0(String, Function.Function0)*/
+  public <S, R> void setFunction1(String name, Function.Function1<S, R> func, Class<?> t0){
+    data.setFunction(name, func, t0);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setFunction0(String, Function.Function0)*/
+  public <S, R> void setFunction2(String name, Function.Function2<S, R> func, Class<?> t0, Class<?> t1){
+    data.setFunction(name, func, t0, t1);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setFunction0(String, Function.Function0)*/
+  public <S, R> void setFunction3(String name, Function.Function3<S, R> func, Class<?> t0, Class<?> t1, Class<?> t2){
+    data.setFunction(name, func, t0, t1, t2);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setFunction0(String, Function.Function0)*/
+  public <S, R> void setFunction4(String name, Function.Function4<S, R> func, Class<?> t0, Class<?> t1, Class<?> t2, Class<?> t3){
+    data.setFunction(name, func, t0, t1, t2, t3);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setFunction0(String, Function.Function0)*/
+  public <S, R> void setFunction5(String name, Function.Function5<S, R> func, Class<?> t0, Class<?> t1, Class<?> t2, Class<?> t3, Class<?> t4){
+    data.setFunction(name, func, t0, t1, t2, t3, t4);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setFunction0(String, Function.Function0)*/
+  public <S, R> void setFunction6(String name, Function.Function6<S, R> func, Class<?> t0, Class<?> t1, Class<?> t2, Class<?> t3, Class<?> t4, Class<?> t5){
+    data.setFunction(name, func, t0, t1, t2, t3, t4, t5);
+    functionChanged();
+  }
+
+  /**以基本类型特化的匿名函数设置函数，函数的形式参数类型由匿名函数的形状确定，无需传入参数类型也无需对lambda进行类型转换，
+   * 以相同的基本类型实参调用此函数时不会发生装箱。
+   * <p>不同基本类型的形状的lambda参数数量相同，与{@link DynamicClass#setFunction(String, Function, Class[])}也会产生歧义，
+   * 因此与{@link DynamicClass#setFunction0(String, Function.Function0)}相同，以名称区分基本类型，以lambda的参数数量区分重载，无返回值的函数使用{@code set*Consumer}
+   *
+   * @param name 函数名称
+   * @param func 描述函数行为的无参匿名函数*/
+  public <S> void setIntFunction(String name, Function.IntGetter<S> func){
+    data.setFunction(name, func);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setIntFunction(String, Function.IntGetter)*/
+  public <S> void setIntFunction(String name, Function.IntUnary<S> func){
+    data.setFunction(name, func, int.class);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setIntFunction(String, Function.IntGetter)*/
+  public <S> void setIntFunction(String name, Function.IntBinary<S> func){
+    data.setFunction(name, func, int.class, int.class);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setIntFunction(String, Function.IntGetter)*/
+  public <S> void setIntConsumer(String name, Function.IntConsumer<S> func){
+    data.setFunction(name, func, int.class);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setIntFunction(String, Function.IntGetter)*/
+  public <S> void setLongFunction(String name, Function.LongGetter<S> func){
+    data.setFunction(name, func);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setIntFunction(String, Function.IntGetter)*/
+  public <S> void setLongFunction(String name, Function.LongUnary<S> func){
+    data.setFunction(name, func, long.class);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setIntFunction(String, Function.IntGetter)*/
+  public <S> void setLongFunction(String name, Function.LongBinary<S> func){
+    data.setFunction(name, func, long.class, long.class);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setIntFunction(String, Function.IntGetter)*/
+  public <S> void setLongConsumer(String name, Function.LongConsumer<S> func){
+    data.setFunction(name, func, long.class);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setIntFunction(String, Function.IntGetter)*/
+  public <S> void setFloatFunction(String name, Function.FloatGetter<S> func){
+    data.setFunction(name, func);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setIntFunction(String, Function.IntGetter)*/
+  public <S> void setFloatFunction(String name, Function.FloatUnary<S> func){
+    data.setFunction(name, func, float.class);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setIntFunction(String, Function.IntGetter)*/
+  public <S> void setFloatFunction(String name, Function.FloatBinary<S> func){
+    data.setFunction(name, func, float.class, float.class);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setIntFunction(String, Function.IntGetter)*/
+  public <S> void setFloatConsumer(String name, Function.FloatConsumer<S> func){
+    data.setFunction(name, func, float.class);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setIntFunction(String, Function.IntGetter)*/
+  public <S> void setDoubleFunction(String name, Function.DoubleGetter<S> func){
+    data.setFunction(name, func);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setIntFunction(String, Function.IntGetter)*/
+  public <S> void setDoubleFunction(String name, Function.DoubleUnary<S> func){
+    data.setFunction(name, func, double.class);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setIntFunction(String, Function.IntGetter)*/
+  public <S> void setDoubleFunction(String name, Function.DoubleBinary<S> func){
+    data.setFunction(name, func, double.class, double.class);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setIntFunction(String, Function.IntGetter)*/
+  public <S> void setDoubleConsumer(String name, Function.DoubleConsumer<S> func){
+    data.setFunction(name, func, double.class);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setIntFunction(String, Function.IntGetter)*/
+  public <S> void setBooleanFunction(String name, Function.BooleanGetter<S> func){
+    data.setFunction(name, func);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setIntFunction(String, Function.IntGetter)*/
+  public <S> void setBooleanFunction(String name, Function.BooleanUnary<S> func){
+    data.setFunction(name, func, boolean.class);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setIntFunction(String, Function.IntGetter)*/
+  public <S> void setBooleanFunction(String name, Function.BooleanBinary<S> func){
+    data.setFunction(name, func, boolean.class, boolean.class);
+    functionChanged();
+  }
+
+  /**@see DynamicClass#setIntFunction(String, Function.IntGetter)*/
+  public <S> void setBooleanConsumer(String name, Function.BooleanConsumer<S> func){
+    data.setFunction(name, func, boolean.class);
+    functionChanged();
   }
 
   /**同{@link DynamicClass#setFunction(String, Function, Class[])}，只是匿名函数无返回值*/
@@ -254,7 +629,8 @@ public class DynamicClass{
    * @param value 常量值
    * @param isConst 此变量是否是一个不可变常量*/
   public void setVariable(String name, Object value, boolean isConst){
-    setVariable(name, () -> value, isConst);
+    varInit.put(name, Initializer.ofValue(value, isConst));
+    declareVariable(name, isConst);
   }
 
   /**函数模式设置变量初始化工厂，行为与{@link DynamicClass#visitClass(Class)}字段部分相同
@@ -264,6 +640,43 @@ public class DynamicClass{
    * @param isConst 此变量是否是一个不可变常量*/
   public void setVariable(String name, Initializer.Producer<?> prov, boolean isConst){
     varInit.put(name, new Initializer<>(prov, isConst));
+    declareVariable(name, isConst);
+  }
+
+  /**函数模式设置延迟初始化的变量，实例化时不会执行工厂函数，工厂函数在每个实例首次读取此变量时才会执行，读取前对变量赋值则工厂函数不会再执行。
+   * <p>适用于初始值构造开销较大而又不一定会被使用的变量，初始化在实例的{@linkplain VariableStorage 变量存储}的锁下进行，多个线程同时首次读取变量时工厂函数也只会执行一次
+   *
+   * @param name 变量名称
+   * @param prov 生产变量初始值的工厂函数
+   * @param isConst 此变量是否是一个不可变常量*/
+  public void setLazyVariable(String name, Initializer.Producer<?> prov, boolean isConst){
+    varInit.put(name, new Initializer<>(prov, isConst, Object.class, true));
+    declareVariable(name, isConst);
+  }
+
+  /**常量模式设置基本类型变量的初始值，变量的值在实例中以基本类型保存，通过{@link DynamicObject#getVarInt(String)}等基本类型访问方法读写时不会装箱
+   *
+   * @param name 变量名称
+   * @param type 变量的基本类型，可以是int，long，float，double或boolean
+   * @param value 初始值，会被转换为变量的类型
+   * @param isConst 此变量是否是一个不可变常量
+   *
+   * @throws IllegalHandleException 若给出的类型不是支持的基本类型*/
+  public void setVariable(String name, Class<?> type, Object value, boolean isConst){
+    setVariable(name, type, () -> value, isConst);
+  }
+
+  /**函数模式设置基本类型变量的初始化工厂，行为与{@link DynamicClass#setVariable(String, Class, Object, boolean)}相同
+   *
+   * @param name 变量名称
+   * @param type 变量的基本类型
+   * @param prov 生产变量初始值的工厂函数
+   * @param isConst 此变量是否是一个不可变常量*/
+  public void setVariable(String name, Class<?> type, Initializer.Producer<?> prov, boolean isConst){
+    PrimitiveVariable var = new PrimitiveVariable(name, type, layout.primitiveSlot(SymbolTable.VARIABLES.id(name)), isConst);
+    varInit.put(name, new Initializer<>(prov, isConst, type));
+    data.putVariable(var);
+    variableChanged();
   }
 
   @SuppressWarnings({"unchecked"})
@@ -275,8 +688,109 @@ public class DynamicClass{
       throw new RuntimeException(e);
     }
 
-    varInit.put(field.getName(), new Initializer<>(value instanceof Initializer.Producer? (Initializer.Producer<? super Object>) value: () -> value,
-        Modifier.isFinal(field.getModifiers())));
+    varInit.put(field.getName(), value instanceof Initializer.Producer
+        ? new Initializer<>((Initializer.Producer<? super Object>) value, Modifier.isFinal(field.getModifiers()))
+        : Initializer.ofValue(value, Modifier.isFinal(field.getModifiers())));
+    declareVariable(field.getName(), Modifier.isFinal(field.getModifiers()));
+  }
+
+  /**以初始化器声明变量，变量的保存方式由初始化器的类型决定，供{@link DynamicClass#getVarInit()}的视图使用*/
+  private Initializer<?> declareInitializer(String name, Initializer<?> init){
+    Initializer<?> old = varInit.put(name, init);
+    if(init.getType().isPrimitive()){
+      data.putVariable(new PrimitiveVariable(name, init.getType(), layout.primitiveSlot(SymbolTable.VARIABLES.id(name)), init.isConst()));
+      variableChanged();
+    }
+    else declareVariable(name, init.isConst());
+
+    return old;
+  }
+
+  /**在类型的池中声明变量，变量在声明时即分配槽位，实例的变量值保存在变量值数组的该槽位上*/
+  private void declareVariable(String name, boolean isConst){
+    data.putVariable(new Variable(name, layout.slot(SymbolTable.VARIABLES.id(name)), isConst));
+    variableChanged();
+  }
+
+  /**变量初始化器的写穿视图，写入与移除都经由动态类型进行，使变量版本递增*/
+  private class VarInitView extends AbstractMap<String, Initializer<?>>{
+    private final Set<Entry<String, Initializer<?>>> entries = new AbstractSet<Entry<String, Initializer<?>>>(){
+      @Override
+      public Iterator<Entry<String, Initializer<?>>> iterator(){
+        Iterator<Entry<String, Initializer<?>>> itr = varInit.entrySet().iterator();
+        return new Iterator<Entry<String, Initializer<?>>>(){
+          @Override
+          public boolean hasNext(){
+            return itr.hasNext();
+          }
+
+          @Override
+          public Entry<String, Initializer<?>> next(){
+            Entry<String, Initializer<?>> entry = itr.next();
+            return new SimpleEntry<String, Initializer<?>>(entry){
+              @Override
+              public Initializer<?> setValue(Initializer<?> value){
+                super.setValue(value);
+                return put(getKey(), value);
+              }
+            };
+          }
+
+          @Override
+          public void remove(){
+            itr.remove();
+            variableChanged();
+          }
+        };
+      }
+
+      @Override
+      public int size(){
+        return varInit.size();
+      }
+    };
+
+    @Override
+    public Set<Entry<String, Initializer<?>>> entrySet(){
+      return entries;
+    }
+
+    @Override
+    public int size(){
+      return varInit.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key){
+      return varInit.containsKey(key);
+    }
+
+    @Override
+    public Initializer<?> get(Object key){
+      return varInit.get(key);
+    }
+
+    @Override
+    public Initializer<?> put(String key, Initializer<?> value){
+      checkFinalized();
+      if(key == null || value == null) throw new NullPointerException();
+
+      return declareInitializer(key, value);
+    }
+
+    @Override
+    public Initializer<?> remove(Object key){
+      if(!varInit.containsKey(key)) return null;
+
+      Initializer<?> res = varInit.remove(key);
+      variableChanged();
+      return res;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Initializer<?>> action){
+      varInit.forEach(action);
+    }
   }
 
   private void checkFinalized(){
@@ -9,8 +9,10 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.lang.invoke.CallSite;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -50,7 +52,7 @@ public abstract class DynamicMaker{
   private static final HashSet<String> INTERNAL_FIELD = new HashSet<>(Arrays.asList(
       "$dynamic_type$",
       "$datapool$",
-      "$varValuePool$",
+      "$varStorage$",
       "$superbasepointer$"
   ));
 
@@ -71,36 +73,79 @@ public abstract class DynamicMaker{
   public static final ClassInfo<ArgumentList> ARG_LIST_TYPE = asType(ArgumentList.class);
   public static final ClassInfo<Function.SuperGetFunction> SUPER_GET_FUNC_TYPE = ClassInfo.asType(Function.SuperGetFunction.class);
   public static final ClassInfo<IFunctionEntry> FUNC_ENTRY_TYPE = ClassInfo.asType(IFunctionEntry.class);
+  public static final ClassInfo<InlineCache> INLINE_CACHE_TYPE = ClassInfo.asType(InlineCache.class);
+  public static final ClassInfo<VariableStorage> VAR_STORAGE_TYPE = ClassInfo.asType(VariableStorage.class);
 
   public static final IMethod<DataPool, DataPool.ReadOnlyPool> GET_READER = DATA_POOL_TYPE.getMethod(READONLY_POOL_TYPE, "getReader", DYNAMIC_OBJECT_TYPE);
   public static final IMethod<HashMap, Object> MAP_GET = HASH_MAP_TYPE.getMethod(OBJECT_TYPE, "get", OBJECT_TYPE);
   public static final IMethod<Integer, Integer> VALUE_OF = INTEGER_CLASS_TYPE.getMethod(INTEGER_CLASS_TYPE, "valueOf", INT_TYPE);
   public static final IMethod<HashMap, Object> MAP_PUT = HASH_MAP_TYPE.getMethod(OBJECT_TYPE, "put", OBJECT_TYPE, OBJECT_TYPE);
+  public static final IMethod<VariableStorage, Void> STORAGE_CSTR = VAR_STORAGE_TYPE.getConstructor(DYNAMIC_CLASS_TYPE);
+  public static final IMethod<VariableStorage, Object> VALUE_GET = VAR_STORAGE_TYPE.getMethod(OBJECT_TYPE, "getValue", INT_TYPE);
+  public static final IMethod<VariableStorage, Void> VALUE_SET = VAR_STORAGE_TYPE.getMethod(VOID_TYPE, "setValue", INT_TYPE, OBJECT_TYPE);
+  public static final IMethod<VariableStorage, Long> BITS_GET = VAR_STORAGE_TYPE.getMethod(LONG_TYPE, "getBits", INT_TYPE);
+  public static final IMethod<VariableStorage, Void> BITS_SET = VAR_STORAGE_TYPE.getMethod(VOID_TYPE, "setBits", INT_TYPE, LONG_TYPE);
   public static final IMethod<DataPool, IVariable> GET_VAR = DATA_POOL_TYPE.getMethod(VAR_TYPE, "getVariable", STRING_TYPE);
   public static final IMethod<DataPool, Void> SET_VAR = DATA_POOL_TYPE.getMethod(ClassInfo.VOID_TYPE, "setVariable", VAR_TYPE);
   public static final IMethod<DataPool, Void> SETFUNC = DATA_POOL_TYPE.getMethod(ClassInfo.VOID_TYPE, "setFunction", STRING_TYPE, FUNCTION_TYPE, ClassInfo.CLASS_TYPE.asArray());
   public static final IMethod<DataPool, Void> SETFUNC2 = DATA_POOL_TYPE.getMethod(ClassInfo.VOID_TYPE, "setFunction", STRING_TYPE, SUPER_GET_FUNC_TYPE, ClassInfo.CLASS_TYPE.asArray());
   public static final IMethod<DataPool, IFunctionEntry> SELECT = DATA_POOL_TYPE.getMethod(FUNC_ENTRY_TYPE, "select", STRING_TYPE, FUNCTION_TYPE_TYPE);
+  public static final IMethod<DataPool, Boolean> POOL_OVERRIDDEN = DATA_POOL_TYPE.getMethod(BOOLEAN_TYPE, "isOverridden", INT_TYPE);
   public static final IMethod<DataPool, Void> INIT = DATA_POOL_TYPE.getMethod(VOID_TYPE, "init", DYNAMIC_OBJECT_TYPE, OBJECT_TYPE.asArray());
   public static final IMethod<DynamicObject, Object> INVOKE = DYNAMIC_OBJECT_TYPE.getMethod(OBJECT_TYPE, "invokeFunc", FUNCTION_TYPE_TYPE, STRING_TYPE, OBJECT_TYPE.asArray());
   public static final IMethod<ArgumentList, Object[]> GET_LIST = ARG_LIST_TYPE.getMethod(OBJECT_TYPE.asArray(), "getList", INT_TYPE);
   public static final IMethod<ArgumentList, Void> RECYCLE_LIST = ARG_LIST_TYPE.getMethod(VOID_TYPE, "recycleList", OBJECT_TYPE.asArray());
+  public static final IMethod<InlineCache, Void> CACHE_CSTR = INLINE_CACHE_TYPE.getConstructor(STRING_TYPE, FUNCTION_TYPE_TYPE);
+  public static final IMethod<InlineCache, Object> CACHE_INVOKE = INLINE_CACHE_TYPE.getMethod(OBJECT_TYPE, "invoke", DYNAMIC_OBJECT_TYPE, DATA_POOL_TYPE, OBJECT_TYPE.asArray());
+  public static final IMethod<InlineCache, Boolean> CACHE_OVERRIDDEN = INLINE_CACHE_TYPE.getMethod(BOOLEAN_TYPE, "isOverridden", DATA_POOL_TYPE);
+  public static final IMethod<InlineCache, Object>[] CACHE_INVOKE_ARITY = arityInvokes();
+  public static final IMethod<FunctionCallSite, CallSite> CALL_SITE_BOOTSTRAP = asType(FunctionCallSite.class).getMethod(asType(CallSite.class), "bootstrap", asType(MethodHandles.Lookup.class), STRING_TYPE, asType(MethodType.class));
+
+  public static final IMethod<MethodHandles, MethodHandles.Lookup> LOOKUP = asType(MethodHandles.class).getMethod(asType(MethodHandles.Lookup.class), "lookup");
+
+  public static final ClassInfo<ProxyMaker> PROXY_MAKER_TYPE = asType(ProxyMaker.class);
+  public static final ClassInfo<ProxyMaker.Caller> CALLER_TYPE = asType(ProxyMaker.Caller.class);
+  public static final IMethod<ProxyMaker, Object> PROXY_HANDLE = PROXY_MAKER_TYPE.getMethod(OBJECT_TYPE, "handle", DYNAMIC_OBJECT_TYPE, CALLER_TYPE, OBJECT_TYPE.asArray());
+  public static final IMethod<ProxyMaker, Object>[] PROXY_HANDLE_ARITY = arityHandles();
+  public static final IMethod<ProxyMaker, ProxyMaker.Caller> DIRECT_CALLER = PROXY_MAKER_TYPE.getMethod(CALLER_TYPE, "directCaller", INT_TYPE, STRING_TYPE, FUNCTION_TYPE_TYPE);
 
   private static final MethodHandles.Lookup LOOKUP_INST = MethodHandles.lookup();
-  private static final Map<String, Set<FunctionType>> OVERRIDES = new HashMap<>();
-  private static final Set<Class<?>> INTERFACE_TEMP = new HashSet<>();
+  /**动态委托类型中保存自身查找对象的私有静态字段的名称，超类方法入口的句柄以此查找对象获取*/
+  private static final String LOOKUP_FIELD = "$lookup$";
+  private static final ClassValue<MethodHandle[]> SUPER_HANDLES = new ClassValue<MethodHandle[]>(){
+    @Override
+    protected MethodHandle[] computeValue(Class<?> type){
+      return makeSuperHandles(type);
+    }
+  };
   private static final Class[] EMPTY_CLASSES = new Class[0];
   public static final ILocal[] LOCALS_EMP = new ILocal[0];
   public static final HashSet<FunctionType> EMP_MAP = new HashSet<>();
   private final JavaHandleHelper helper;
+  private final boolean invokeDynamic;
 
   private final HashMap<ClassImplements<?>, Class<?>> classPool = new HashMap<>();
+  /**直接代理类型池，以基类与接口及过滤器选中的方法签名区分类型，过滤器实例本身不会被保存*/
+  private final HashMap<ClassImplements<?>, HashMap<String, Class<?>>> proxyClassPool = new HashMap<>();
+  /**过滤器到已获取的代理类型的弱引用缓存，避免同一过滤器每次获取代理类型时重新选择方法，由{@link DynamicMaker#proxyClassPool}的锁保护*/
+  private final WeakHashMap<ProxyMaker.MethodFilter, HashMap<ClassImplements<?>, Class<?>>> proxyFilterCache = new WeakHashMap<>();
+  /**各基类与接口组合已分配的直接代理类型序号，用于为选中不同方法的代理类型生成互不相同的类名，由{@link DynamicMaker#proxyClassPool}的锁保护*/
+  private final HashMap<ClassImplements<?>, Integer> proxySerials = new HashMap<>();
   private final HashMap<Class<?>, DataPool> classPoolsMap = new HashMap<>();
   private final HashMap<Class<?>, HashMap<FunctionType, MethodHandle>> constructors = new HashMap<>();
 
   /**创建一个实例，并传入其要使用的{@linkplain JavaHandleHelper java行为支持器}，子类引用此构造器可能直接设置默认的行为支持器而无需外部传入*/
   protected DynamicMaker(JavaHandleHelper helper){
+    this(helper, false);
+  }
+
+  /**创建一个实例，并指定委托方法的生成模式
+   *
+   * @param helper 此工厂使用的java行为支持器
+   * @param invokeDynamic 为真时委托方法以invokedynamic指令经由{@link FunctionCallSite}分派函数，否则使用{@link InlineCache}分派*/
+  protected DynamicMaker(JavaHandleHelper helper, boolean invokeDynamic){
     this.helper = helper;
+    this.invokeDynamic = invokeDynamic;
   }
 
   /**获取默认的动态类型工厂，工厂具备基于{@link ASMGenerator}与适用于<i>HotSpot JVM</i>运行时的{@link JavaHandleHelper}进行的实现。
@@ -112,14 +157,29 @@ public abstract class DynamicMaker{
    * </ul>
    * 若有范围外的需求，可按需要进行实现*/
   public static DynamicMaker getDefault(){
+    return getDefault(false);
+  }
+
+  /**获取默认的动态类型工厂，并指定委托方法的生成模式。
+   * <p>在invokedynamic模式下，委托方法的调用点会被直接链接到选中的函数上，在函数稳定时即时编译器可以内联函数，
+   * 任何函数的变更都会通过{@link java.lang.invoke.SwitchPoint}使链接失效，因此频繁变更函数的情况下此模式反而会产生大量的重编译开销
+   *
+   * @param invokeDynamic 是否以invokedynamic模式生成委托方法
+   * @see DynamicMaker#getDefault()*/
+  public static DynamicMaker getDefault(boolean invokeDynamic){
     BaseClassLoader loader = new BaseClassLoader(DynamicMaker.class.getClassLoader());
     ASMGenerator generator = new ASMGenerator(loader, Opcodes.V1_8);
 
-    return new DynamicMaker(acc -> acc.setAccessible(true)){
+    return new DynamicMaker(acc -> acc.setAccessible(true), invokeDynamic){
       @Override
       protected <T> Class<? extends T> generateClass(Class<T> baseClass, Class<?>[] interfaces){
         return makeClassInfo(baseClass, interfaces).generate(generator);
       }
+
+      @Override
+      protected <T> Class<? extends T> generateProxyClass(Class<T> baseClass, Class<?>[] interfaces, ProxyMaker.MethodFilter filter){
+        return makeProxyClassInfo(baseClass, interfaces, filter).generate(generator);
+      }
     };
   }
 
@@ -164,27 +224,55 @@ public abstract class DynamicMaker{
    * @return 构造出的动态实例
    *
    * @throws RuntimeException 若构造函数实参无法匹配到相应的构造器或者存在其他异常*/
-  @SuppressWarnings("unchecked")
   public <T> DynamicObject<T> newInstance(Class<T> base, Class<?>[] interfaces, DynamicClass dynamicClass, Object... args){
     checkBase(base);
 
     Class<? extends T> clazz = getDynamicBase(base, interfaces);
-    try{
-      List<Object> argsLis = new ArrayList<>(Arrays.asList(
-          dynamicClass,
-          genPool(clazz, dynamicClass),
-          classPoolsMap.get(clazz)
-      ));
-      argsLis.addAll(Arrays.asList(args));
+    List<Object> argsLis = new ArrayList<>(Arrays.asList(
+        dynamicClass,
+        genPool(clazz, dynamicClass),
+        classPoolsMap.get(clazz)
+    ));
+    argsLis.addAll(Arrays.asList(args));
+
+    return construct(clazz, argsLis, args);
+  }
+
+  /**以直接代理模式构造代理实例，实例的类型由{@link DynamicMaker#getProxyBase(Class, Class[], ProxyMaker.MethodFilter)}生成，被代理的方法在调用时直接转入给出的代理生成器，
+   * 而不经过动态对象的函数选择，通常应当由{@link ProxyMaker}调用此方法
+   *
+   * @param proxyMaker 处理被代理方法调用的代理生成器
+   * @param base 执行委托的java类型
+   * @param interfaces 实例实现的接口列表
+   * @param dynamicClass 用于实例化的动态类型
+   * @param args 构造函数实参
+   * @return 构造出的代理实例
+   *
+   * @throws RuntimeException 若构造函数实参无法匹配到相应的构造器或者存在其他异常*/
+  protected <T> DynamicObject<T> newProxyInstance(ProxyMaker proxyMaker, Class<T> base, Class<?>[] interfaces, DynamicClass dynamicClass, Object... args){
+    checkBase(base);
 
+    Class<? extends T> clazz = getProxyBase(base, interfaces, proxyMaker.filter);
+    List<Object> argsLis = new ArrayList<>(Arrays.asList(
+        proxyMaker,
+        dynamicClass,
+        genPool(clazz, dynamicClass),
+        classPoolsMap.get(clazz)
+    ));
+    argsLis.addAll(Arrays.asList(args));
+
+    return construct(clazz, argsLis, args);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> DynamicObject<T> construct(Class<? extends T> clazz, List<Object> argsLis, Object[] args){
+    try{
       Constructor<?> cstr = null;
       for(Constructor<?> constructor: clazz.getDeclaredConstructors()){
-        FunctionType t;
-        if((t = FunctionType.from(constructor)).match(argsLis.toArray())){
+        if(FunctionType.from(constructor).match(argsLis.toArray())){
           cstr = constructor;
           break;
         }
-        t.recycle();
       }
       if(cstr == null)
         throw new NoSuchMethodError("no matched constructor found with parameter " + Arrays.toString(args));
@@ -199,7 +287,6 @@ public abstract class DynamicMaker{
           throw new RuntimeException(e);
         }
       }).invokeWithArguments(argsLis.toArray());
-      type.recycle();
 
       return inst;
     }catch(Throwable e){
@@ -228,7 +315,7 @@ public abstract class DynamicMaker{
   protected <T> DataPool genPool(Class<? extends T> base, DynamicClass dynamicClass){
     DataPool basePool = classPoolsMap.computeIfAbsent(base, clazz -> {
       AtomicBoolean immutable = new AtomicBoolean();
-      DataPool res = new DataPool(null){
+      DataPool res = new DataPool(null, true){
         @Override
         public void setFunction(String name, Function<?, ?> function, Class<?>... argsType){
           if(immutable.get())
@@ -252,11 +339,10 @@ public abstract class DynamicMaker{
           for(Method method: curr.getDeclaredMethods()){
             CallSuperMethod callSuper = method.getAnnotation(CallSuperMethod.class);
             if(callSuper != null){
-              String name = callSuper.srcMethod();
-              String signature = FunctionType.signature(name, method.getParameterTypes());
+              MethodHandle handle = getSuperMethodHandle(clazz, callSuper.index());
               res.setFunction(
-                  name,
-                  (self, args) -> ((SuperInvoker) self).invokeSuper(signature, args.args()),
+                  callSuper.srcMethod(),
+                  handle == null? superFunction(callSuper.index(), method.getParameterCount()): new SuperMethodFunction(handle),
                   method.getParameterTypes()
               );
             }
@@ -285,13 +371,92 @@ public abstract class DynamicMaker{
     return INTERNAL_FIELD.contains(name);
   }
 
-  /**根据委托基类和实现的接口获取生成的动态类型实例的类型，类型会生成并放入池，下一次获取会直接从池中取出该类型
+  /**根据委托基类和实现的接口获取生成的动态类型实例的类型，类型会生成并放入池，下一次获取会直接从池中取出该类型。
+   * 类型池的访问与类型的生成都持有类型池的锁，因此此方法是线程安全的
    *
    * @param base 委托的基类
    * @param interfaces 需要实现的接口列表*/
   @SuppressWarnings("unchecked")
   protected <T> Class<? extends T> getDynamicBase(Class<T> base, Class<?>[] interfaces){
-    return (Class<? extends T>) classPool.computeIfAbsent(new ClassImplements<>(base, interfaces), e -> generateClass(base, interfaces));
+    synchronized(classPool){
+      return (Class<? extends T>) classPool.computeIfAbsent(new ClassImplements<>(base, interfaces), e -> generateClass(base, interfaces));
+    }
+  }
+
+  /**根据委托基类和实现的接口获取直接代理模式的代理类型，与{@link DynamicMaker#getDynamicBase(Class, Class[])}相同，类型会生成并放入池，
+   * 代理类型以过滤器在基类与接口上选中的方法区分，选中相同方法的过滤器共用同一个代理类型。
+   * <p>此方法是线程安全的：代理类型池的访问持有代理类型池的锁，生成代理类型时还会持有{@link DynamicMaker#getDynamicBase(Class, Class[])}使用的类型池的锁，
+   * 因此同一工厂中类型的生成不会并发地使用类型生成器，生成过程中记录方法与接口的状态也都是每次生成的局部状态
+   *
+   * @param base 委托的基类
+   * @param interfaces 需要实现的接口列表
+   * @param filter 选择被代理的方法的过滤器*/
+  @SuppressWarnings("unchecked")
+  protected <T> Class<? extends T> getProxyBase(Class<T> base, Class<?>[] interfaces, ProxyMaker.MethodFilter filter){
+    ProxyMaker.MethodFilter f = filter == null? ProxyMaker.MethodFilter.ALL: filter;
+    ClassImplements<T> impl = new ClassImplements<>(base, interfaces);
+
+    synchronized(proxyClassPool){
+      HashMap<ClassImplements<?>, Class<?>> cached = proxyFilterCache.computeIfAbsent(f, e -> new HashMap<>());
+      Class<?> res = cached.get(impl);
+      if(res == null){
+        res = proxyClassPool.computeIfAbsent(impl, e -> new HashMap<>())
+            .computeIfAbsent(proxySelection(base, interfaces, f), e -> {
+              synchronized(classPool){
+                return generateProxyClass(base, interfaces, f);
+              }
+            });
+        cached.put(impl, res);
+      }
+      return (Class<? extends T>) res;
+    }
+  }
+
+  //每个代理类型描述都取得一个新的序号，类名不会与此前生成的代理类型重复，生成器按类名复用已定义的类型时不会错误地取得选中其他方法的代理类型
+  private int nextProxySerial(Class<?> base, Class<?>[] interfaces){
+    synchronized(proxyClassPool){
+      return proxySerials.merge(new ClassImplements<>(base, interfaces), 1, Integer::sum) - 1;
+    }
+  }
+
+  //过滤器选中的非抽象方法的签名按顺序连接，作为区分直接代理类型的依据，方法的遍历顺序与生成类型时一致，抽象方法总是被代理，不计入其中
+  private static String proxySelection(Class<?> baseClass, Class<?>[] interfaces, ProxyMaker.MethodFilter filter){
+    TreeSet<String> selected = new TreeSet<>();
+    HashSet<String> visited = new HashSet<>(), finals = new HashSet<>();
+    HashSet<Class<?>> interfaceSet = new HashSet<>();
+    Stack<Class<?>> interfaceStack = new Stack<>();
+
+    for(Class<?> i: interfaces){
+      if(interfaceSet.add(i)) interfaceStack.push(i);
+    }
+
+    Class<?> curr = baseClass;
+    while(curr != null || !interfaceStack.empty()){
+      if(curr != null){
+        for(Class<?> i: curr.getInterfaces()){
+          if(interfaceSet.add(i)) interfaceStack.push(i);
+        }
+      }
+      else curr = interfaceStack.pop();
+
+      for(Method method: curr.getDeclaredMethods()){
+        if(Modifier.isStatic(method.getModifiers())) continue;
+        if((method.getModifiers() & (Modifier.PUBLIC | Modifier.PROTECTED)) == 0) continue;
+
+        String signature = FunctionType.signature(method);
+        if(Modifier.isFinal(method.getModifiers())){
+          finals.add(signature);
+          continue;
+        }
+
+        if(!visited.add(signature) || finals.contains(signature)) continue;
+        if(!Modifier.isAbstract(method.getModifiers()) && filter.intercept(method)) selected.add(signature);
+      }
+
+      curr = curr.isInterface()? null: curr.getSuperclass();
+    }
+
+    return String.join(";", selected);
   }
 
   /**由基类与接口列表建立动态类的打包名称，打包名称具有唯一性（或者足够高的离散性，不应出现频繁的碰撞）和不变性
@@ -331,6 +496,13 @@ public abstract class DynamicMaker{
         HASH_MAP_TYPE,
         null
     );
+    FieldInfo<MethodHandles.Lookup> selfLookupField = classInfo.declareField(
+        Modifier.PRIVATE | Modifier.STATIC | Modifier.FINAL,
+        LOOKUP_FIELD,
+        asType(MethodHandles.Lookup.class),
+        null
+    );
+    FieldInfo<DataPool> dataPool = asType(baseClass).getField(DATA_POOL_TYPE, "$datapool$");
 
     CodeBlock<Void> clinit = classInfo.getClinitBlock();
     ILocal<HashMap> caseIndex = clinit.local(HASH_MAP_TYPE);
@@ -339,16 +511,26 @@ public abstract class DynamicMaker{
         caseIndex
     );
     clinit.assign(null, caseIndex, methodIndex);
+
+    // $lookup$ = MethodHandles.lookup();
+    ILocal<MethodHandles.Lookup> selfLookup = clinit.local(asType(MethodHandles.Lookup.class));
+    clinit.invoke(null, LOOKUP, selfLookup);
+    clinit.assign(null, selfLookup, selfLookupField);
     ILocal<Integer> tempInt = clinit.local(INT_TYPE);
     ILocal<Integer> tempIndexWrap = clinit.local(INTEGER_CLASS_TYPE);
     ILocal<String> tempSign = clinit.local(STRING_TYPE);
 
     ILocal<FunctionType> tempType = clinit.local(FUNCTION_TYPE_TYPE);
+    ILocal<InlineCache> tempCache = clinit.local(INLINE_CACHE_TYPE);
+    ILocal<String> tempName = clinit.local(STRING_TYPE);
     ILocal<Class> tempClass = clinit.local(CLASS_TYPE);
     ILocal<Class[]> tempClasses = clinit.local(CLASS_TYPE.asArray());
 
 
     HashMap<Method, Integer> callSuperCaseMap = new HashMap<>();
+    LinkedHashMap<Method, IMethod<?, ?>> superCallers = new LinkedHashMap<>();
+    //超类方法入口的索引在整个动态委托类型的继承结构中唯一，本类的索引排在所有已委托的超类之后
+    int indexBase = superIndexCount(baseClass);
 
     // public <init>(*parameters*){
     //   super(*parameters*);
@@ -371,11 +553,12 @@ public abstract class DynamicMaker{
     {//interfaces
       Stack<Class<?>> interfaceStack = new Stack<>();
       Class<?> curr = baseClass;
-      INTERFACE_TEMP.clear();
+      HashSet<Class<?>> interfaceTemp = new HashSet<>();
+      HashMap<String, Set<FunctionType>> overrides = new HashMap<>();
       while(curr != null || !interfaceStack.empty()){
         if(curr != null){
           for(Class<?> i: curr.getInterfaces()){
-            if(INTERFACE_TEMP.add(i)) interfaceStack.push(i);
+            if(interfaceTemp.add(i)) interfaceStack.push(i);
           }
         }else curr = interfaceStack.pop();
 
@@ -389,7 +572,7 @@ public abstract class DynamicMaker{
       while(!interfaceStack.empty()){
         Class<?> interfaceCurr = interfaceStack.pop();
         for(Class<?> i: interfaceCurr.getInterfaces()){
-          if(INTERFACE_TEMP.add(i)) interfaceStack.push(i);
+          if(interfaceTemp.add(i)) interfaceStack.push(i);
         }
 
         for(Method method: interfaceCurr.getMethods()){
@@ -401,27 +584,27 @@ public abstract class DynamicMaker{
           String methodName = method.getName();
           ClassInfo<?> returnType = asType(method.getReturnType());
 
-          if(OVERRIDES.computeIfAbsent(methodName, e -> new HashSet<>()).add(FunctionType.from(method))){
+          if(overrides.computeIfAbsent(methodName, e -> new HashSet<>()).add(FunctionType.from(method))){
             superMethod = !Modifier.isAbstract(method.getModifiers()) && method.isDefault()? typeClass.getMethod(
                 returnType,
                 methodName,
                 Arrays.stream(method.getParameterTypes()).map(ClassInfo::asType).toArray(ClassInfo[]::new)
             ): null;
 
-            callSuperCaseMap.put(method, callSuperCaseMap.size());
+            callSuperCaseMap.put(method, indexBase + callSuperCaseMap.size());
 
             String typeF = methodName + "$" + FunctionType.typeNameHash(method.getParameterTypes());
-            FieldInfo<FunctionType> funType = classInfo.declareField(
+            FieldInfo<InlineCache> funCache = invokeDynamic? null: classInfo.declareField(
                 Modifier.PRIVATE | Modifier.STATIC | Modifier.FINAL,
                 typeF,
-                FUNCTION_TYPE_TYPE,
+                INLINE_CACHE_TYPE,
                 null
             );
 
-            // private static final FunctionType FUNCTION_TYPE$*name*;
+            // private static final InlineCache FUNCTION_CACHE$*name*;
             // static {
             //   ...
-            //   FUNCTION_TYPE$*signature* = FunctionType.as(*paramTypes*);
+            //   FUNCTION_CACHE$*signature* = new InlineCache("*name*", FunctionType.inst(*paramTypes*));
             //   methodIndex.put(*signature*, *index*);
             //   ...
             // }
@@ -448,7 +631,11 @@ public abstract class DynamicMaker{
                   tempClasses
               );
 
-              clinit.assign(null, tempType, funType);
+              if(funCache != null){
+                clinit.loadConstant(tempName, methodName);
+                clinit.newInstance(CACHE_CSTR, tempCache, tempName, tempType);
+                clinit.assign(null, tempCache, funCache);
+              }
 
               clinit.loadConstant(tempSign, signature);
               clinit.loadConstant(tempInt, callSuperCaseMap.get(method));
@@ -469,52 +656,10 @@ public abstract class DynamicMaker{
               );
             }
 
-            // public *returnType* *name*(*parameters*){
-            //   *[return]* this.invokeFunc(FUNCTION_TYPE$*signature* ,"*name*", parameters);
-            // }
-            {
-              CodeBlock<?> code = classInfo.declareMethod(
-                  Modifier.PUBLIC,
-                  methodName,
-                  returnType,
-                  Parameter.asParameter(method.getParameters())
-              );
-
-              ILocal<FunctionType> type = code.local(FUNCTION_TYPE_TYPE);
-              ILocal<String> met = code.local(STRING_TYPE);
-
-              code.assign(null, funType, type);
-
-              code.loadConstant(met, method.getName());
-
-              ILocal<Object[]> argList = code.local(OBJECT_TYPE.asArray());
-              ILocal<Integer> length = code.local(INT_TYPE);
-              code.loadConstant(length, method.getParameterCount());
-              code.invoke(null, GET_LIST, argList, length);
-
-              if(method.getParameterCount() > 0){
-                ILocal<Integer> index = code.local(INT_TYPE);
-                for(int i = 0; i < code.getParamList().size(); i++){
-                  code.loadConstant(index, i);
-                  code.arrayPut(argList, index, code.getRealParam(i));
-                }
-              }
-
-              if(returnType != VOID_TYPE){
-                ILocal res = code.local(returnType);
-                code.invoke(code.getThis(), INVOKE, res, type, met, argList);
-                code.invoke(null, RECYCLE_LIST, null, argList);
-                code.returnValue(res);
-              }
-              else{
-                code.invoke(code.getThis(), INVOKE, null, type, met, argList);
-                code.invoke(null, RECYCLE_LIST, null, argList);
-              }
-            }
-
             // private final *returnType* *name*$super(*parameters*){
             //   *[return]* super.*name*(*parameters*);
             // }
+            IMethod<?, ?> superCaller = null;
             if(superMethod != null){
               CodeBlock<?> code = classInfo.declareMethod(
                   Modifier.PRIVATE | Modifier.FINAL,
@@ -533,7 +678,29 @@ public abstract class DynamicMaker{
               AnnotationType<CallSuperMethod> callSuper = AnnotationType.asAnnotationType(CallSuperMethod.class);
               HashMap<String, Object> map = new HashMap<>();
               map.put("srcMethod", methodName);
+              map.put("index", callSuperCaseMap.get(method));
               callSuper.annotateTo(code.owner(), map);
+
+              superCaller = code.owner();
+              superCallers.put(method, superCaller);
+            }
+
+            // public *returnType* *name*(*parameters*){
+            //   if(!FUNCTION_CACHE$*signature*.isOverridden(this.$datapool$)) *[return]* this.*name*$super(parameters);
+            //   *[return]* FUNCTION_CACHE$*signature*.invoke(this, this.$datapool$, parameters);
+            //   或者
+            //   *[return]* invokedynamic *name*(this, parameters) [FunctionCallSite.bootstrap];
+            // }
+            {
+              CodeBlock<?> code = classInfo.declareMethod(
+                  Modifier.PUBLIC,
+                  methodName,
+                  returnType,
+                  Parameter.asParameter(method.getParameters())
+              );
+
+              if(invokeDynamic) makeDynamicInvokeBody(code);
+              else makeInvokeBody(code, method, funCache, dataPool, superCaller);
             }
           }
         }
@@ -596,9 +763,11 @@ public abstract class DynamicMaker{
       ISwitch<Integer> iSwitch = code.switchDef(index, end);
 
       ILocal<Object[]> args = code.getRealParam(1);
-      makeSwitch(callSuperCaseMap, code, obj, end, iSwitch, args);
+      makeSwitch(callSuperCaseMap, superCallers, code, obj, end, iSwitch, args);
     }
 
+    makeIndexedSuper(classInfo, callSuperCaseMap, superCallers, true);
+
     return classInfo;
   }
 
@@ -610,11 +779,34 @@ public abstract class DynamicMaker{
    * @param baseClass 委托基类
    * @param interfaces 实现的接口列表
    * @return 完成了所有必要描述的类型标识*/
-  @SuppressWarnings({"unchecked", "rawtypes"})
   protected <T> ClassInfo<? extends T> makeClassInfo(Class<T> baseClass, Class<?>[] interfaces){
     if(baseClass.getAnnotation(DynamicType.class) != null)
       return makeClassInfoOnDynmaic(baseClass, interfaces);
 
+    return makeClassInfo(baseClass, interfaces, null);
+  }
+
+  /**创建直接代理模式的代理类型的类型标识，与{@link DynamicMaker#makeClassInfo(Class, Class[])}一致，但被重写的方法不经过动态对象的函数选择，
+   * 而是以类型初始化时构建的{@linkplain ProxyMaker#directCaller(int, String, FunctionType) 调用封装器}常量直接调用实例的代理生成器，
+   * 代理生成器会在构造函数的首个参数传入。
+   * <p>未被过滤器选中的非抽象方法不会被重写，调用时直接执行基类的实现，不进行任何分派。
+   * <p>直接代理模式的代理类型不能以已委托的动态类型为基类
+   *
+   * @param baseClass 委托基类
+   * @param interfaces 实现的接口列表
+   * @param filter 选择被代理的方法的过滤器
+   * @return 完成了所有必要描述的类型标识*/
+  protected <T> ClassInfo<? extends T> makeProxyClassInfo(Class<T> baseClass, Class<?>[] interfaces, ProxyMaker.MethodFilter filter){
+    if(baseClass.getAnnotation(DynamicType.class) != null)
+      throw new IllegalHandleException("direct proxy cannot derive from a dynamic type");
+
+    return makeClassInfo(baseClass, interfaces, filter == null? ProxyMaker.MethodFilter.ALL: filter);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private <T> ClassInfo<? extends T> makeClassInfo(Class<T> baseClass, Class<?>[] interfaces, ProxyMaker.MethodFilter filter){
+    boolean proxy = filter != null;
+
     ArrayList<ClassInfo<?>> inter = new ArrayList<>(interfaces.length + 1);
     inter.add(asType(DynamicObject.class));
     inter.add(asType(SuperInvoker.class));
@@ -625,7 +817,7 @@ public abstract class DynamicMaker{
 
     ClassInfo<? extends T> classInfo = new ClassInfo<>(
         Modifier.PUBLIC,
-        getDynamicName(baseClass, interfaces),
+        getDynamicName(baseClass, interfaces) + (proxy? "$proxy$" + nextProxySerial(baseClass, interfaces): ""),
         asType(baseClass),
         inter.toArray(new ClassInfo[0])
     );
@@ -637,15 +829,15 @@ public abstract class DynamicMaker{
         null
     );
     FieldInfo<DataPool> dataPool = classInfo.declareField(
-        Modifier.PRIVATE | Modifier.FINAL,
+        Modifier.PROTECTED | Modifier.FINAL,
         "$datapool$",
         DATA_POOL_TYPE,
         null
     );
-    FieldInfo<HashMap<String, Object>> varPool = (FieldInfo) classInfo.declareField(
+    FieldInfo<VariableStorage> varStorage = classInfo.declareField(
         Modifier.PRIVATE | Modifier.FINAL,
-        "$varValuePool$",
-        HASH_MAP_TYPE,
+        "$varStorage$",
+        VAR_STORAGE_TYPE,
         null
     );
     FieldInfo<DataPool.ReadOnlyPool> basePoolPointer = classInfo.declareField(
@@ -660,6 +852,18 @@ public abstract class DynamicMaker{
         HASH_MAP_TYPE,
         null
     );
+    FieldInfo<MethodHandles.Lookup> selfLookupField = classInfo.declareField(
+        Modifier.PRIVATE | Modifier.STATIC | Modifier.FINAL,
+        LOOKUP_FIELD,
+        asType(MethodHandles.Lookup.class),
+        null
+    );
+    FieldInfo<ProxyMaker> proxyMaker = proxy? classInfo.declareField(
+        Modifier.PRIVATE | Modifier.FINAL,
+        "$proxy_maker$",
+        PROXY_MAKER_TYPE,
+        null
+    ): null;
 
     CodeBlock<Void> clinit = classInfo.getClinitBlock();
     ILocal<HashMap> caseIndex = clinit.local(HASH_MAP_TYPE);
@@ -668,20 +872,30 @@ public abstract class DynamicMaker{
         caseIndex
     );
     clinit.assign(null, caseIndex, methodIndex);
+
+    // $lookup$ = MethodHandles.lookup();
+    ILocal<MethodHandles.Lookup> selfLookup = clinit.local(asType(MethodHandles.Lookup.class));
+    clinit.invoke(null, LOOKUP, selfLookup);
+    clinit.assign(null, selfLookup, selfLookupField);
     ILocal<Integer> tempInt = clinit.local(INT_TYPE);
     ILocal<Integer> tempIndexWrap = clinit.local(INTEGER_CLASS_TYPE);
     ILocal<String> tempSign = clinit.local(STRING_TYPE);
 
     ILocal<FunctionType> tempType = clinit.local(FUNCTION_TYPE_TYPE);
+    ILocal<InlineCache> tempCache = clinit.local(INLINE_CACHE_TYPE);
+    ILocal<ProxyMaker.Caller> tempCaller = clinit.local(CALLER_TYPE);
+    ILocal<String> tempName = clinit.local(STRING_TYPE);
     ILocal<Class> tempClass = clinit.local(CLASS_TYPE);
     ILocal<Class[]> tempClasses = clinit.local(CLASS_TYPE.asArray());
 
     HashMap<Method, Integer> callSuperCaseMap = new HashMap<>();
+    LinkedHashMap<Method, IMethod<?, ?>> superCallers = new LinkedHashMap<>();
 
-    // public <init>(DynamicClass $dyC$, DataPool $datP$, DataPool.ReadOnlyPool $basePool$, *parameters*){
+    // public <init>([ProxyMaker $proxy$,] DynamicClass $dyC$, DataPool $datP$, DataPool.ReadOnlyPool $basePool$, *parameters*){
+    //   [this.$proxy_maker$ = $proxy$;]
     //   this.$dynamic_type$ = $dyC$;
     //   this.$datapool$ = $datP$;
-    //   this.$varValuePool$ = new HashMap<>();
+    //   this.$varStorage$ = new VariableStorage($dyC$);
     //   super(*parameters*);
     //   this.$superbasepointer$ = $datapool$.getReader(this);
     //
@@ -691,11 +905,14 @@ public abstract class DynamicMaker{
       if((cstr.getModifiers() & (Modifier.PUBLIC | Modifier.PROTECTED)) == 0) continue;
       if(Modifier.isFinal(cstr.getModifiers())) continue;
 
-      List<Parameter<?>> params = new ArrayList<>(Arrays.asList(Parameter.as(
+      List<Parameter<?>> params = new ArrayList<>();
+      if(proxy) params.addAll(Arrays.asList(Parameter.as(0, ProxyMaker.class, "$proxy$")));
+      params.addAll(Arrays.asList(Parameter.as(
           0, DynamicClass.class, "$dyc$",
           0, DataPool.class, "$datP$",
           0, DataPool.class, "$basePool$"
       )));
+      int offset = params.size();
       List<Parameter<?>> superParams = Arrays.asList(Parameter.asParameter(cstr.getParameters()));
       params.addAll(superParams);
 
@@ -705,19 +922,24 @@ public abstract class DynamicMaker{
       List<ILocal<?>> l = code.getParamList();
       ILocal<?> self = code.getThis();
 
-      ILocal<DynamicClass> dyC = code.getParam(1);
-      ILocal<DataPool> datP = code.getParam(2);
+      if(proxy){
+        ILocal<ProxyMaker> proxyM = code.getParam(1);
+        code.assign(self, proxyM, proxyMaker);
+      }
+
+      ILocal<DynamicClass> dyC = code.getParam(offset - 2);
+      ILocal<DataPool> datP = code.getParam(offset - 1);
       code.assign(self, dyC, dyType);
       code.assign(self, datP, dataPool);
 
-      ILocal<HashMap> map = code.local(HASH_MAP_TYPE);
-      code.newInstance(HASH_MAP_TYPE.getConstructor(), map);
-      code.assign(self, map, varPool);
+      ILocal<VariableStorage> storage = code.local(VAR_STORAGE_TYPE);
+      code.newInstance(STORAGE_CSTR, storage, dyC);
+      code.assign(self, storage, varStorage);
 
-      code.invokeSuper(self, constructor, null, l.subList(3, l.size()).toArray(LOCALS_EMP));
+      code.invokeSuper(self, constructor, null, l.subList(offset, l.size()).toArray(LOCALS_EMP));
 
       ILocal<DataPool.ReadOnlyPool> base = code.local(READONLY_POOL_TYPE);
-      code.invoke(code.getParam(3), GET_READER, base, self);
+      code.invoke(code.getParam(offset), GET_READER, base, self);
       code.assign(self, base, basePoolPointer);
 
       ILocal<Object[]> argList = code.local(OBJECT_TYPE.asArray());
@@ -726,8 +948,8 @@ public abstract class DynamicMaker{
       code.invoke(null, GET_LIST, argList, length);
       if(cstr.getParameterCount() > 0){
         ILocal<Integer> index = code.local(INT_TYPE);
-        for(int i = 3; i < code.getParamList().size(); i++){
-          code.loadConstant(index, i - 3);
+        for(int i = offset; i < code.getParamList().size(); i++){
+          code.loadConstant(index, i - offset);
           code.arrayPut(argList, index, code.getRealParam(i));
         }
       }
@@ -736,13 +958,18 @@ public abstract class DynamicMaker{
       code.invoke(null, RECYCLE_LIST, null, argList);
     }
 
-    OVERRIDES.clear();
-    INTERFACE_TEMP.clear();
+    HashSet<Class<?>> interfaceTemp = new HashSet<>();
+    HashMap<String, Set<FunctionType>> overrides = new HashMap<>();
 
     Stack<Class<?>> interfaceStack = new Stack<>();
     HashMap<String, HashSet<FunctionType>> overrideMethods = new HashMap<>();
     HashMap<String, HashSet<FunctionType>> finalMethods = new HashMap<>();
 
+    //额外实现的接口在基类的继承链之后处理，基类已实现的方法不会被重复重写
+    for(Class<?> i: interfaces){
+      if(interfaceTemp.add(i)) interfaceStack.push(i);
+    }
+
     Class<?> curr = baseClass;
 
     ClassInfo<?> typeClass;
@@ -750,7 +977,7 @@ public abstract class DynamicMaker{
     while(curr != null || !interfaceStack.empty()){
       if(curr != null){
         for(Class<?> i: curr.getInterfaces()){
-          if(INTERFACE_TEMP.add(i)) interfaceStack.push(i);
+          if(interfaceTemp.add(i)) interfaceStack.push(i);
         }
       }
       else curr = interfaceStack.pop();
@@ -769,10 +996,13 @@ public abstract class DynamicMaker{
         if(!overrideMethods.computeIfAbsent(method.getName(), e -> new HashSet<>()).add(FunctionType.from(method))
         || finalMethods.getOrDefault(method.getName(), EMP_MAP).contains(FunctionType.from(method))) continue;
 
+        //未被代理的方法保留基类的实现，抽象方法没有可用的实现，总是会被代理
+        if(proxy && !Modifier.isAbstract(method.getModifiers()) && !filter.intercept(method)) continue;
+
         String methodName = method.getName();
         ClassInfo<?> returnType = asType(method.getReturnType());
 
-        if(OVERRIDES.computeIfAbsent(methodName, e -> new HashSet<>()).add(FunctionType.from(method))){
+        if(overrides.computeIfAbsent(methodName, e -> new HashSet<>()).add(FunctionType.from(method))){
           superMethod = !Modifier.isAbstract(method.getModifiers()) && !curr.isInterface() || method.isDefault()? typeClass.getMethod(
               returnType,
               methodName,
@@ -782,17 +1012,27 @@ public abstract class DynamicMaker{
           callSuperCaseMap.put(method, callSuperCaseMap.size());
 
           String typeF = methodName + "$" + FunctionType.typeNameHash(method.getParameterTypes());
-          FieldInfo<FunctionType> funType = classInfo.declareField(
+          FieldInfo<InlineCache> funCache = invokeDynamic || proxy? null: classInfo.declareField(
               Modifier.PRIVATE | Modifier.STATIC | Modifier.FINAL,
               typeF,
-              FUNCTION_TYPE_TYPE,
+              INLINE_CACHE_TYPE,
               null
           );
+          FieldInfo<ProxyMaker.Caller> proxyCaller = proxy? classInfo.declareField(
+              Modifier.PRIVATE | Modifier.STATIC | Modifier.FINAL,
+              typeF,
+              CALLER_TYPE,
+              null
+          ): null;
 
-          // private static final FunctionType FUNCTION_TYPE$*name*;
+          // private static final InlineCache FUNCTION_CACHE$*name*;
+          // 或者
+          // private static final ProxyMaker.Caller PROXY_CALLER$*name*;
           // static {
           //   ...
-          //   FUNCTION_TYPE$*signature* = FunctionType.as(*paramTypes*);
+          //   FUNCTION_CACHE$*signature* = new InlineCache("*name*", FunctionType.inst(*paramTypes*));
+          //   或者
+          //   PROXY_CALLER$*signature* = ProxyMaker.directCaller(*index*, "*name*", FunctionType.inst(*paramTypes*));
           //   methodIndex.put(*signature*, *index*);
           //   ...
           // }
@@ -819,7 +1059,18 @@ public abstract class DynamicMaker{
                 tempClasses
             );
 
-            clinit.assign(null, tempType, funType);
+            if(funCache != null){
+              clinit.loadConstant(tempName, methodName);
+              clinit.newInstance(CACHE_CSTR, tempCache, tempName, tempType);
+              clinit.assign(null, tempCache, funCache);
+            }
+
+            if(proxyCaller != null){
+              clinit.loadConstant(tempName, methodName);
+              clinit.loadConstant(tempInt, superMethod == null? -1: callSuperCaseMap.get(method));
+              clinit.invoke(null, DIRECT_CALLER, tempCaller, tempInt, tempName, tempType);
+              clinit.assign(null, tempCaller, proxyCaller);
+            }
 
             clinit.loadConstant(tempSign, signature);
             clinit.loadConstant(tempInt, callSuperCaseMap.get(method));
@@ -840,52 +1091,10 @@ public abstract class DynamicMaker{
             );
           }
 
-          // public *returnType* *name*(*parameters*){
-          //   *[return]* this.invokeFunc(FUNCTION_TYPE$*signature* ,"*name*", parameters);
-          // }
-          {
-            CodeBlock<?> code = classInfo.declareMethod(
-                Modifier.PUBLIC,
-                methodName,
-                returnType,
-                Parameter.asParameter(method.getParameters())
-            );
-
-            ILocal<FunctionType> type = code.local(FUNCTION_TYPE_TYPE);
-            ILocal<String> met = code.local(STRING_TYPE);
-
-            code.assign(null, funType, type);
-
-            code.loadConstant(met, method.getName());
-
-            ILocal<Object[]> argList = code.local(OBJECT_TYPE.asArray());
-            ILocal<Integer> length = code.local(INT_TYPE);
-            code.loadConstant(length, method.getParameterCount());
-            code.invoke(null, GET_LIST, argList, length);
-
-            if(method.getParameterCount() > 0){
-              ILocal<Integer> index = code.local(INT_TYPE);
-              for(int i = 0; i < code.getParamList().size(); i++){
-                code.loadConstant(index, i);
-                code.arrayPut(argList, index, code.getRealParam(i));
-              }
-            }
-
-            if(returnType != VOID_TYPE){
-              ILocal res = code.local(returnType);
-              code.invoke(code.getThis(), INVOKE, res, type, met, argList);
-              code.invoke(null, RECYCLE_LIST, null, argList);
-              code.returnValue(res);
-            }
-            else{
-              code.invoke(code.getThis(), INVOKE, null, type, met, argList);
-              code.invoke(null, RECYCLE_LIST, null, argList);
-            }
-          }
-
           // private final *returnType* *name*$super(*parameters*){
           //   *[return]* super.*name*(*parameters*);
           // }
+          IMethod<?, ?> superCaller = null;
           if(superMethod != null){
             CodeBlock<?> code = classInfo.declareMethod(
                 Modifier.PRIVATE | Modifier.FINAL,
@@ -904,7 +1113,32 @@ public abstract class DynamicMaker{
             AnnotationType<CallSuperMethod> callSuper = AnnotationType.asAnnotationType(CallSuperMethod.class);
             HashMap<String, Object> map = new HashMap<>();
             map.put("srcMethod", methodName);
+            map.put("index", callSuperCaseMap.get(method));
             callSuper.annotateTo(code.owner(), map);
+
+            superCaller = code.owner();
+            superCallers.put(method, superCaller);
+          }
+
+          // public *returnType* *name*(*parameters*){
+          //   if(!FUNCTION_CACHE$*signature*.isOverridden(this.$datapool$)) *[return]* this.*name*$super(parameters);
+          //   *[return]* FUNCTION_CACHE$*signature*.invoke(this, this.$datapool$, parameters);
+          //   或者
+          //   *[return]* invokedynamic *name*(this, parameters) [FunctionCallSite.bootstrap];
+          //   或者
+          //   *[return]* this.$proxy_maker$.handle(this, PROXY_CALLER$*signature*, new Object[]{parameters});
+          // }
+          {
+            CodeBlock<?> code = classInfo.declareMethod(
+                Modifier.PUBLIC,
+                methodName,
+                returnType,
+                Parameter.asParameter(method.getParameters())
+            );
+
+            if(proxy) makeProxyInvokeBody(code, proxyCaller, proxyMaker);
+            else if(invokeDynamic) makeDynamicInvokeBody(code);
+            else makeInvokeBody(code, method, funCache, dataPool, superCaller);
           }
         }
       }
@@ -957,9 +1191,11 @@ public abstract class DynamicMaker{
 
       ILocal<Object[]> args = code.getRealParam(1);
       ILocal<Object> tmpObj = code.local(OBJECT_TYPE);
-      makeSwitch(callSuperCaseMap, code, tmpObj, end, iSwitch, args);
+      makeSwitch(callSuperCaseMap, superCallers, code, tmpObj, end, iSwitch, args);
     }
 
+    makeIndexedSuper(classInfo, callSuperCaseMap, superCallers, false);
+
     // public DataPool.ReadOnlyPool baseSuperPool(){
     //   return this.$superbasepointer$;
     // }
@@ -988,25 +1224,25 @@ public abstract class DynamicMaker{
       code.returnValue(res);
     }
 
-    // public <T> T varValueGet(String name){
-    //   return this.$varValuePool$.get(name);
+    // public <T> T varValueGet(int slot){
+    //   return this.$varStorage$.getValue(slot);
     // }
     {
       CodeBlock<Object> code = classInfo.declareMethod(
           Modifier.PUBLIC,
           "varValueGet",
           OBJECT_TYPE,
-          Parameter.trans(STRING_TYPE)
+          Parameter.trans(INT_TYPE)
       );
-      ILocal<HashMap> map = code.local(HASH_MAP_TYPE);
+      ILocal<VariableStorage> storage = code.local(VAR_STORAGE_TYPE);
       ILocal<Object> res = code.local(OBJECT_TYPE);
-      code.assign(code.getThis(), varPool, map);
-      code.invoke(map, MAP_GET, res, code.getRealParam(0));
+      code.assign(code.getThis(), varStorage, storage);
+      code.invoke(storage, VALUE_GET, res, code.getRealParam(0));
       code.returnValue(res);
     }
 
-    // public <T> varValueSet(String name, Object value){
-    //   return this.$varValuePool$.put(name, value);
+    // public <T> varValueSet(int slot, Object value){
+    //   this.$varStorage$.setValue(slot, value);
     // }
     {
       CodeBlock<Void> code = classInfo.declareMethod(
@@ -1014,13 +1250,62 @@ public abstract class DynamicMaker{
           "varValueSet",
           VOID_TYPE,
           Parameter.trans(
-              STRING_TYPE,
+              INT_TYPE,
               OBJECT_TYPE
           )
       );
-      ILocal<HashMap> map = code.local(HASH_MAP_TYPE);
-      code.assign(code.getThis(), varPool, map);
-      code.invoke(map, MAP_PUT, null, code.getRealParam(0), code.getRealParam(1));
+      ILocal<VariableStorage> storage = code.local(VAR_STORAGE_TYPE);
+      code.assign(code.getThis(), varStorage, storage);
+      code.invoke(storage, VALUE_SET, null, code.getRealParam(0), code.getRealParam(1));
+    }
+
+    // public long varBitsGet(int slot){
+    //   return this.$varStorage$.getBits(slot);
+    // }
+    {
+      CodeBlock<Long> code = classInfo.declareMethod(
+          Modifier.PUBLIC,
+          "varBitsGet",
+          LONG_TYPE,
+          Parameter.trans(INT_TYPE)
+      );
+      ILocal<VariableStorage> storage = code.local(VAR_STORAGE_TYPE);
+      ILocal<Long> res = code.local(LONG_TYPE);
+      code.assign(code.getThis(), varStorage, storage);
+      code.invoke(storage, BITS_GET, res, code.getRealParam(0));
+      code.returnValue(res);
+    }
+
+    // public void varBitsSet(int slot, long bits){
+    //   this.$varStorage$.setBits(slot, bits);
+    // }
+    {
+      CodeBlock<Void> code = classInfo.declareMethod(
+          Modifier.PUBLIC,
+          "varBitsSet",
+          VOID_TYPE,
+          Parameter.trans(
+              INT_TYPE,
+              LONG_TYPE
+          )
+      );
+      ILocal<VariableStorage> storage = code.local(VAR_STORAGE_TYPE);
+      code.assign(code.getThis(), varStorage, storage);
+      code.invoke(storage, BITS_SET, null, code.getRealParam(0), code.getRealParam(1));
+    }
+
+    // public VariableStorage varStorage(){
+    //   return this.$varStorage$;
+    // }
+    {
+      CodeBlock<VariableStorage> code = classInfo.declareMethod(
+          Modifier.PUBLIC,
+          "varStorage",
+          VAR_STORAGE_TYPE
+      );
+      ILocal<VariableStorage> res = code.local(VAR_STORAGE_TYPE);
+      code.assign(code.getThis(), varStorage, res);
+      code.returnValue(res);
     }
 
     // public IVariable getVariable(String name){
@@ -1058,6 +1343,24 @@ public abstract class DynamicMaker{
       code.returnVoid();
     }
 
+    // public boolean isFuncOverridden(int id){
+    //   return this.$datapool$.isOverridden(id);
+    // }
+    {
+      CodeBlock<Boolean> code = classInfo.declareMethod(
+          Modifier.PUBLIC,
+          "isFuncOverridden",
+          BOOLEAN_TYPE,
+          Parameter.as(0, INT_TYPE, "id")
+      );
+      ILocal<DataPool> pool = code.local(DATA_POOL_TYPE);
+      code.assign(code.getThis(), dataPool, pool);
+
+      ILocal<Boolean> res = code.local(BOOLEAN_TYPE);
+      code.invoke(pool, POOL_OVERRIDDEN, res, code.getParam(1));
+      code.returnValue(res);
+    }
+
     // public IFunctionEntry getFunc(String name, FunctionType type){
     //   return this.$datapool$.select(name, type);
     // }
@@ -1127,22 +1430,419 @@ public abstract class DynamicMaker{
     return classInfo;
   }
 
+  /**生成委托方法的方法体，方法体通过方法的{@linkplain InlineCache 调用点缓存}选择并执行动态对象的函数，
+   * 若方法存在超类实现且接收者的池层次结构中没有{@linkplain DataPool#isOverridden(int) 设置过同名函数}，则直接调用超类实现，
+   * 参数数量不多于{@link InlineCache#MAX_ARITY}时实参被直接传递给缓存的定长调用方法，不会借用实参数组，
+   * 方法签名为{@linkplain InlineCache#specialized(Class, Class[]) 基本类型特化形式}时实参与返回值也不会被装箱
+   *
+   * @param code 委托方法的方法体
+   * @param method 被委托的方法
+   * @param cache 此方法的调用点缓存字段
+   * @param dataPool 保存动态对象数据池的字段
+   * @param superCaller 调用超类方法的入口方法，若为null则方法没有可调用的超类实现*/
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  protected void makeInvokeBody(CodeBlock<?> code, Method method, IField<InlineCache> cache, IField<DataPool> dataPool, IMethod<?, ?> superCaller){
+    ILocal<InlineCache> site = code.local(INLINE_CACHE_TYPE);
+    ILocal<DataPool> pool = code.local(DATA_POOL_TYPE);
+
+    code.assign(null, cache, site);
+    code.assign(code.getThis(), dataPool, pool);
+
+    //接收者的池层次结构中没有设置过此名称的函数时，选择的结果必然是委托类型自身的方法，直接调用超类方法
+    if(superCaller != null){
+      ILocal<Boolean> overridden = code.local(BOOLEAN_TYPE);
+      Label dispatch = code.label();
+      code.invoke(site, CACHE_OVERRIDDEN, overridden, pool);
+      code.condition(overridden, ICondition.CondCode.UNEQUAL, dispatch);
+
+      ILocal<?>[] params = code.getParamList().toArray(LOCALS_EMP);
+      if(superCaller.returnType() != VOID_TYPE){
+        ILocal res = code.local(superCaller.returnType());
+        code.invoke(code.getThis(), (IMethod) superCaller, res, params);
+        code.returnValue(res);
+      }
+      else{
+        code.invoke(code.getThis(), superCaller, null, params);
+        code.returnVoid();
+      }
+
+      code.markLabel(dispatch);
+    }
+
+    String specialized = InlineCache.specialized(method.getReturnType(), method.getParameterTypes());
+    if(specialized != null){
+      IClass<?>[] argTypes = new IClass[method.getParameterCount() + 2];
+      ILocal<?>[] args = new ILocal[method.getParameterCount() + 2];
+      argTypes[0] = DYNAMIC_OBJECT_TYPE;
+      argTypes[1] = DATA_POOL_TYPE;
+      args[0] = code.getThis();
+      args[1] = pool;
+      for(int i = 0; i < method.getParameterCount(); i++){
+        argTypes[i + 2] = asType(method.getParameterTypes()[i]);
+        args[i + 2] = code.getRealParam(i);
+      }
+
+      IClass<?> returnType = code.owner().returnType();
+      IMethod invoker = INLINE_CACHE_TYPE.getMethod(returnType, specialized, argTypes);
+      if(returnType != VOID_TYPE){
+        ILocal res = code.local(returnType);
+        code.invoke(site, invoker, res, args);
+        code.returnValue(res);
+      }
+      else code.invoke(site, invoker, null, args);
+
+      return;
+    }
+
+    if(method.getParameterCount() <= InlineCache.MAX_ARITY){
+      ILocal<?>[] args = new ILocal[method.getParameterCount() + 2];
+      args[0] = code.getThis();
+      args[1] = pool;
+      for(int i = 0; i < method.getParameterCount(); i++){
+        ILocal<?> param = code.getRealParam(i);
+        if(param.type().isPrimitive()){
+          ILocal<Object> boxed = code.local(OBJECT_TYPE);
+          code.cast(param, boxed);
+          param = boxed;
+        }
+        args[i + 2] = param;
+      }
+
+      IClass<?> returnType = code.owner().returnType();
+      if(returnType != VOID_TYPE){
+        ILocal res = code.local(returnType);
+        code.invoke(site, CACHE_INVOKE_ARITY[method.getParameterCount()], res, args);
+        code.returnValue(res);
+      }
+      else code.invoke(site, CACHE_INVOKE_ARITY[method.getParameterCount()], null, args);
+
+      return;
+    }
+
+    ILocal<Object[]> argList = code.local(OBJECT_TYPE.asArray());
+    ILocal<Integer> length = code.local(INT_TYPE);
+    code.loadConstant(length, method.getParameterCount());
+    code.invoke(null, GET_LIST, argList, length);
+
+    if(method.getParameterCount() > 0){
+      ILocal<Integer> index = code.local(INT_TYPE);
+      for(int i = 0; i < code.getParamList().size(); i++){
+        code.loadConstant(index, i);
+        code.arrayPut(argList, index, code.getRealParam(i));
+      }
+    }
+
+    IClass<?> returnType = code.owner().returnType();
+    if(returnType != VOID_TYPE){
+      ILocal res = code.local(returnType);
+      code.invoke(site, CACHE_INVOKE, res, code.getThis(), pool, argList);
+      code.invoke(null, RECYCLE_LIST, null, argList);
+      code.returnValue(res);
+    }
+    else{
+      code.invoke(site, CACHE_INVOKE, null, code.getThis(), pool, argList);
+      code.invoke(null, RECYCLE_LIST, null, argList);
+    }
+  }
+
+  /**生成invokedynamic模式下委托方法的方法体，调用点以方法名称命名，由{@link FunctionCallSite#bootstrap(MethodHandles.Lookup, String, MethodType)}引导链接
+   *
+   * @param code 委托方法的方法体*/
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  protected void makeDynamicInvokeBody(CodeBlock<?> code){
+    ILocal<?>[] args = code.getParamAll().toArray(LOCALS_EMP);
+
+    IClass<?> returnType = code.owner().returnType();
+    if(returnType != VOID_TYPE){
+      ILocal res = code.local(returnType);
+      code.invokeDynamic(CALL_SITE_BOOTSTRAP, new Object[0], code.owner().name(), returnType, res, args);
+      code.returnValue(res);
+    }
+    else code.invokeDynamic(CALL_SITE_BOOTSTRAP, new Object[0], code.owner().name(), returnType, null, args);
+  }
+
+  /**生成直接代理模式下委托方法的方法体，实参连同方法的调用封装器常量一并传递给实例的代理生成器，不经过动态对象的函数选择。
+   * 参数数量不多于{@link InlineCache#MAX_ARITY}时实参被直接传递给{@link ProxyMaker#handle0(DynamicObject, ProxyMaker.Caller)}等定长的入口，
+   * 否则实参被装入数组后传递给{@link ProxyMaker#handle(DynamicObject, ProxyMaker.Caller, Object[])}
+   *
+   * @param code 委托方法的方法体
+   * @param caller 此方法的调用封装器字段
+   * @param proxyMaker 保存代理生成器的字段*/
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  protected void makeProxyInvokeBody(CodeBlock<?> code, IField<ProxyMaker.Caller> caller, IField<ProxyMaker> proxyMaker){
+    ILocal<ProxyMaker> handler = code.local(PROXY_MAKER_TYPE);
+    ILocal<ProxyMaker.Caller> call = code.local(CALLER_TYPE);
+    code.assign(code.getThis(), proxyMaker, handler);
+    code.assign(null, caller, call);
+
+    int argCount = code.getParamList().size();
+    IClass<?> returnType = code.owner().returnType();
+    if(argCount <= InlineCache.MAX_ARITY){
+      ILocal<?>[] args = new ILocal[argCount + 2];
+      args[0] = code.getThis();
+      args[1] = call;
+      for(int i = 0; i < argCount; i++){
+        ILocal<?> param = code.getRealParam(i);
+        if(param.type().isPrimitive()){
+          ILocal<Object> boxed = code.local(OBJECT_TYPE);
+          code.cast(param, boxed);
+          param = boxed;
+        }
+        args[i + 2] = param;
+      }
+
+      if(returnType != VOID_TYPE){
+        ILocal res = code.local(returnType);
+        code.invoke(handler, PROXY_HANDLE_ARITY[argCount], res, args);
+        code.returnValue(res);
+      }
+      else code.invoke(handler, PROXY_HANDLE_ARITY[argCount], null, args);
+
+      return;
+    }
+
+    ILocal<Object[]> argList = code.local(OBJECT_TYPE.asArray());
+    ILocal<Integer> length = code.local(INT_TYPE);
+    code.loadConstant(length, argCount);
+    code.newArray(OBJECT_TYPE, argList, length);
+
+    ILocal<Integer> index = code.local(INT_TYPE);
+    for(int i = 0; i < argCount; i++){
+      code.loadConstant(index, i);
+      code.arrayPut(argList, index, code.getRealParam(i));
+    }
+
+    if(returnType != VOID_TYPE){
+      ILocal res = code.local(returnType);
+      code.invoke(handler, PROXY_HANDLE, res, code.getThis(), call, argList);
+      code.returnValue(res);
+    }
+    else code.invoke(handler, PROXY_HANDLE, null, code.getThis(), call, argList);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static IMethod<InlineCache, Object>[] arityInvokes(){
+    IMethod<InlineCache, Object>[] res = new IMethod[InlineCache.MAX_ARITY + 1];
+    for(int i = 0; i < res.length; i++){
+      IClass<?>[] args = new IClass[i + 2];
+      args[0] = DYNAMIC_OBJECT_TYPE;
+      args[1] = DATA_POOL_TYPE;
+      Arrays.fill(args, 2, args.length, OBJECT_TYPE);
+      res[i] = INLINE_CACHE_TYPE.getMethod(OBJECT_TYPE, "invoke" + i, args);
+    }
+    return res;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static IMethod<ProxyMaker, Object>[] arityHandles(){
+    IMethod<ProxyMaker, Object>[] res = new IMethod[InlineCache.MAX_ARITY + 1];
+    for(int i = 0; i < res.length; i++){
+      IClass<?>[] args = new IClass[i + 2];
+      args[0] = DYNAMIC_OBJECT_TYPE;
+      args[1] = CALLER_TYPE;
+      Arrays.fill(args, 2, args.length, OBJECT_TYPE);
+      res[i] = PROXY_MAKER_TYPE.getMethod(OBJECT_TYPE, "handle" + i, args);
+    }
+    return res;
+  }
+
+  /**获取动态委托类型中指定索引的超类方法入口的句柄，句柄的第一个参数为接收者，其余参数与返回值与被委托的方法一致。
+   * <p>句柄表在首次获取时以动态委托类型及其已委托的超类在静态初始化时保存于自身私有静态字段中的查找对象构建，
+   * 查找对象只由类型自身持有，不会阻止生成的类型与其类加载器被回收
+   *
+   * @param dynamicType 动态委托类型
+   * @param index 超类方法入口的{@linkplain CallSuperMethod#index() 索引}
+   * @return 超类方法入口的句柄，若该类型没有保存查找对象或索引不存在则返回null*/
+  public static MethodHandle getSuperMethodHandle(Class<?> dynamicType, int index){
+    MethodHandle[] handles = SUPER_HANDLES.get(dynamicType);
+    return index < 0 || index >= handles.length? null: handles[index];
+  }
+
+  /**获取超类方法入口的句柄，参见{@link DynamicMaker#getSuperMethodHandle(Class, int)}
+   *
+   * @param superEntry 带有{@link CallSuperMethod}注解的超类方法入口
+   * @return 超类方法入口的句柄，若不可用则返回null*/
+  public static MethodHandle getSuperMethodHandle(Method superEntry){
+    CallSuperMethod callSuper = superEntry.getAnnotation(CallSuperMethod.class);
+    return callSuper == null? null: getSuperMethodHandle(superEntry.getDeclaringClass(), callSuper.index());
+  }
+
+  private static MethodHandle[] makeSuperHandles(Class<?> type){
+    try{
+      //查找对象在类型的静态初始化中保存
+      Class.forName(type.getName(), true, type.getClassLoader());
+    }catch(ClassNotFoundException e){
+      throw new IllegalHandleException(e);
+    }
+
+    MethodHandle[] res = new MethodHandle[superIndexCount(type)];
+    for(Class<?> curr = type; curr != null && SuperInvoker.class.isAssignableFrom(curr); curr = curr.getSuperclass()){
+      MethodHandles.Lookup lookup = selfLookup(curr);
+      if(lookup == null) continue;
+
+      for(Method method: curr.getDeclaredMethods()){
+        CallSuperMethod callSuper = method.getAnnotation(CallSuperMethod.class);
+        if(callSuper == null || res[callSuper.index()] != null) continue;
+
+        try{
+          res[callSuper.index()] = lookup.unreflect(method);
+        }catch(IllegalAccessException e){
+          throw new IllegalHandleException(e);
+        }
+      }
+    }
+    return res;
+  }
+
+  /**读取动态委托类型保存在私有静态字段中的自身的查找对象，类型不具有此字段或查找对象不具备私有访问权限时返回null*/
+  private static MethodHandles.Lookup selfLookup(Class<?> dynamicType){
+    try{
+      Field field = dynamicType.getDeclaredField(LOOKUP_FIELD);
+      if(field.getType() != MethodHandles.Lookup.class || !Modifier.isStatic(field.getModifiers())) return null;
+
+      field.setAccessible(true);
+      MethodHandles.Lookup res = (MethodHandles.Lookup) field.get(null);
+      return res != null && res.lookupClass() == dynamicType && (res.lookupModes() & MethodHandles.Lookup.PRIVATE) != 0? res: null;
+    }catch(NoSuchFieldException e){
+      return null;
+    }catch(IllegalAccessException e){
+      throw new IllegalHandleException(e);
+    }
+  }
+
+  /**创建以索引调用超类方法的函数，在超类方法入口的句柄不可用时使用，参数数量不多于{@link InlineCache#MAX_ARITY}时使用定长的函数与入口，调用过程不需要创建实参数组
+   *
+   * @param index 超类方法入口的索引
+   * @param argCount 方法的参数数量
+   * @return 调用超类方法的函数*/
+  protected static Function<Object, Object> superFunction(int index, int argCount){
+    switch(argCount){
+      case 0: return (Function.Function0<Object, Object>) self -> ((SuperInvoker) self).invokeSuper0(index);
+      case 1: return (Function.Function1<Object, Object>) (self, a0) -> ((SuperInvoker) self).invokeSuper1(index, a0);
+      case 2: return (Function.Function2<Object, Object>) (self, a0, a1) -> ((SuperInvoker) self).invokeSuper2(index, a0, a1);
+      case 3: return (Function.Function3<Object, Object>) (self, a0, a1, a2) -> ((SuperInvoker) self).invokeSuper3(index, a0, a1, a2);
+      case 4: return (Function.Function4<Object, Object>) (self, a0, a1, a2, a3) -> ((SuperInvoker) self).invokeSuper4(index, a0, a1, a2, a3);
+      case 5: return (Function.Function5<Object, Object>) (self, a0, a1, a2, a3, a4) -> ((SuperInvoker) self).invokeSuper5(index, a0, a1, a2, a3, a4);
+      case 6: return (Function.Function6<Object, Object>) (self, a0, a1, a2, a3, a4, a5) -> ((SuperInvoker) self).invokeSuper6(index, a0, a1, a2, a3, a4, a5);
+      default: return (self, args) -> ((SuperInvoker) self).invokeSuper(index, args.args());
+    }
+  }
+
+  /**获取动态委托类型及其所有已委托的超类中已使用的超类方法入口索引的上界，即在此类型上继续委托时本类入口索引的起始值*/
+  protected static int superIndexCount(Class<?> dynamicBase){
+    int res = 0;
+    for(Class<?> curr = dynamicBase; curr != null && SuperInvoker.class.isAssignableFrom(curr); curr = curr.getSuperclass()){
+      for(Method method: curr.getDeclaredMethods()){
+        CallSuperMethod callSuper = method.getAnnotation(CallSuperMethod.class);
+        if(callSuper != null) res = Math.max(res, callSuper.index() + 1);
+      }
+    }
+    return res;
+  }
+
+  /**生成以整数索引分派的超类方法入口，包括以实参数组传参的{@link SuperInvoker#invokeSuper(int, Object...)}与各个定长的入口，
+   * 定长入口只分派参数数量相同的方法，不在本类中的索引将转交给超类的同名入口，或在没有已委托的超类时抛出异常
+   *
+   * @param classInfo 生成的类型
+   * @param callSuperCaseMap 方法的索引表
+   * @param superCallers 已声明的超类方法入口
+   * @param delegateSuper 超类是否为已委托的动态类型*/
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  protected void makeIndexedSuper(ClassInfo<?> classInfo, Map<Method, Integer> callSuperCaseMap, Map<Method, IMethod<?, ?>> superCallers, boolean delegateSuper){
+    // public Object invokeSuper(int index, Object... args){
+    //   switch(index){
+    //     ...
+    //     case *index*: return *method*$super(args[0], args[1],...);
+    //     ...
+    //   }
+    //   return super.invokeSuper(index, args);
+    //   或者
+    //   throw new IllegalStateException("no such super method index");
+    // }
+    // public Object invokeSuper*N*(int index, Object a0, ...){
+    //   同上，只分派参数数量为N的方法
+    // }
+    for(int arity = -1; arity <= InlineCache.MAX_ARITY; arity++){
+      IClass<?>[] argTypes = new IClass[arity < 0? 2: arity + 1];
+      argTypes[0] = INT_TYPE;
+      if(arity < 0) argTypes[1] = OBJECT_TYPE.asArray();
+      else Arrays.fill(argTypes, 1, argTypes.length, OBJECT_TYPE);
+      String name = arity < 0? "invokeSuper": "invokeSuper" + arity;
+
+      CodeBlock<Object> code = classInfo.declareMethod(
+          Modifier.PUBLIC,
+          name,
+          OBJECT_TYPE,
+          Parameter.trans(argTypes)
+      );
+
+      ILocal<Integer> index = code.getRealParam(0);
+      ILocal<Object> obj = code.local(OBJECT_TYPE);
+      ILocal<Integer> tmpInd = code.local(INT_TYPE);
+      Label end = code.label();
+      ISwitch<Integer> iSwitch = null;
+
+      for(Map.Entry<Method, IMethod<?, ?>> entry: superCallers.entrySet()){
+        Method m = entry.getKey();
+        if(arity >= 0 && m.getParameterCount() != arity) continue;
+
+        if(iSwitch == null) iSwitch = code.switchDef(index, end);
+        Label l = code.label();
+        code.markLabel(l);
+        iSwitch.addCase(callSuperCaseMap.get(m), l);
+
+        IMethod method = entry.getValue();
+        ILocal<?>[] params = new ILocal[m.getParameterCount()];
+        for(int i = 0; i < params.length; i++){
+          params[i] = code.local(asType(m.getParameterTypes()[i]));
+          if(arity < 0){
+            code.loadConstant(tmpInd, i);
+            code.arrayGet(code.getRealParam(1), tmpInd, obj);
+            code.cast(obj, params[i]);
+          }
+          else code.cast(code.getRealParam(i + 1), params[i]);
+        }
+
+        if(method.returnType() == VOID_TYPE){
+          code.invoke(code.getThis(), method, null, params);
+          code.loadConstant(obj, null);
+        }
+        else code.invoke(code.getThis(), method, obj, params);
+        code.returnValue(obj);
+      }
+      code.markLabel(end);
+
+      if(delegateSuper){
+        IMethod<?, Object> superEntry = (IMethod<?, Object>) classInfo.superClass().getMethod(OBJECT_TYPE, name, argTypes);
+        code.invokeSuper(code.getThis(), superEntry, obj, code.getParamList().toArray(LOCALS_EMP));
+        code.returnValue(obj);
+      }
+      else{
+        ILocal<String> message = code.local(STRING_TYPE);
+        ILocal<IllegalStateException> exception = code.local(STATE_EXCEPTION_TYPE);
+        code.loadConstant(message, "no such super method index");
+        code.newInstance(
+            STATE_EXCEPTION_TYPE.getConstructor(STRING_TYPE),
+            exception,
+            message
+        );
+        code.thr(exception);
+      }
+    }
+  }
+
   @SuppressWarnings("unchecked")
-  protected void makeSwitch(HashMap<Method, Integer> callSuperCaseMap, CodeBlock<Object> code, ILocal<Object> obj, Label end, ISwitch<Integer> iSwitch, ILocal<Object[]> args){
+  protected void makeSwitch(HashMap<Method, Integer> callSuperCaseMap, Map<Method, IMethod<?, ?>> superCallers, CodeBlock<Object> code, ILocal<Object> obj, Label end, ISwitch<Integer> iSwitch, ILocal<Object[]> args){
     ILocal<Integer> tmpInd = code.local(INT_TYPE);
 
-    for(Map.Entry<Method, Integer> entry: callSuperCaseMap.entrySet()){
+    //抽象方法没有超类方法入口，只为声明了入口的方法生成分支
+    for(Map.Entry<Method, IMethod<?, ?>> entry: superCallers.entrySet()){
       Label l = code.label();
       code.markLabel(l);
 
-      iSwitch.addCase(entry.getValue(), l);
+      iSwitch.addCase(callSuperCaseMap.get(entry.getKey()), l);
 
-      Method m = entry.getKey();
-      IMethod method = code.owner().owner().getMethod(
-          asType(m.getReturnType()),
-          m.getName() + CALLSUPER,
-          Arrays.stream(m.getParameterTypes()).map(ClassInfo::asType).toArray(IClass[]::new)
-      );
+      IMethod method = entry.getValue();
       ILocal<?>[] params = new ILocal[method.parameters().size()];
       for(int in = 0; in < params.length; in++){
         params[in] = code.local(((Parameter)method.parameters().get(in)).getType());
@@ -1179,6 +1879,19 @@ public abstract class DynamicMaker{
    * @return 对全方法进行动态委托的类型*/
   protected abstract <T> Class<? extends T> generateClass(Class<T> baseClass, Class<?>[] interfaces);
 
+  /**生成直接代理模式的代理类型，类型描述由{@link DynamicMaker#makeProxyClassInfo(Class, Class[], ProxyMaker.MethodFilter)}产出，默认实现不支持直接代理模式，
+   * 需要支持时应当与{@link DynamicMaker#generateClass(Class, Class[])}一同实现
+   *
+   * @param baseClass 委托基类
+   * @param interfaces 实现的接口列表
+   * @param filter 选择被代理的方法的过滤器
+   * @return 直接调用代理生成器的代理类型
+   *
+   * @throws IllegalHandleException 若此工厂不支持直接代理模式*/
+  protected <T> Class<? extends T> generateProxyClass(Class<T> baseClass, Class<?>[] interfaces, ProxyMaker.MethodFilter filter){
+    throw new IllegalHandleException("direct proxy is not supported by " + getClass());
+  }
+
   /**动态委托类型标识，由此工厂生成的动态委托类型都会具有此注解标识*/
   @Target(ElementType.TYPE)
   @Retention(RetentionPolicy.RUNTIME)
@@ -1190,9 +1903,31 @@ public abstract class DynamicMaker{
   @interface CallSuperMethod{
     /**方法所调用的超类源方法，将提供给初级数据池标识对超类方法的引用*/
     String srcMethod();
+
+    /**此入口在{@link SuperInvoker#invokeSuper(int, Object...)}中的索引，在动态委托类型的整个继承结构中唯一*/
+    int index();
   }
 
+  /**调用超类方法的入口，生成的动态委托类型都会实现此接口。
+   * <p>以签名字符串调用时需要经过一次哈希查找，以{@linkplain CallSuperMethod#index() 索引}调用则直接进行分派，
+   * 参数数量不多于{@link InlineCache#MAX_ARITY}的方法还可以通过定长的入口调用，不需要创建实参数组*/
   public interface SuperInvoker{
     Object invokeSuper(String signature, Object... args);
+
+    Object invokeSuper(int index, Object... args);
+
+    Object invokeSuper0(int index);
+
+    Object invokeSuper1(int index, Object a0);
+
+    Object invokeSuper2(int index, Object a0, Object a1);
+
+    Object invokeSuper3(int index, Object a0, Object a1, Object a2);
+
+    Object invokeSuper4(int index, Object a0, Object a1, Object a2, Object a3);
+
+    Object invokeSuper5(int index, Object a0, Object a1, Object a2, Object a3, Object a4);
+
+    Object invokeSuper6(int index, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5);
   }
 }
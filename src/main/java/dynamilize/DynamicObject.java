@@ -1,5 +1,7 @@
 package dynamilize;
 
+import java.util.Objects;
+
 /**所有动态对象依赖的接口，描述了动态对象具有的基本行为，关于接口的实现应当由生成器生成。
  * <p>实现此接口通常不应该从外部进行，而应当通过{@link DynamicMaker#makeClassInfo(Class, Class[])}生成，对于生成器生成的实现类应当满足下列行为：
  * <ul>
@@ -40,31 +42,152 @@ public interface DynamicObject<Self>{
    * @param name 变量名
    * @return 变量值*/
   default <T> T getVar(String name){
-    IVariable var = getVariable(name);
-    if(var == null)
-      throw new IllegalHandleException("variable " + name + " was not defined");
-
-    return var.get(this);
+    return requireVariable(name).get(this);
   }
 
-  /**为对象的某一变量设置属性值，若在层次结构中未能找到变量则会定义变量
+  /**为对象的某一变量设置属性值，若在层次结构中未能找到变量则会定义变量。
+   * <p>定义变量时持有对象的{@linkplain DynamicObject#varStorage() 变量存储}的锁并再次查找变量，多个线程同时为同一对象定义不同的变量时不会丢失其中任何一个
    *
    * @param name 变量名
    * @param value 属性值*/
   default <T> void setVar(String name, T value){
     IVariable var = getVariable(name);
     if(var == null){
-      var = new Variable(name, false);
-      setVariable(var);
+      synchronized(varStorage()){
+        var = getVariable(name);
+        if(var == null){
+          setVariable(new ShapeVariable(name));
+          var = requireVariable(name);
+        }
+      }
     }
     var.set(this, value);
   }
 
-  <T> T varValueGet(String name);
+  default <T> T varValueGet(String name){
+    int id = SymbolTable.VARIABLES.lookup(name);
+    int slot = id < 0? -1: getDyClass().variableLayout().lookup(id);
+    return slot < 0? null: varValueGet(slot);
+  }
+
+  default <T> void varValueSet(String name, T value){
+    varValueSet(getDyClass().variableLayout().slot(SymbolTable.VARIABLES.id(name)), value);
+  }
+
+  /**以变量的{@linkplain VariableLayout 槽位}获取对象自身保存的变量值
+   *
+   * @param slot 变量的槽位
+   * @return 变量值，若对象未保存此变量则返回null*/
+  <T> T varValueGet(int slot);
+
+  /**以变量的{@linkplain VariableLayout 槽位}设置对象自身保存的变量值
+   *
+   * @param slot 变量的槽位
+   * @param value 变量值*/
+  <T> void varValueSet(int slot, T value);
+
+  /**以变量的{@linkplain VariableLayout#primitiveSlot(int) 基本类型槽位}获取对象自身保存的基本类型变量的位模式
+   *
+   * @param slot 变量的基本类型槽位
+   * @return 变量值的位模式，若对象未保存此变量则返回0*/
+  long varBitsGet(int slot);
+
+  /**以变量的{@linkplain VariableLayout#primitiveSlot(int) 基本类型槽位}设置对象自身保存的基本类型变量的位模式
+   *
+   * @param slot 变量的基本类型槽位
+   * @param bits 变量值的位模式*/
+  void varBitsSet(int slot, long bits);
+
+  /**获取对象的变量存储，对象自身保存的变量值都位于存储中，存储同时是对象的变量原子操作的锁，不应当在外部使用
+   * <p>生成器实施应当为每个对象分配一个{@link VariableStorage}，并使{@link DynamicObject#varValueGet(int)}等方法通过存储读写变量
+   *
+   * @return 对象的变量存储*/
+  VariableStorage varStorage();
+
+  /**以基本类型int获取对象的变量值，变量为{@linkplain DynamicClass#setVariable(String, Class, Object, boolean) 基本类型变量}时不会发生装箱
+   *
+   * @param name 变量名
+   * @return 变量值
+   *
+   * @throws IllegalHandleException 若变量尚未定义*/
+  default int getVarInt(String name){
+    return requireVariable(name).getInt(this);
+  }
+
+  /**以基本类型int设置对象的变量值，变量为基本类型变量时不会发生装箱，若变量尚未定义则与{@link DynamicObject#setVar(String, Object)}相同会定义变量
+   *
+   * @param name 变量名
+   * @param value 变量值*/
+  default void setVarInt(String name, int value){
+    IVariable var = getVariable(name);
+    if(var == null) setVar(name, value);
+    else var.setInt(this, value);
+  }
+
+  /**@see DynamicObject#getVarInt(String)*/
+  default long getVarLong(String name){
+    return requireVariable(name).getLong(this);
+  }
+
+  /**@see DynamicObject#setVarInt(String, int)*/
+  default void setVarLong(String name, long value){
+    IVariable var = getVariable(name);
+    if(var == null) setVar(name, value);
+    else var.setLong(this, value);
+  }
+
+  /**@see DynamicObject#getVarInt(String)*/
+  default float getVarFloat(String name){
+    return requireVariable(name).getFloat(this);
+  }
+
+  /**@see DynamicObject#setVarInt(String, int)*/
+  default void setVarFloat(String name, float value){
+    IVariable var = getVariable(name);
+    if(var == null) setVar(name, value);
+    else var.setFloat(this, value);
+  }
+
+  /**@see DynamicObject#getVarInt(String)*/
+  default double getVarDouble(String name){
+    return requireVariable(name).getDouble(this);
+  }
+
+  /**@see DynamicObject#setVarInt(String, int)*/
+  default void setVarDouble(String name, double value){
+    IVariable var = getVariable(name);
+    if(var == null) setVar(name, value);
+    else var.setDouble(this, value);
+  }
+
+  /**@see DynamicObject#getVarInt(String)*/
+  default boolean getVarBoolean(String name){
+    return requireVariable(name).getBoolean(this);
+  }
+
+  /**@see DynamicObject#setVarInt(String, int)*/
+  default void setVarBoolean(String name, boolean value){
+    IVariable var = getVariable(name);
+    if(var == null) setVar(name, value);
+    else var.setBoolean(this, value);
+  }
+
+  /**获取对象的变量对象，与{@link DynamicObject#getVariable(String)}不同，若变量尚未定义则会抛出异常
+   *
+   * @param name 变量名
+   * @return 变量对象
+   *
+   * @throws IllegalHandleException 若变量尚未定义*/
+  default IVariable requireVariable(String name){
+    IVariable var = getVariable(name);
+    if(var == null)
+      throw new IllegalHandleException("variable " + name + " was not defined");
 
-  <T> void varValueSet(String name, T value);
+    return var;
+  }
 
   /**使用给出的运算器对指定名称的变量进行处理，并用其计算结果设置变量值
+   * <p>读取与写入之间没有同步，多个线程同时计算同一变量时可能丢失更新，此时应当使用{@link DynamicObject#getAndUpdateVar(String, Calculator)}等原子操作
    *
    * @param name 变量名称
    * @param calculator 计算器
@@ -75,6 +198,150 @@ public interface DynamicObject<Self>{
     return res;
   }
 
+  /**以基本类型int对变量进行计算并设置变量值，变量只会被查找一次，变量为基本类型变量时整个过程不会发生装箱
+   *
+   * @param name 变量名称
+   * @param calculator 计算器
+   * @return 计算结果
+   *
+   * @throws IllegalHandleException 若变量尚未定义*/
+  default int calculateVarInt(String name, Calculator.IntCalculator calculator){
+    IVariable var = requireVariable(name);
+    int res = calculator.calculate(var.getInt(this));
+    var.setInt(this, res);
+    return res;
+  }
+
+  /**@see DynamicObject#calculateVarInt(String, Calculator.IntCalculator)*/
+  default long calculateVarLong(String name, Calculator.LongCalculator calculator){
+    IVariable var = requireVariable(name);
+    long res = calculator.calculate(var.getLong(this));
+    var.setLong(this, res);
+    return res;
+  }
+
+  /**@see DynamicObject#calculateVarInt(String, Calculator.IntCalculator)*/
+  default float calculateVarFloat(String name, Calculator.FloatCalculator calculator){
+    IVariable var = requireVariable(name);
+    float res = calculator.calculate(var.getFloat(this));
+    var.setFloat(this, res);
+    return res;
+  }
+
+  /**@see DynamicObject#calculateVarInt(String, Calculator.IntCalculator)*/
+  default double calculateVarDouble(String name, Calculator.DoubleCalculator calculator){
+    IVariable var = requireVariable(name);
+    double res = calculator.calculate(var.getDouble(this));
+    var.setDouble(this, res);
+    return res;
+  }
+
+  /**@see DynamicObject#calculateVarInt(String, Calculator.IntCalculator)*/
+  default boolean calculateVarBoolean(String name, Calculator.BooleanCalculator calculator){
+    IVariable var = requireVariable(name);
+    boolean res = calculator.calculate(var.getBoolean(this));
+    var.setBoolean(this, res);
+    return res;
+  }
+
+  /**原子的比较并设置变量值，若变量的当前值与期望值是同一个对象则将变量设置为新值，与{@link java.util.concurrent.atomic.AtomicReference#compareAndSet(Object, Object)}一致，比较的是引用。
+   * 基本类型的变量在读取时会被装箱，装箱的结果不一定是同一个对象，对这样的变量请使用{@link DynamicObject#compareAndSetVarEquals(String, Object, Object)}。
+   * <p>对象的原子变量操作均持有对象的{@linkplain DynamicObject#varStorage() 变量存储}的锁，以{@link DynamicObject#setVar(String, Object)}等方法对对象自身保存的变量的普通写入也持有同一个锁，
+   * 因此原子操作之间，以及原子操作与普通写入之间都是原子的，多个线程可以不借助外部的锁更新同一对象上的共享变量。
+   * 锁不是对象自身，对对象加锁不会影响原子操作。以委托类型的java字段保存的变量的普通写入不经过变量存储，对这样的变量应当只使用原子操作进行写入
+   *
+   * @param name 变量名称
+   * @param expect 期望的当前值
+   * @param update 新值
+   * @return 若变量被设置则返回true，当前值与期望值不是同一个对象时返回false
+   *
+   * @throws IllegalHandleException 若变量尚未定义*/
+  default boolean compareAndSetVar(String name, Object expect, Object update){
+    IVariable var = requireVariable(name);
+    synchronized(varStorage()){
+      if(var.get(this) != expect) return false;
+      var.set(this, update);
+      return true;
+    }
+  }
+
+  /**原子的比较并设置变量值，与{@link DynamicObject#compareAndSetVar(String, Object, Object)}相同，但比较以{@link Object#equals(Object)}进行而不是比较引用
+   *
+   * @param name 变量名称
+   * @param expect 期望的当前值
+   * @param update 新值
+   * @return 若变量被设置则返回true，当前值与期望值不相等时返回false
+   *
+   * @throws IllegalHandleException 若变量尚未定义*/
+  default boolean compareAndSetVarEquals(String name, Object expect, Object update){
+    IVariable var = requireVariable(name);
+    synchronized(varStorage()){
+      if(!Objects.equals(var.get(this), expect)) return false;
+      var.set(this, update);
+      return true;
+    }
+  }
+
+  /**原子的使用运算器更新变量值，与{@link DynamicObject#calculateVar(String, Calculator)}不同，返回的是变量更新前的值，原子性参见{@link DynamicObject#compareAndSetVar(String, Object, Object)}
+   *
+   * @param name 变量名称
+   * @param calculator 计算器，在持有变量存储的锁时执行，不应当执行耗时的操作
+   * @return 变量更新前的值
+   *
+   * @throws IllegalHandleException 若变量尚未定义*/
+  default <T> T getAndUpdateVar(String name, Calculator<T> calculator){
+    IVariable var = requireVariable(name);
+    synchronized(varStorage()){
+      T res = var.get(this);
+      var.set(this, calculator.calculate(res));
+      return res;
+    }
+  }
+
+  /**原子的以变量的当前值与给出的值计算并设置变量值，原子性参见{@link DynamicObject#compareAndSetVar(String, Object, Object)}
+   *
+   * @param name 变量名称
+   * @param x 参与计算的值
+   * @param accumulator 累加器，在持有变量存储的锁时执行，不应当执行耗时的操作
+   * @return 变量更新后的值
+   *
+   * @throws IllegalHandleException 若变量尚未定义*/
+  default <T> T accumulateVar(String name, T x, Calculator.Accumulator<T> accumulator){
+    IVariable var = requireVariable(name);
+    synchronized(varStorage()){
+      T res = accumulator.accumulate(var.get(this), x);
+      var.set(this, res);
+      return res;
+    }
+  }
+
+  /**原子的将int变量加上给出的增量，变量为{@linkplain DynamicClass#setVariable(String, Class, Object, boolean) 基本类型变量}时不会发生装箱，
+   * 原子性参见{@link DynamicObject#compareAndSetVar(String, Object, Object)}
+   *
+   * @param name 变量名称
+   * @param delta 增量
+   * @return 变量更新前的值
+   *
+   * @throws IllegalHandleException 若变量尚未定义*/
+  default int getAndAddVarInt(String name, int delta){
+    IVariable var = requireVariable(name);
+    synchronized(varStorage()){
+      int res = var.getInt(this);
+      var.setInt(this, res + delta);
+      return res;
+    }
+  }
+
+  /**@see DynamicObject#getAndAddVarInt(String, int)*/
+  default long getAndAddVarLong(String name, long delta){
+    IVariable var = requireVariable(name);
+    synchronized(varStorage()){
+      long res = var.getLong(this);
+      var.setLong(this, res + delta);
+      return res;
+    }
+  }
+
   /**获取对象的函数的匿名函数表示
    * <p>生成器实施应当实现此方法使之调用数据池的{@link DataPool#select(String, FunctionType)}方法并返回值
    *
@@ -83,6 +350,13 @@ public interface DynamicObject<Self>{
    * @return 指定函数的匿名表示*/
   IFunctionEntry getFunc(String name, FunctionType type);
 
+  /**对象的此名称的函数是否被重写过，若没有，则此名称的函数只可能选中被委托类型自身的方法
+   * <p>生成器实施应当实现此方法使之调用数据池的{@link DataPool#isOverridden(int)}方法并返回值
+   *
+   * @param id 函数名称的{@linkplain SymbolTable#FUNCTIONS 标识}
+   * @return 函数是否被重写过*/
+  boolean isFuncOverridden(int id);
+
   default <R> Func<R> getFunction(String name, FunctionType type){
     IFunctionEntry entry = getFunc(name, type);
     if(entry == null)
@@ -92,17 +366,11 @@ public interface DynamicObject<Self>{
   }
 
   default <R> Function<Self, R> getFunc(String name, Class<?>... types){
-    FunctionType type = FunctionType.inst(types);
-    Function<Self, R> f = getFunc(name, type).getFunction();
-    type.recycle();
-    return f;
+    return getFunc(name, FunctionType.inst(types)).getFunction();
   }
 
   default <R> Func<R> getFunction(String name, Class<?>... types){
-    FunctionType type = FunctionType.inst(types);
-    Func<R> f = getFunction(name, type);
-    type.recycle();
-    return f;
+    return getFunction(name, FunctionType.inst(types));
   }
 
   /**以lambda模式设置对象的成员函数，lambda模式下对对象的函数变更仅对此对象有效，变更即时生效,
@@ -141,7 +409,6 @@ public interface DynamicObject<Self>{
   default <R> R invokeFunc(String name, Object... args){
     ArgumentList lis = ArgumentList.as(args);
     R r = invokeFunc(name, lis);
-    lis.type().recycle();
     lis.recycle();
     return r;
   }
@@ -173,6 +440,80 @@ public interface DynamicObject<Self>{
     return res.invoke( this, args);
   }
 
+  /**以定长的实参执行对象的指定成员函数，实参的类型表与函数都不需要经过数组与参数表获取，
+   * 若选中的函数为{@linkplain Function.Function0 定长参数函数}，调用过程不会产生任何内存分配
+   *
+   * @param name 函数名称
+   * @return 函数返回值*/
+  default <R> R invokeFunc0(String name){
+    FunctionType type = FunctionType.ofArgs();
+    IFunctionEntry entry = getFunc(name, type);
+    if(entry == null)
+      throw new IllegalHandleException("no such function: " + name + type);
+
+    return entry.<Self, R>getFunction().invoke0(this, type);
+  }
+
+  /**@see DynamicObject#invokeFunc0(String)*/
+  default <R> R invokeFunc1(String name, Object a0){
+    FunctionType type = FunctionType.ofArgs(a0);
+    IFunctionEntry entry = getFunc(name, type);
+    if(entry == null)
+      throw new IllegalHandleException("no such function: " + name + type);
+
+    return entry.<Self, R>getFunction().invoke1(this, type, a0);
+  }
+
+  /**@see DynamicObject#invokeFunc0(String)*/
+  default <R> R invokeFunc2(String name, Object a0, Object a1){
+    FunctionType type = FunctionType.ofArgs(a0, a1);
+    IFunctionEntry entry = getFunc(name, type);
+    if(entry == null)
+      throw new IllegalHandleException("no such function: " + name + type);
+
+    return entry.<Self, R>getFunction().invoke2(this, type, a0, a1);
+  }
+
+  /**@see DynamicObject#invokeFunc0(String)*/
+  default <R> R invokeFunc3(String name, Object a0, Object a1, Object a2){
+    FunctionType type = FunctionType.ofArgs(a0, a1, a2);
+    IFunctionEntry entry = getFunc(name, type);
+    if(entry == null)
+      throw new IllegalHandleException("no such function: " + name + type);
+
+    return entry.<Self, R>getFunction().invoke3(this, type, a0, a1, a2);
+  }
+
+  /**@see DynamicObject#invokeFunc0(String)*/
+  default <R> R invokeFunc4(String name, Object a0, Object a1, Object a2, Object a3){
+    FunctionType type = FunctionType.ofArgs(a0, a1, a2, a3);
+    IFunctionEntry entry = getFunc(name, type);
+    if(entry == null)
+      throw new IllegalHandleException("no such function: " + name + type);
+
+    return entry.<Self, R>getFunction().invoke4(this, type, a0, a1, a2, a3);
+  }
+
+  /**@see DynamicObject#invokeFunc0(String)*/
+  default <R> R invokeFunc5(String name, Object a0, Object a1, Object a2, Object a3, Object a4){
+    FunctionType type = FunctionType.ofArgs(a0, a1, a2, a3, a4);
+    IFunctionEntry entry = getFunc(name, type);
+    if(entry == null)
+      throw new IllegalHandleException("no such function: " + name + type);
+
+    return entry.<Self, R>getFunction().invoke5(this, type, a0, a1, a2, a3, a4);
+  }
+
+  /**@see DynamicObject#invokeFunc0(String)*/
+  default <R> R invokeFunc6(String name, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5){
+    FunctionType type = FunctionType.ofArgs(a0, a1, a2, a3, a4, a5);
+    IFunctionEntry entry = getFunc(name, type);
+    if(entry == null)
+      throw new IllegalHandleException("no such function: " + name + type);
+
+    return entry.<Self, R>getFunction().invoke6(this, type, a0, a1, a2, a3, a4, a5);
+  }
+
   default <T extends Self> T self(){
     return (T) this;
   }
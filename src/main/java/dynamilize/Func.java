@@ -6,7 +6,6 @@ public interface Func<R>{
   default R invoke(Object... args){
     ArgumentList lis = ArgumentList.as(args);
     R r = invoke(lis);
-    lis.type().recycle();
     lis.recycle();
     return r;
   }
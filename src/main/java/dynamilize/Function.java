@@ -7,7 +7,6 @@ public interface Function<S, R>{
   default R invoke(DynamicObject<S> self, Object... args){
     ArgumentList lis = ArgumentList.as(args);
     R r = invoke(self, lis);
-    lis.type().recycle();
     lis.recycle();
     return r;
   }
@@ -19,6 +18,200 @@ public interface Function<S, R>{
     return r;
   }
 
+  /**以定长的实参执行函数，生成的委托方法在实参不多于6个时会直接调用对应参数数量的此方法。
+   * <p>默认实现借用实参数组与参数表后调用{@link Function#invoke(DynamicObject, ArgumentList)}，定长的函数接口{@link Function0}至{@link Function6}会覆盖此方法，
+   * 直接将实参传递给函数，不会经过任何池，也不会产生内存分配。
+   *
+   * @param self 接收调用的动态对象
+   * @param type 实参的类型表
+   * @return 函数的返回值*/
+  default R invoke0(DynamicObject<S> self, FunctionType type){
+    ArgumentList lis = ArgumentList.asWithType(type, ArgumentList.EMP_ARG);
+    R r = invoke(self, lis);
+    lis.recycle();
+    return r;
+  }
+
+  /**@see Function#invoke0(DynamicObject, FunctionType)*/
+  default R invoke1(DynamicObject<S> self, FunctionType type, Object a0){
+    Object[] args = ArgumentList.getList(1);
+    args[0] = a0;
+    R r = invoke(self, type, args);
+    ArgumentList.recycleList(args);
+    return r;
+  }
+
+  /**@see Function#invoke0(DynamicObject, FunctionType)*/
+  default R invoke2(DynamicObject<S> self, FunctionType type, Object a0, Object a1){
+    Object[] args = ArgumentList.getList(2);
+    args[0] = a0;
+    args[1] = a1;
+    R r = invoke(self, type, args);
+    ArgumentList.recycleList(args);
+    return r;
+  }
+
+  /**@see Function#invoke0(DynamicObject, FunctionType)*/
+  default R invoke3(DynamicObject<S> self, FunctionType type, Object a0, Object a1, Object a2){
+    Object[] args = ArgumentList.getList(3);
+    args[0] = a0;
+    args[1] = a1;
+    args[2] = a2;
+    R r = invoke(self, type, args);
+    ArgumentList.recycleList(args);
+    return r;
+  }
+
+  /**@see Function#invoke0(DynamicObject, FunctionType)*/
+  default R invoke4(DynamicObject<S> self, FunctionType type, Object a0, Object a1, Object a2, Object a3){
+    Object[] args = ArgumentList.getList(4);
+    args[0] = a0;
+    args[1] = a1;
+    args[2] = a2;
+    args[3] = a3;
+    R r = invoke(self, type, args);
+    ArgumentList.recycleList(args);
+    return r;
+  }
+
+  /**@see Function#invoke0(DynamicObject, FunctionType)*/
+  default R invoke5(DynamicObject<S> self, FunctionType type, Object a0, Object a1, Object a2, Object a3, Object a4){
+    Object[] args = ArgumentList.getList(5);
+    args[0] = a0;
+    args[1] = a1;
+    args[2] = a2;
+    args[3] = a3;
+    args[4] = a4;
+    R r = invoke(self, type, args);
+    ArgumentList.recycleList(args);
+    return r;
+  }
+
+  /**@see Function#invoke0(DynamicObject, FunctionType)*/
+  default R invoke6(DynamicObject<S> self, FunctionType type, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5){
+    Object[] args = ArgumentList.getList(6);
+    args[0] = a0;
+    args[1] = a1;
+    args[2] = a2;
+    args[3] = a3;
+    args[4] = a4;
+    args[5] = a5;
+    R r = invoke(self, type, args);
+    ArgumentList.recycleList(args);
+    return r;
+  }
+
+  /**以基本类型的实参与返回值执行函数，当委托方法的签名为基本类型的特化形式时，生成的委托方法会直接调用这些方法，特化形式包括：
+   * <ul>
+   * <li>返回基本类型的无参方法
+   * <li>接收一个基本类型参数的无返回值方法
+   * <li>参数与返回值为同一种基本类型的一元与二元方法
+   * </ul>
+   * 基本类型包括int，long，float，double与boolean。默认实现会装箱实参并以定长的方式执行函数，再对返回值进行拆箱，
+   * {@link IntGetter}，{@link IntConsumer}，{@link IntUnary}与{@link IntBinary}等特化的函数接口会覆盖对应的方法，调用过程不会发生装箱。
+   *
+   * @param self 接收调用的动态对象
+   * @param type 实参的类型表
+   * @return 函数的返回值*/
+  default int invokeInt(DynamicObject<S> self, FunctionType type){
+    return ((Number) invoke0(self, type)).intValue();
+  }
+
+  /**@see Function#invokeInt(DynamicObject, FunctionType)*/
+  default int invokeInt(DynamicObject<S> self, FunctionType type, int a0){
+    return ((Number) invoke1(self, type, a0)).intValue();
+  }
+
+  /**@see Function#invokeInt(DynamicObject, FunctionType)*/
+  default int invokeInt(DynamicObject<S> self, FunctionType type, int a0, int a1){
+    return ((Number) invoke2(self, type, a0, a1)).intValue();
+  }
+
+  /**@see Function#invokeInt(DynamicObject, FunctionType)*/
+  default void invokeVoid(DynamicObject<S> self, FunctionType type, int a0){
+    invoke1(self, type, a0);
+  }
+
+  /**@see Function#invokeInt(DynamicObject, FunctionType)*/
+  default long invokeLong(DynamicObject<S> self, FunctionType type){
+    return ((Number) invoke0(self, type)).longValue();
+  }
+
+  /**@see Function#invokeInt(DynamicObject, FunctionType)*/
+  default long invokeLong(DynamicObject<S> self, FunctionType type, long a0){
+    return ((Number) invoke1(self, type, a0)).longValue();
+  }
+
+  /**@see Function#invokeInt(DynamicObject, FunctionType)*/
+  default long invokeLong(DynamicObject<S> self, FunctionType type, long a0, long a1){
+    return ((Number) invoke2(self, type, a0, a1)).longValue();
+  }
+
+  /**@see Function#invokeInt(DynamicObject, FunctionType)*/
+  default void invokeVoid(DynamicObject<S> self, FunctionType type, long a0){
+    invoke1(self, type, a0);
+  }
+
+  /**@see Function#invokeInt(DynamicObject, FunctionType)*/
+  default float invokeFloat(DynamicObject<S> self, FunctionType type){
+    return ((Number) invoke0(self, type)).floatValue();
+  }
+
+  /**@see Function#invokeInt(DynamicObject, FunctionType)*/
+  default float invokeFloat(DynamicObject<S> self, FunctionType type, float a0){
+    return ((Number) invoke1(self, type, a0)).floatValue();
+  }
+
+  /**@see Function#invokeInt(DynamicObject, FunctionType)*/
+  default float invokeFloat(DynamicObject<S> self, FunctionType type, float a0, float a1){
+    return ((Number) invoke2(self, type, a0, a1)).floatValue();
+  }
+
+  /**@see Function#invokeInt(DynamicObject, FunctionType)*/
+  default void invokeVoid(DynamicObject<S> self, FunctionType type, float a0){
+    invoke1(self, type, a0);
+  }
+
+  /**@see Function#invokeInt(DynamicObject, FunctionType)*/
+  default double invokeDouble(DynamicObject<S> self, FunctionType type){
+    return ((Number) invoke0(self, type)).doubleValue();
+  }
+
+  /**@see Function#invokeInt(DynamicObject, FunctionType)*/
+  default double invokeDouble(DynamicObject<S> self, FunctionType type, double a0){
+    return ((Number) invoke1(self, type, a0)).doubleValue();
+  }
+
+  /**@see Function#invokeInt(DynamicObject, FunctionType)*/
+  default double invokeDouble(DynamicObject<S> self, FunctionType type, double a0, double a1){
+    return ((Number) invoke2(self, type, a0, a1)).doubleValue();
+  }
+
+  /**@see Function#invokeInt(DynamicObject, FunctionType)*/
+  default void invokeVoid(DynamicObject<S> self, FunctionType type, double a0){
+    invoke1(self, type, a0);
+  }
+
+  /**@see Function#invokeInt(DynamicObject, FunctionType)*/
+  default boolean invokeBoolean(DynamicObject<S> self, FunctionType type){
+    return (Boolean) invoke0(self, type);
+  }
+
+  /**@see Function#invokeInt(DynamicObject, FunctionType)*/
+  default boolean invokeBoolean(DynamicObject<S> self, FunctionType type, boolean a0){
+    return (Boolean) invoke1(self, type, a0);
+  }
+
+  /**@see Function#invokeInt(DynamicObject, FunctionType)*/
+  default boolean invokeBoolean(DynamicObject<S> self, FunctionType type, boolean a0, boolean a1){
+    return (Boolean) invoke2(self, type, a0, a1);
+  }
+
+  /**@see Function#invokeInt(DynamicObject, FunctionType)*/
+  default void invokeVoid(DynamicObject<S> self, FunctionType type, boolean a0){
+    invoke1(self, type, a0);
+  }
+
   interface NonRetFunction<S>{
     void invoke(DynamicObject<S> self, ArgumentList args);
   }
@@ -31,4 +224,546 @@ public interface Function<S, R>{
     void invoke(DynamicObject<S> self, DataPool.ReadOnlyPool superPointer, ArgumentList args);
   }
 
+  /**定长参数的函数，以此类接口描述的函数在以相同数量的实参调用时不会产生参数表，实参直接传递给函数。
+   * <p>以{@link ArgumentList}调用时，会从参数表中依次取出实参*/
+  @FunctionalInterface
+  interface Function0<S, R> extends Function<S, R>{
+    R invoke(DynamicObject<S> self);
+
+    @Override
+    default R invoke(DynamicObject<S> self, ArgumentList args){
+      return invoke(self);
+    }
+
+    @Override
+    default R invoke0(DynamicObject<S> self, FunctionType type){
+      return invoke(self);
+    }
+  }
+
+  /**@see Function0*/
+  @FunctionalInterface
+  interface Function1<S, R> extends Function<S, R>{
+    R invoke(DynamicObject<S> self, Object a0);
+
+    @Override
+    default R invoke(DynamicObject<S> self, ArgumentList args){
+      return invoke(self, args.<Object>get(0));
+    }
+
+    @Override
+    default R invoke1(DynamicObject<S> self, FunctionType type, Object a0){
+      return invoke(self, a0);
+    }
+  }
+
+  /**@see Function0*/
+  @FunctionalInterface
+  interface Function2<S, R> extends Function<S, R>{
+    R invoke(DynamicObject<S> self, Object a0, Object a1);
+
+    @Override
+    default R invoke(DynamicObject<S> self, ArgumentList args){
+      return invoke(self, args.<Object>get(0), args.<Object>get(1));
+    }
+
+    @Override
+    default R invoke2(DynamicObject<S> self, FunctionType type, Object a0, Object a1){
+      return invoke(self, a0, a1);
+    }
+  }
+
+  /**@see Function0*/
+  @FunctionalInterface
+  interface Function3<S, R> extends Function<S, R>{
+    R invoke(DynamicObject<S> self, Object a0, Object a1, Object a2);
+
+    @Override
+    default R invoke(DynamicObject<S> self, ArgumentList args){
+      return invoke(self, args.<Object>get(0), args.<Object>get(1), args.<Object>get(2));
+    }
+
+    @Override
+    default R invoke3(DynamicObject<S> self, FunctionType type, Object a0, Object a1, Object a2){
+      return invoke(self, a0, a1, a2);
+    }
+  }
+
+  /**@see Function0*/
+  @FunctionalInterface
+  interface Function4<S, R> extends Function<S, R>{
+    R invoke(DynamicObject<S> self, Object a0, Object a1, Object a2, Object a3);
+
+    @Override
+    default R invoke(DynamicObject<S> self, ArgumentList args){
+      return invoke(self, args.<Object>get(0), args.<Object>get(1), args.<Object>get(2), args.<Object>get(3));
+    }
+
+    @Override
+    default R invoke4(DynamicObject<S> self, FunctionType type, Object a0, Object a1, Object a2, Object a3){
+      return invoke(self, a0, a1, a2, a3);
+    }
+  }
+
+  /**@see Function0*/
+  @FunctionalInterface
+  interface Function5<S, R> extends Function<S, R>{
+    R invoke(DynamicObject<S> self, Object a0, Object a1, Object a2, Object a3, Object a4);
+
+    @Override
+    default R invoke(DynamicObject<S> self, ArgumentList args){
+      return invoke(self, args.<Object>get(0), args.<Object>get(1), args.<Object>get(2), args.<Object>get(3), args.<Object>get(4));
+    }
+
+    @Override
+    default R invoke5(DynamicObject<S> self, FunctionType type, Object a0, Object a1, Object a2, Object a3, Object a4){
+      return invoke(self, a0, a1, a2, a3, a4);
+    }
+  }
+
+  /**@see Function0*/
+  @FunctionalInterface
+  interface Function6<S, R> extends Function<S, R>{
+    R invoke(DynamicObject<S> self, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5);
+
+    @Override
+    default R invoke(DynamicObject<S> self, ArgumentList args){
+      return invoke(self, args.<Object>get(0), args.<Object>get(1), args.<Object>get(2), args.<Object>get(3), args.<Object>get(4), args.<Object>get(5));
+    }
+
+    @Override
+    default R invoke6(DynamicObject<S> self, FunctionType type, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5){
+      return invoke(self, a0, a1, a2, a3, a4, a5);
+    }
+  }
+
+  /**返回int的无参函数，以特化的形式调用时不会发生装箱*/
+  @FunctionalInterface
+  interface IntGetter<S> extends Function<S, Integer>{
+    int get(DynamicObject<S> self);
+
+    @Override
+    default Integer invoke(DynamicObject<S> self, ArgumentList args){
+      return get(self);
+    }
+
+    @Override
+    default Integer invoke0(DynamicObject<S> self, FunctionType type){
+      return get(self);
+    }
+
+    @Override
+    default int invokeInt(DynamicObject<S> self, FunctionType type){
+      return get(self);
+    }
+  }
+
+  /**接收一个int参数且没有返回值的函数，以特化的形式调用时不会发生装箱*/
+  @FunctionalInterface
+  interface IntConsumer<S> extends Function<S, Void>{
+    void accept(DynamicObject<S> self, int a0);
+
+    @Override
+    default Void invoke(DynamicObject<S> self, ArgumentList args){
+      accept(self, args.<Number>get(0).intValue());
+      return null;
+    }
+
+    @Override
+    default Void invoke1(DynamicObject<S> self, FunctionType type, Object a0){
+      accept(self, ((Number) a0).intValue());
+      return null;
+    }
+
+    @Override
+    default void invokeVoid(DynamicObject<S> self, FunctionType type, int a0){
+      accept(self, a0);
+    }
+  }
+
+  /**参数与返回值均为int的一元函数，以特化的形式调用时不会发生装箱*/
+  @FunctionalInterface
+  interface IntUnary<S> extends Function<S, Integer>{
+    int apply(DynamicObject<S> self, int a0);
+
+    @Override
+    default Integer invoke(DynamicObject<S> self, ArgumentList args){
+      return apply(self, args.<Number>get(0).intValue());
+    }
+
+    @Override
+    default Integer invoke1(DynamicObject<S> self, FunctionType type, Object a0){
+      return apply(self, ((Number) a0).intValue());
+    }
+
+    @Override
+    default int invokeInt(DynamicObject<S> self, FunctionType type, int a0){
+      return apply(self, a0);
+    }
+  }
+
+  /**参数与返回值均为int的二元函数，以特化的形式调用时不会发生装箱*/
+  @FunctionalInterface
+  interface IntBinary<S> extends Function<S, Integer>{
+    int apply(DynamicObject<S> self, int a0, int a1);
+
+    @Override
+    default Integer invoke(DynamicObject<S> self, ArgumentList args){
+      return apply(self, args.<Number>get(0).intValue(), args.<Number>get(1).intValue());
+    }
+
+    @Override
+    default Integer invoke2(DynamicObject<S> self, FunctionType type, Object a0, Object a1){
+      return apply(self, ((Number) a0).intValue(), ((Number) a1).intValue());
+    }
+
+    @Override
+    default int invokeInt(DynamicObject<S> self, FunctionType type, int a0, int a1){
+      return apply(self, a0, a1);
+    }
+  }
+
+  /**@see IntGetter*/
+  @FunctionalInterface
+  interface LongGetter<S> extends Function<S, Long>{
+    long get(DynamicObject<S> self);
+
+    @Override
+    default Long invoke(DynamicObject<S> self, ArgumentList args){
+      return get(self);
+    }
+
+    @Override
+    default Long invoke0(DynamicObject<S> self, FunctionType type){
+      return get(self);
+    }
+
+    @Override
+    default long invokeLong(DynamicObject<S> self, FunctionType type){
+      return get(self);
+    }
+  }
+
+  /**@see IntConsumer*/
+  @FunctionalInterface
+  interface LongConsumer<S> extends Function<S, Void>{
+    void accept(DynamicObject<S> self, long a0);
+
+    @Override
+    default Void invoke(DynamicObject<S> self, ArgumentList args){
+      accept(self, args.<Number>get(0).longValue());
+      return null;
+    }
+
+    @Override
+    default Void invoke1(DynamicObject<S> self, FunctionType type, Object a0){
+      accept(self, ((Number) a0).longValue());
+      return null;
+    }
+
+    @Override
+    default void invokeVoid(DynamicObject<S> self, FunctionType type, long a0){
+      accept(self, a0);
+    }
+  }
+
+  /**@see IntUnary*/
+  @FunctionalInterface
+  interface LongUnary<S> extends Function<S, Long>{
+    long apply(DynamicObject<S> self, long a0);
+
+    @Override
+    default Long invoke(DynamicObject<S> self, ArgumentList args){
+      return apply(self, args.<Number>get(0).longValue());
+    }
+
+    @Override
+    default Long invoke1(DynamicObject<S> self, FunctionType type, Object a0){
+      return apply(self, ((Number) a0).longValue());
+    }
+
+    @Override
+    default long invokeLong(DynamicObject<S> self, FunctionType type, long a0){
+      return apply(self, a0);
+    }
+  }
+
+  /**@see IntBinary*/
+  @FunctionalInterface
+  interface LongBinary<S> extends Function<S, Long>{
+    long apply(DynamicObject<S> self, long a0, long a1);
+
+    @Override
+    default Long invoke(DynamicObject<S> self, ArgumentList args){
+      return apply(self, args.<Number>get(0).longValue(), args.<Number>get(1).longValue());
+    }
+
+    @Override
+    default Long invoke2(DynamicObject<S> self, FunctionType type, Object a0, Object a1){
+      return apply(self, ((Number) a0).longValue(), ((Number) a1).longValue());
+    }
+
+    @Override
+    default long invokeLong(DynamicObject<S> self, FunctionType type, long a0, long a1){
+      return apply(self, a0, a1);
+    }
+  }
+
+  /**@see IntGetter*/
+  @FunctionalInterface
+  interface FloatGetter<S> extends Function<S, Float>{
+    float get(DynamicObject<S> self);
+
+    @Override
+    default Float invoke(DynamicObject<S> self, ArgumentList args){
+      return get(self);
+    }
+
+    @Override
+    default Float invoke0(DynamicObject<S> self, FunctionType type){
+      return get(self);
+    }
+
+    @Override
+    default float invokeFloat(DynamicObject<S> self, FunctionType type){
+      return get(self);
+    }
+  }
+
+  /**@see IntConsumer*/
+  @FunctionalInterface
+  interface FloatConsumer<S> extends Function<S, Void>{
+    void accept(DynamicObject<S> self, float a0);
+
+    @Override
+    default Void invoke(DynamicObject<S> self, ArgumentList args){
+      accept(self, args.<Number>get(0).floatValue());
+      return null;
+    }
+
+    @Override
+    default Void invoke1(DynamicObject<S> self, FunctionType type, Object a0){
+      accept(self, ((Number) a0).floatValue());
+      return null;
+    }
+
+    @Override
+    default void invokeVoid(DynamicObject<S> self, FunctionType type, float a0){
+      accept(self, a0);
+    }
+  }
+
+  /**@see IntUnary*/
+  @FunctionalInterface
+  interface FloatUnary<S> extends Function<S, Float>{
+    float apply(DynamicObject<S> self, float a0);
+
+    @Override
+    default Float invoke(DynamicObject<S> self, ArgumentList args){
+      return apply(self, args.<Number>get(0).floatValue());
+    }
+
+    @Override
+    default Float invoke1(DynamicObject<S> self, FunctionType type, Object a0){
+      return apply(self, ((Number) a0).floatValue());
+    }
+
+    @Override
+    default float invokeFloat(DynamicObject<S> self, FunctionType type, float a0){
+      return apply(self, a0);
+    }
+  }
+
+  /**@see IntBinary*/
+  @FunctionalInterface
+  interface FloatBinary<S> extends Function<S, Float>{
+    float apply(DynamicObject<S> self, float a0, float a1);
+
+    @Override
+    default Float invoke(DynamicObject<S> self, ArgumentList args){
+      return apply(self, args.<Number>get(0).floatValue(), args.<Number>get(1).floatValue());
+    }
+
+    @Override
+    default Float invoke2(DynamicObject<S> self, FunctionType type, Object a0, Object a1){
+      return apply(self, ((Number) a0).floatValue(), ((Number) a1).floatValue());
+    }
+
+    @Override
+    default float invokeFloat(DynamicObject<S> self, FunctionType type, float a0, float a1){
+      return apply(self, a0, a1);
+    }
+  }
+
+  /**@see IntGetter*/
+  @FunctionalInterface
+  interface DoubleGetter<S> extends Function<S, Double>{
+    double get(DynamicObject<S> self);
+
+    @Override
+    default Double invoke(DynamicObject<S> self, ArgumentList args){
+      return get(self);
+    }
+
+    @Override
+    default Double invoke0(DynamicObject<S> self, FunctionType type){
+      return get(self);
+    }
+
+    @Override
+    default double invokeDouble(DynamicObject<S> self, FunctionType type){
+      return get(self);
+    }
+  }
+
+  /**@see IntConsumer*/
+  @FunctionalInterface
+  interface DoubleConsumer<S> extends Function<S, Void>{
+    void accept(DynamicObject<S> self, double a0);
+
+    @Override
+    default Void invoke(DynamicObject<S> self, ArgumentList args){
+      accept(self, args.<Number>get(0).doubleValue());
+      return null;
+    }
+
+    @Override
+    default Void invoke1(DynamicObject<S> self, FunctionType type, Object a0){
+      accept(self, ((Number) a0).doubleValue());
+      return null;
+    }
+
+    @Override
+    default void invokeVoid(DynamicObject<S> self, FunctionType type, double a0){
+      accept(self, a0);
+    }
+  }
+
+  /**@see IntUnary*/
+  @FunctionalInterface
+  interface DoubleUnary<S> extends Function<S, Double>{
+    double apply(DynamicObject<S> self, double a0);
+
+    @Override
+    default Double invoke(DynamicObject<S> self, ArgumentList args){
+      return apply(self, args.<Number>get(0).doubleValue());
+    }
+
+    @Override
+    default Double invoke1(DynamicObject<S> self, FunctionType type, Object a0){
+      return apply(self, ((Number) a0).doubleValue());
+    }
+
+    @Override
+    default double invokeDouble(DynamicObject<S> self, FunctionType type, double a0){
+      return apply(self, a0);
+    }
+  }
+
+  /**@see IntBinary*/
+  @FunctionalInterface
+  interface DoubleBinary<S> extends Function<S, Double>{
+    double apply(DynamicObject<S> self, double a0, double a1);
+
+    @Override
+    default Double invoke(DynamicObject<S> self, ArgumentList args){
+      return apply(self, args.<Number>get(0).doubleValue(), args.<Number>get(1).doubleValue());
+    }
+
+    @Override
+    default Double invoke2(DynamicObject<S> self, FunctionType type, Object a0, Object a1){
+      return apply(self, ((Number) a0).doubleValue(), ((Number) a1).doubleValue());
+    }
+
+    @Override
+    default double invokeDouble(DynamicObject<S> self, FunctionType type, double a0, double a1){
+      return apply(self, a0, a1);
+    }
+  }
+
+  /**@see IntGetter*/
+  @FunctionalInterface
+  interface BooleanGetter<S> extends Function<S, Boolean>{
+    boolean get(DynamicObject<S> self);
+
+    @Override
+    default Boolean invoke(DynamicObject<S> self, ArgumentList args){
+      return get(self);
+    }
+
+    @Override
+    default Boolean invoke0(DynamicObject<S> self, FunctionType type){
+      return get(self);
+    }
+
+    @Override
+    default boolean invokeBoolean(DynamicObject<S> self, FunctionType type){
+      return get(self);
+    }
+  }
+
+  /**@see IntConsumer*/
+  @FunctionalInterface
+  interface BooleanConsumer<S> extends Function<S, Void>{
+    void accept(DynamicObject<S> self, boolean a0);
+
+    @Override
+    default Void invoke(DynamicObject<S> self, ArgumentList args){
+      accept(self, args.<Boolean>get(0));
+      return null;
+    }
+
+    @Override
+    default Void invoke1(DynamicObject<S> self, FunctionType type, Object a0){
+      accept(self, (Boolean) a0);
+      return null;
+    }
+
+    @Override
+    default void invokeVoid(DynamicObject<S> self, FunctionType type, boolean a0){
+      accept(self, a0);
+    }
+  }
+
+  /**@see IntUnary*/
+  @FunctionalInterface
+  interface BooleanUnary<S> extends Function<S, Boolean>{
+    boolean apply(DynamicObject<S> self, boolean a0);
+
+    @Override
+    default Boolean invoke(DynamicObject<S> self, ArgumentList args){
+      return apply(self, args.<Boolean>get(0));
+    }
+
+    @Override
+    default Boolean invoke1(DynamicObject<S> self, FunctionType type, Object a0){
+      return apply(self, (Boolean) a0);
+    }
+
+    @Override
+    default boolean invokeBoolean(DynamicObject<S> self, FunctionType type, boolean a0){
+      return apply(self, a0);
+    }
+  }
+
+  /**@see IntBinary*/
+  @FunctionalInterface
+  interface BooleanBinary<S> extends Function<S, Boolean>{
+    boolean apply(DynamicObject<S> self, boolean a0, boolean a1);
+
+    @Override
+    default Boolean invoke(DynamicObject<S> self, ArgumentList args){
+      return apply(self, args.<Boolean>get(0), args.<Boolean>get(1));
+    }
+
+    @Override
+    default Boolean invoke2(DynamicObject<S> self, FunctionType type, Object a0, Object a1){
+      return apply(self, (Boolean) a0, (Boolean) a1);
+    }
+
+    @Override
+    default boolean invokeBoolean(DynamicObject<S> self, FunctionType type, boolean a0, boolean a1){
+      return apply(self, a0, a1);
+    }
+  }
 }
@@ -0,0 +1,210 @@
+package dynamilize;
+
+import java.lang.invoke.*;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**委托方法以invokedynamic模式生成时使用的动态调用点，由{@link FunctionCallSite#bootstrap(MethodHandles.Lookup, String, MethodType)}引导创建。
+ * <p>调用点首次执行时从接收者的数据池中选择函数，并将调用目标直接链接到选中的函数上，链接的目标受两重保护：
+ * <ul>
+ * <li>接收者的java类型与数据池的{@linkplain DataPool#selectKey() 等效池}必须与链接时一致，否则重新链接
+ * <li>链接目标依赖于等效池的{@linkplain DataPool#switchPoint() 开关点}与其所在层次结构的{@linkplain DataPool#hierarchySwitchPoint() 开关点}，
+ * 等效池或其父池中的函数发生变更后链接会失效并在下次调用时重新选择，其他层次结构中的函数变更不会影响此链接
+ * </ul>
+ * 在函数保持稳定的情况下，链接的目标对于即时编译器而言是常量，被调用的函数可以被内联至调用方。若选中的函数就是委托类型自身的方法，则直接链接到调用超类方法的入口。
+ * <p>若调用点的接收者频繁变化，重新链接的次数超过{@link FunctionCallSite#MAX_RELINK}后，调用点将退化为使用{@linkplain InlineCache 调用点缓存}进行分派*/
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class FunctionCallSite extends MutableCallSite{
+  /**调用点退化为调用点缓存前允许的重新链接次数，可通过系统属性{@code dynamilize.maxRelink}设置*/
+  public static final int MAX_RELINK = Integer.getInteger("dynamilize.maxRelink", 8);
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private static final MethodHandle RELINK;
+  private static final MethodHandle CHECK;
+  private static final MethodHandle INVOKE;
+  private static final MethodHandle INVOKE_CACHE;
+  private static final MethodHandle[] INVOKE_ARITY = new MethodHandle[InlineCache.MAX_ARITY + 1];
+  private static final MethodHandle[] INVOKE_CACHE_ARITY = new MethodHandle[InlineCache.MAX_ARITY + 1];
+
+  static {
+    try{
+      MethodHandles.Lookup lookup = LOOKUP;
+      RELINK = lookup.findVirtual(FunctionCallSite.class, "relink", methodType(Object.class, Object[].class));
+      CHECK = lookup.findStatic(FunctionCallSite.class, "check", methodType(boolean.class, Class.class, DataPool.class, DataPool.class, Object.class));
+      INVOKE = lookup.findStatic(FunctionCallSite.class, "invoke", methodType(Object.class, Function.class, FunctionType.class, DynamicObject.class, Object[].class));
+      INVOKE_CACHE = lookup.findStatic(FunctionCallSite.class, "invoke", methodType(Object.class, InlineCache.class, DataPool.class, DynamicObject.class, Object[].class));
+
+      for(int i = 0; i <= InlineCache.MAX_ARITY; i++){
+        MethodType args = MethodType.genericMethodType(i);
+        INVOKE_ARITY[i] = lookup.findVirtual(Function.class, "invoke" + i, args.insertParameterTypes(0, DynamicObject.class, FunctionType.class));
+        INVOKE_CACHE_ARITY[i] = lookup.findVirtual(InlineCache.class, "invoke" + i, args.insertParameterTypes(0, DynamicObject.class, DataPool.class));
+      }
+    }catch(NoSuchMethodException|IllegalAccessException e){
+      throw new RuntimeException(e);
+    }
+  }
+
+  private final String name;
+  private final int id;
+  private final FunctionType type;
+  private final int argCount;
+
+  private final MethodHandle poolGetter;
+  private final MethodHandle fallback;
+  private final MethodHandle functionInvoker;
+  private final MethodHandle cacheInvoker;
+  private final Class<?> owner;
+  private final MethodHandle superInvoker;
+
+  private SwitchPoint linked, linkedHierarchy;
+  private InlineCache cache;
+  private int relinkCount;
+
+  private FunctionCallSite(MethodHandles.Lookup lookup, String name, MethodType type) throws NoSuchFieldException, NoSuchMethodException, IllegalAccessException{
+    super(type);
+    this.name = name;
+    this.id = SymbolTable.FUNCTIONS.id(name);
+    this.type = FunctionType.inst(type.dropParameterTypes(0, 1).parameterArray());
+    this.argCount = type.parameterCount() - 1;
+
+    poolGetter = lookup.findGetter(lookup.lookupClass(), "$datapool$", DataPool.class)
+        .asType(methodType(DataPool.class, type.parameterType(0)));
+    fallback = RELINK.bindTo(this).asCollector(Object[].class, type.parameterCount()).asType(type);
+
+    //签名为基本类型特化形式时链接到特化的调用方法，否则参数数量允许时链接到定长的调用方法，两者均不可用时才以实参数组调用
+    MethodType args = type.dropParameterTypes(0, 1);
+    String specialized = InlineCache.specialized(args.returnType(), args.parameterArray());
+    if(specialized != null){
+      functionInvoker = LOOKUP.findVirtual(Function.class, specialized, args.insertParameterTypes(0, DynamicObject.class, FunctionType.class));
+      cacheInvoker = LOOKUP.findVirtual(InlineCache.class, specialized, args.insertParameterTypes(0, DynamicObject.class, DataPool.class));
+    }
+    else if(argCount <= InlineCache.MAX_ARITY){
+      functionInvoker = INVOKE_ARITY[argCount];
+      cacheInvoker = INVOKE_CACHE_ARITY[argCount];
+    }
+    else{
+      functionInvoker = null;
+      cacheInvoker = null;
+    }
+
+    //委托类型中调用超类方法的入口，选中的函数为委托类型自身的方法时直接链接到超类方法，不经过函数与invokeSuper的分派
+    owner = lookup.lookupClass();
+    MethodHandle superMethod;
+    try{
+      superMethod = lookup.findVirtual(owner, name + DynamicMaker.CALLSUPER, args).asType(type);
+    }catch(NoSuchMethodException e){
+      superMethod = null;
+    }
+    superInvoker = superMethod;
+
+    setTarget(fallback);
+  }
+
+  /**动态调用点的引导方法，由生成的委托方法中的invokedynamic指令调用，调用点的第一个参数为接收调用的动态对象，其余参数为函数的实参
+   *
+   * @param lookup 委托类型的查找对象，用于访问委托类型的数据池字段
+   * @param name 函数名称
+   * @param type 调用点的类型
+   * @return 链接到函数的调用点*/
+  public static CallSite bootstrap(MethodHandles.Lookup lookup, String name, MethodType type) throws NoSuchFieldException, NoSuchMethodException, IllegalAccessException{
+    return new FunctionCallSite(lookup, name, type);
+  }
+
+  private Object relink(Object[] args) throws Throwable{
+    DynamicObject<?> self = (DynamicObject<?>) args[0];
+    DataPool pool = (DataPool) poolGetter.invoke(self);
+
+    Object[] realArgs = new Object[argCount];
+    System.arraycopy(args, 1, realArgs, 0, argCount);
+
+    IFunctionEntry entry = link(self, pool);
+    return entry == null? cache.invoke(self, pool, realArgs): invoke(entry.getFunction(), type, self, realArgs);
+  }
+
+  private synchronized IFunctionEntry link(DynamicObject<?> self, DataPool pool){
+    if(cache != null) return null;
+
+    //开关点必须在选择函数之前获取，以保证选择期间发生的变更会使本次链接失效
+    DataPool key = pool.selectKey();
+    SwitchPoint switchPoint = key.switchPoint();
+    SwitchPoint hierarchy = key.hierarchySwitchPoint();
+    IFunctionEntry entry = pool.select(id, type);
+    if(entry == null)
+      throw new IllegalHandleException("no such function: " + name + type);
+
+    //仅由接收者变化引起的重新链接才会被计数，函数变更导致的失效不计入
+    if(linked != null && !linked.hasBeenInvalidated() && !linkedHierarchy.hasBeenInvalidated()) relinkCount++;
+
+    if(relinkCount >= MAX_RELINK){
+      cache = new InlineCache(name, type);
+      setTarget(makeCacheTarget(cache));
+    }
+    else{
+      linked = switchPoint;
+      linkedHierarchy = hierarchy;
+      MethodHandle target = makeGuardedTarget(self.getClass(), key, entry);
+      setTarget(switchPoint.guardWithTest(hierarchy.guardWithTest(target, fallback), fallback));
+    }
+
+    return entry;
+  }
+
+  private MethodHandle makeGuardedTarget(Class<?> clazz, DataPool key, IFunctionEntry entry){
+    MethodType siteType = type();
+
+    MethodHandle test = MethodHandles.insertArguments(CHECK, 0, clazz, key)
+        .asType(methodType(boolean.class, DataPool.class, siteType.parameterType(0)));
+    test = MethodHandles.foldArguments(test, poolGetter);
+    test = MethodHandles.dropArguments(test, 1, siteType.dropParameterTypes(0, 1).parameterList());
+
+    MethodHandle target;
+    if(superInvoker != null && clazz == owner && entry.owner().isDelegate() && entry.getType() == type) target = superInvoker;
+    else target = functionInvoker != null
+        ? MethodHandles.insertArguments(functionInvoker.bindTo(entry.getFunction()), 1, type).asType(siteType)
+        : MethodHandles.insertArguments(INVOKE, 0, entry.getFunction(), type).asCollector(Object[].class, argCount).asType(siteType);
+
+    return MethodHandles.guardWithTest(test, target, fallback);
+  }
+
+  private MethodHandle makeCacheTarget(InlineCache cache){
+    MethodType siteType = type();
+
+    MethodType targetType = siteType.insertParameterTypes(0, DataPool.class);
+    MethodHandle target = cacheInvoker != null
+        ? poolFirst(cacheInvoker.bindTo(cache)).asType(targetType)
+        : MethodHandles.insertArguments(INVOKE_CACHE, 0, cache).asCollector(Object[].class, argCount).asType(targetType);
+
+    return MethodHandles.foldArguments(target, poolGetter);
+  }
+
+  //定长的缓存调用方法以接收者为首个参数，而折叠数据池获取器后数据池位于首位，需要交换前两个参数
+  private static MethodHandle poolFirst(MethodHandle invoker){
+    int[] reorder = new int[invoker.type().parameterCount()];
+    for(int i = 0; i < reorder.length; i++){
+      reorder[i] = i;
+    }
+    reorder[0] = 1;
+    reorder[1] = 0;
+
+    MethodType swapped = invoker.type()
+        .changeParameterType(0, DataPool.class)
+        .changeParameterType(1, DynamicObject.class);
+    return MethodHandles.permuteArguments(invoker, swapped, reorder);
+  }
+
+  private static boolean check(Class<?> clazz, DataPool key, DataPool pool, Object self){
+    return self.getClass() == clazz && pool.selectKey() == key;
+  }
+
+  private static Object invoke(Function function, FunctionType type, DynamicObject self, Object[] args){
+    ArgumentList lis = ArgumentList.asWithType(type, args);
+    Object res = function.invoke(self, lis);
+    lis.recycle();
+    return res;
+  }
+
+  private static Object invoke(InlineCache cache, DataPool pool, DynamicObject self, Object[] args){
+    return cache.invoke(self, pool, args);
+  }
+}
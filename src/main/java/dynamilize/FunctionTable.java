@@ -0,0 +1,181 @@
+package dynamilize;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**动态类型的扁平化函数表，将一个{@linkplain DynamicClass 动态类}整个继承链上的函数与委托基类的函数一次性展开为以{@linkplain SymbolTable#FUNCTIONS 函数名称标识}索引的表，
+ * 选择函数时不再需要沿父池逐级查找，查找的开销与动态类型的继承深度无关。
+ * <p>函数表的选择规则与{@link DataPool#select(String, FunctionType)}在池层次结构上逐级查找的结果完全一致，即依次进行：
+ * <ol>
+ * <li>在动态类继承链中由近到远查找签名相同的函数
+ * <li>在动态类继承链中由近到远查找签名匹配的函数
+ * <li>在委托基类的池中查找签名相同的函数
+ * <li>在委托基类的池中查找签名匹配的函数
+ * </ol>
+ * 函数表由动态类按需构建，并记录构建时动态类的函数版本，当继承链上任意动态类的函数发生变更后，函数表会在下一次使用时重建。
+ * <p>委托基类的池在生成后即不再变更，因此其内容在构建时即固定在函数表中。
+ * <p>没有签名相同的函数时，需要逐个对重载函数进行签名匹配，这通常发生在实参为形参的子类或者为null时。函数表会以实参类型为键缓存匹配的结果，
+ * 未能匹配的结果也同样会被缓存，函数表重建时缓存随之失效，每个函数名称最多缓存{@link FunctionTable#MAX_RESOLVED}种实参类型，
+ * 超出时清空此名称的缓存重新开始记录，使缓存能够跟随调用方使用的实参类型的变化。
+ * 上限可通过系统属性{@code dynamilize.maxResolved}设置。*/
+public class FunctionTable{
+  public static final int MAX_RESOLVED = Integer.getInteger("dynamilize.maxResolved", 256);
+
+  private static final IFunctionEntry[] EMPTY = new IFunctionEntry[0];
+  private static final IFunctionEntry UNRESOLVED = new FunctionEntry<>("<unresolved>", false, (s, a) -> null, FunctionType.inst(), null);
+
+  private final int version;
+  private final Entry[] entries;
+
+  /**以继承链上由近到远的池构建函数表
+   *
+   * @param version 构建时动态类的函数版本
+   * @param pools 动态类继承链上由近到远排列的池
+   * @param basePool 委托基类的池，可以为null*/
+  public FunctionTable(int version, List<DataPool> pools, DataPool basePool){
+    this.version = version;
+
+    int bound = basePool == null? 0: basePool.functionBound();
+    for(DataPool pool: pools){
+      bound = Math.max(bound, pool.functionBound());
+    }
+
+    Builder[] builders = new Builder[bound];
+    for(DataPool pool: pools){
+      collect(builders, pool, false);
+    }
+    if(basePool != null) collect(builders, basePool, true);
+
+    entries = new Entry[bound];
+    for(int i = 0; i < bound; i++){
+      if(builders[i] != null) entries[i] = builders[i].build();
+    }
+  }
+
+  private static void collect(Builder[] builders, DataPool pool, boolean base){
+    SymbolMap<Map<FunctionType, IFunctionEntry>> functions = pool.functionMaps();
+    for(int i = 0; i < functions.capacity(); i++){
+      int id = functions.idAt(i);
+      if(id < 0) continue;
+
+      Map<FunctionType, IFunctionEntry> map = functions.valueAt(i);
+
+      if(builders[id] == null) builders[id] = new Builder();
+      builders[id].add(map, base);
+    }
+  }
+
+  /**获取构建此函数表时动态类的函数版本*/
+  public int version(){
+    return version;
+  }
+
+  /**动态类继承链上是否设置过此名称的函数，若没有，则此名称的函数只可能选中委托基类的方法
+   *
+   * @param id 函数名称的标识
+   * @return 此名称的函数是否被动态类型重写过*/
+  public boolean isOverridden(int id){
+    Entry entry = id < entries.length? entries[id]: null;
+    return entry != null && entry.candidates.length > 0;
+  }
+
+  /**从函数表中选择函数，规则与{@link DataPool#select(String, FunctionType)}一致
+   *
+   * @param name 函数名称
+   * @param type 函数的参数类型
+   * @return 选中函数的函数入口，若没有则返回null*/
+  public IFunctionEntry select(String name, FunctionType type){
+    int id = SymbolTable.FUNCTIONS.lookup(name);
+    return id < 0? null: select(id, type, null);
+  }
+
+  /**从函数表中选择函数，同时给出一组优先级高于此表的函数，这通常是动态对象的实例自身设置的函数
+   *
+   * @param id 函数名称的标识
+   * @param type 函数的参数类型
+   * @param local 优先于此表中的函数的同名函数，可以为null
+   * @return 选中函数的函数入口，若没有则返回null*/
+  public IFunctionEntry select(int id, FunctionType type, Map<FunctionType, IFunctionEntry> local){
+    Entry entry = id < entries.length? entries[id]: null;
+    IFunctionEntry res;
+
+    if(local != null){
+      res = local.get(type);
+      if(res != null) return res;
+    }
+
+    if(entry != null){
+      res = entry.exact.get(type);
+      if(res != null) return res;
+    }
+
+    if(local != null){
+      for(Map.Entry<FunctionType, IFunctionEntry> e: local.entrySet()){
+        if(e.getKey().match(type.types())) return e.getValue();
+      }
+    }
+
+    return entry == null? null: entry.resolve(type);
+  }
+
+  private static class Entry{
+    final HashMap<FunctionType, IFunctionEntry> exact;
+    final IFunctionEntry[] candidates;
+    final HashMap<FunctionType, IFunctionEntry> baseExact;
+    final IFunctionEntry[] baseCandidates;
+
+    final ConcurrentHashMap<FunctionType, IFunctionEntry> resolved = new ConcurrentHashMap<>();
+
+    Entry(HashMap<FunctionType, IFunctionEntry> exact, IFunctionEntry[] candidates,
+          HashMap<FunctionType, IFunctionEntry> baseExact, IFunctionEntry[] baseCandidates){
+      this.exact = exact;
+      this.candidates = candidates;
+      this.baseExact = baseExact;
+      this.baseCandidates = baseCandidates;
+    }
+
+    IFunctionEntry resolve(FunctionType type){
+      IFunctionEntry res = resolved.get(type);
+      if(res != null) return res == UNRESOLVED? null: res;
+
+      res = match(type);
+      if(resolved.size() >= MAX_RESOLVED) resolved.clear();
+      resolved.put(type, res == null? UNRESOLVED: res);
+
+      return res;
+    }
+
+    IFunctionEntry match(FunctionType type){
+      for(IFunctionEntry e: candidates){
+        if(e.getType().match(type.types())) return e;
+      }
+
+      IFunctionEntry res = baseExact.get(type);
+      if(res != null) return res;
+
+      for(IFunctionEntry e: baseCandidates){
+        if(e.getType().match(type.types())) return e;
+      }
+
+      return null;
+    }
+  }
+
+  private static class Builder{
+    final HashMap<FunctionType, IFunctionEntry> exact = new HashMap<>();
+    final ArrayList<IFunctionEntry> candidates = new ArrayList<>();
+    final HashMap<FunctionType, IFunctionEntry> baseExact = new HashMap<>();
+    final ArrayList<IFunctionEntry> baseCandidates = new ArrayList<>();
+
+    void add(Map<FunctionType, IFunctionEntry> functions, boolean base){
+      for(Map.Entry<FunctionType, IFunctionEntry> entry: functions.entrySet()){
+        (base? baseExact: exact).putIfAbsent(entry.getKey(), entry.getValue());
+        (base? baseCandidates: candidates).add(entry.getValue());
+      }
+    }
+
+    Entry build(){
+      return new Entry(exact, candidates.toArray(EMPTY), baseExact, baseCandidates.toArray(EMPTY));
+    }
+  }
+}
@@ -3,26 +3,84 @@ package dynamilize;
 import dynamilize.classmaker.ClassInfo;
 
 import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Stack;
 
+/**函数的形式参数类型表，每一种不同的参数类型组合都只存在唯一的一个不可变实例，因此类型表之间可以直接以引用比较是否相同。
+ * <p>规范实例保存在以{@link ClassValue}为节点的字典树中，从根节点开始依次以每个参数的类型选择子节点，到达的节点即持有此参数类型组合的规范实例，
+ * 获取已存在的类型表只需要逐个参数进行一次{@link ClassValue#get(Class)}，不会产生任何内存分配。
+ * <p>子节点保存在参数类型的{@link ClassValue}中，若直接保存子节点，后一个参数的类型会经由子节点的类型表引用前面的参数类型，使前面的类型的类加载器无法被卸载。
+ * 因此字典树只以弱引用保存子节点，而类型表持有自身的节点，节点持有其父节点，只要类型表仍被使用，从根节点到达它的路径就不会被回收，类型表始终是唯一的；
+ * 类型表不再被使用后，它的节点与其中的参数类型可以一同被回收，之后再次获取时会重新创建。*/
 public class FunctionType{
+  /**类型表的回收池容量，类型表已是唯一的不可变实例，不再被池化复用，此字段不再有任何作用
+   *
+   * @deprecated 类型表不再被池化复用*/
+  @Deprecated
   public static int MAX_RECYCLE = 2048;
 
   private static final Class<?>[] EMPTY = new Class[0];
-  private static final Stack<FunctionType> RECYCLE_POOL = new Stack<>();
+  private static final Node ROOT = new Node(null, EMPTY);
 
-  private Class<?>[] paramType;
-  private int hash;
+  private final Class<?>[] paramType;
+  private final int hash;
+  //类型表被使用时保证其在字典树中的路径可达
+  @SuppressWarnings("unused")
+  private final Node node;
 
-  private FunctionType(Class<?>... paramType){
+  private FunctionType(Node node, Class<?>... paramType){
+    this.node = node;
     this.paramType = paramType;
     hash = Arrays.hashCode(paramType);
   }
 
+  private static class Node{
+    final Node parent;
+    final FunctionType type;
+    final ClassValue<Child> next = new ClassValue<Child>(){
+      @Override
+      protected Child computeValue(Class<?> clazz){
+        return new Child();
+      }
+    };
+
+    Node(Node parent, Class<?>[] types){
+      this.parent = parent;
+      this.type = new FunctionType(this, types);
+    }
+
+    Node next(Class<?> clazz){
+      Child child = next.get(clazz);
+      WeakReference<Node> ref = child.ref;
+      Node res = ref == null? null: ref.get();
+      if(res != null) return res;
+
+      synchronized(child){
+        ref = child.ref;
+        res = ref == null? null: ref.get();
+        if(res == null){
+          Class<?>[] types = Arrays.copyOf(type.paramType, type.paramType.length + 1);
+          types[types.length - 1] = clazz;
+          res = new Node(this, types);
+          child.ref = new WeakReference<>(res);
+        }
+        return res;
+      }
+    }
+
+    Node arg(Object arg){
+      return next(arg == null? void.class: unwrapped(arg.getClass()));
+    }
+  }
+
+  /**保存在参数类型中的子节点槽位，只弱引用子节点，不会使参数类型引用其他类型*/
+  private static class Child{
+    volatile WeakReference<Node> ref;
+  }
+
   //此类存在频繁的调用，数据量小，使用流处理数据会产生不必要的性能花销，使用for遍历取代流处理
   public static Class<?>[] wrapper(Class<?>... clazz){
     for(int i = 0; i < clazz.length; i++){
@@ -66,16 +124,63 @@ public class FunctionType{
     return inst(paramType.toArray(new Class[0]));
   }
 
-  public static synchronized FunctionType inst(Class<?>... paramType){
-    if(RECYCLE_POOL.isEmpty()) return new FunctionType(paramType);
-    FunctionType res = RECYCLE_POOL.pop();
-    res.paramType = paramType;
-    res.hash = Arrays.hashCode(paramType);
-    return res;
+  /**获取给定参数类型组合的规范类型表，传入的数组不会被类型表引用
+   *
+   * @param paramType 参数类型
+   * @return 唯一的类型表实例*/
+  public static FunctionType inst(Class<?>... paramType){
+    Node node = ROOT;
+    for(Class<?> type: paramType){
+      node = node.next(type);
+    }
+    return node.type;
   }
 
+  /**获取与实参的类型相对应的规范类型表，基本类型的包装类型会被视为基本类型，null实参的类型记为void
+   *
+   * @param param 实参列表
+   * @return 唯一的类型表实例*/
   public static FunctionType inst(Object... param){
-    return inst(unwrapped(toTypes(param)));
+    Node node = ROOT;
+    for(Object arg: param){
+      node = node.arg(arg);
+    }
+    return node.type;
+  }
+
+  /**以定长的实参获取规范类型表，与{@link FunctionType#inst(Object...)}的规则相同，但不需要创建实参数组，供定长的函数调用使用*/
+  public static FunctionType ofArgs(){
+    return ROOT.type;
+  }
+
+  /**@see FunctionType#ofArgs()*/
+  public static FunctionType ofArgs(Object a0){
+    return ROOT.arg(a0).type;
+  }
+
+  /**@see FunctionType#ofArgs()*/
+  public static FunctionType ofArgs(Object a0, Object a1){
+    return ROOT.arg(a0).arg(a1).type;
+  }
+
+  /**@see FunctionType#ofArgs()*/
+  public static FunctionType ofArgs(Object a0, Object a1, Object a2){
+    return ROOT.arg(a0).arg(a1).arg(a2).type;
+  }
+
+  /**@see FunctionType#ofArgs()*/
+  public static FunctionType ofArgs(Object a0, Object a1, Object a2, Object a3){
+    return ROOT.arg(a0).arg(a1).arg(a2).arg(a3).type;
+  }
+
+  /**@see FunctionType#ofArgs()*/
+  public static FunctionType ofArgs(Object a0, Object a1, Object a2, Object a3, Object a4){
+    return ROOT.arg(a0).arg(a1).arg(a2).arg(a3).arg(a4).type;
+  }
+
+  /**@see FunctionType#ofArgs()*/
+  public static FunctionType ofArgs(Object a0, Object a1, Object a2, Object a3, Object a4, Object a5){
+    return ROOT.arg(a0).arg(a1).arg(a2).arg(a3).arg(a4).arg(a5).type;
   }
 
   public static Class<?>[] toTypes(Object... objects){
@@ -99,7 +204,7 @@ public class FunctionType{
   }
 
   public static FunctionType inst(FunctionType type){
-    return inst(type.paramType);
+    return type;
   }
 
   public static FunctionType from(MethodType type){
@@ -147,23 +252,25 @@ public class FunctionType{
     return true;
   }
 
+  /**获取参数类型的数组，返回的数组为类型表内部数组的副本，修改它不会影响类型表*/
   public Class<?>[] getTypes(){
-    return paramType;
+    return paramType.length == 0? EMPTY: paramType.clone();
   }
 
-  public void recycle(){
-    if(RECYCLE_POOL.size() >= MAX_RECYCLE) return;
-
-    paramType = EMPTY;
-    hash = -1;
-    RECYCLE_POOL.push(this);
+  /**获取类型表内部的参数类型数组，不进行复制，仅供内部在不修改数组的情况下使用*/
+  Class<?>[] types(){
+    return paramType;
   }
 
+  /**类型表已是唯一的不可变实例，不再需要回收，此方法不进行任何操作
+   *
+   * @deprecated 类型表不再被池化复用*/
+  @Deprecated
+  public void recycle(){}
+
   @Override
   public boolean equals(Object o){
-    if(this == o) return true;
-    if(!(o instanceof FunctionType that)) return false;
-    return paramType.length == that.paramType.length && hashCode() == o.hashCode();
+    return this == o;
   }
 
   @Override
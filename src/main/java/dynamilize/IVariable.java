@@ -8,4 +8,60 @@ public interface IVariable{
   <T> T get(DynamicObject<?> obj);
 
   void set(DynamicObject<?> obj, Object value);
+
+  /**以基本类型int获取变量的值，默认实现会对{@link IVariable#get(DynamicObject)}的结果拆箱，变量的值为基本类型时实现可以重写此方法以避免装箱
+   *
+   * @param obj 变量所属的动态对象
+   * @return 变量的值*/
+  default int getInt(DynamicObject<?> obj){
+    return ((Number) get(obj)).intValue();
+  }
+
+  /**以基本类型int设置变量的值，默认实现会将值装箱后传入{@link IVariable#set(DynamicObject, Object)}
+   *
+   * @param obj 变量所属的动态对象
+   * @param value 设置的值*/
+  default void setInt(DynamicObject<?> obj, int value){
+    set(obj, value);
+  }
+
+  /**@see IVariable#getInt(DynamicObject)*/
+  default long getLong(DynamicObject<?> obj){
+    return ((Number) get(obj)).longValue();
+  }
+
+  /**@see IVariable#setInt(DynamicObject, int)*/
+  default void setLong(DynamicObject<?> obj, long value){
+    set(obj, value);
+  }
+
+  /**@see IVariable#getInt(DynamicObject)*/
+  default float getFloat(DynamicObject<?> obj){
+    return ((Number) get(obj)).floatValue();
+  }
+
+  /**@see IVariable#setInt(DynamicObject, int)*/
+  default void setFloat(DynamicObject<?> obj, float value){
+    set(obj, value);
+  }
+
+  /**@see IVariable#getInt(DynamicObject)*/
+  default double getDouble(DynamicObject<?> obj){
+    return ((Number) get(obj)).doubleValue();
+  }
+
+  /**@see IVariable#setInt(DynamicObject, int)*/
+  default void setDouble(DynamicObject<?> obj, double value){
+    set(obj, value);
+  }
+
+  /**@see IVariable#getInt(DynamicObject)*/
+  default boolean getBoolean(DynamicObject<?> obj){
+    return (Boolean) get(obj);
+  }
+
+  /**@see IVariable#setInt(DynamicObject, int)*/
+  default void setBoolean(DynamicObject<?> obj, boolean value){
+    set(obj, value);
+  }
 }
@@ -3,14 +3,56 @@ package dynamilize;
 public class Initializer<T>{
   private final Producer<T> init;
   private final boolean isConst;
+  private final Class<?> type;
+  private final boolean lazy;
+  private final boolean fixed;
 
   public Initializer(Producer<T> init){
     this(init, false);
   }
 
   public Initializer(Producer<T> init, boolean isConst){
+    this(init, isConst, Object.class);
+  }
+
+  /**创建变量初始化器，并指定变量的类型，类型为基本类型时变量会以{@link PrimitiveVariable}保存
+   *
+   * @param init 生产变量初始值的工厂函数
+   * @param isConst 变量是否为常量
+   * @param type 变量的类型*/
+  public Initializer(Producer<T> init, boolean isConst, Class<?> type){
+    this(init, isConst, type, false);
+  }
+
+  /**创建变量初始化器，并指定变量的类型与是否延迟初始化
+   *
+   * @param init 生产变量初始值的工厂函数
+   * @param isConst 变量是否为常量
+   * @param type 变量的类型
+   * @param lazy 是否延迟初始化，为真时工厂函数在变量首次被读取时才会执行，基本类型的变量不支持延迟初始化
+   *
+   * @throws IllegalHandleException 若对基本类型的变量延迟初始化*/
+  public Initializer(Producer<T> init, boolean isConst, Class<?> type, boolean lazy){
+    this(init, isConst, type, lazy, false);
+  }
+
+  private Initializer(Producer<T> init, boolean isConst, Class<?> type, boolean lazy, boolean fixed){
+    if(lazy && type.isPrimitive())
+      throw new IllegalHandleException("primitive variable cannot be initialized lazily");
+
     this.init = init;
     this.isConst = isConst;
+    this.type = type;
+    this.lazy = lazy;
+    this.fixed = fixed;
+  }
+
+  /**创建以固定的值作为初始值的初始化器，所有实例的初始值都是同一个值，这样的变量的初始值被实例{@linkplain InitializerPlan 共享}，直到实例首次写入变量
+   *
+   * @param value 变量的初始值
+   * @param isConst 变量是否为常量*/
+  public static <T> Initializer<T> ofValue(T value, boolean isConst){
+    return new Initializer<>(() -> value, isConst, Object.class, false, true);
   }
 
   public Object getInit(){
@@ -21,7 +63,22 @@ public class Initializer<T>{
     return isConst;
   }
 
-  interface Producer<T>{
+  /**初始值是否为{@linkplain Initializer#ofValue(Object, boolean) 固定的值}*/
+  public boolean isFixed(){
+    return fixed;
+  }
+
+  /**变量是否延迟到首次读取时初始化*/
+  public boolean isLazy(){
+    return lazy;
+  }
+
+  /**获取变量的类型，未指定类型时为{@link Object}*/
+  public Class<?> getType(){
+    return type;
+  }
+
+  public interface Producer<T>{
     T get();
   }
 }
@@ -0,0 +1,120 @@
+package dynamilize;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+/**动态类型的变量初始化计划，将动态类继承链上所有声明的变量的{@linkplain Initializer 初始化器}展开为以槽位排列的数组，
+ * 实例化时按计划直接将初始值写入对象的变量值数组，不再需要逐级遍历继承链，也不需要在运行时查找变量。
+ * <p>与{@linkplain FunctionTable 函数表}相同，计划由动态类按需构建，并记录构建时的变量版本，继承链上任意动态类声明或修改变量后，计划会在下一次使用时重建。
+ * <p>以{@linkplain Initializer#ofValue(Object, boolean) 固定的值}初始化的变量的初始值在构建计划时即被写入一个默认值数组，
+ * 所有实例共享这一个默认值数组且从不写入它，实例自身的变量值数组只保存其余变量的初始化器产生的值与实例写入过的值，未写入的槽位读取默认值，
+ * 参见{@link VariableStorage}。因此类型中以工厂函数初始化的变量不会使固定的默认值被复制到每一个实例中。
+ * <p>对于{@linkplain DynamicClass#setLazyVariable(String, Initializer.Producer, boolean) 延迟初始化}的变量，计划只会在默认值数组的槽位上写入一个共享的占位值，
+ * 初始值的工厂在变量首次被读取时才会执行，结果写入实例自身的变量值数组。*/
+public class InitializerPlan{
+  private static final int[] EMPTY_SLOTS = new int[0];
+  private static final Initializer<?>[] EMPTY_INITS = new Initializer<?>[0];
+
+  private final int version;
+
+  /**默认值数组，包含固定的初始值与延迟初始化的占位值，由所有实例共享*/
+  private final Object[] defaults;
+  /**实例自身的变量值数组的初始长度，足以容纳所有以初始化器产生初始值的变量*/
+  private final int valuesSize;
+
+  private final int[] valueSlots;
+  private final Initializer<?>[] valueInits;
+
+  private final int[] bitsSlots;
+  private final Initializer<?>[] bitsInits;
+
+  /**由动态类的继承链构建初始化计划
+   *
+   * @param version 构建时动态类的变量版本
+   * @param dynamicClass 动态类型*/
+  public InitializerPlan(int version, DynamicClass dynamicClass){
+    this.version = version;
+
+    VariableLayout layout = dynamicClass.variableLayout();
+    HashSet<String> declared = new HashSet<>();
+    ArrayList<Integer> fixedSlots = new ArrayList<>(), values = new ArrayList<>(), bits = new ArrayList<>();
+    ArrayList<Object> fixedValues = new ArrayList<>();
+    ArrayList<Initializer<?>> valueInit = new ArrayList<>(), bitsInit = new ArrayList<>();
+
+    //继承链上由近到远，子类的声明覆盖超类的同名声明
+    for(DynamicClass curr = dynamicClass; curr != null; curr = curr.superDyClass()){
+      curr.getVarInit().forEach((name, init) -> {
+        if(!declared.add(name)) return;
+
+        int id = SymbolTable.VARIABLES.id(name);
+        if(init.getType().isPrimitive()){
+          bits.add(layout.primitiveSlot(id));
+          bitsInit.add(init);
+        }
+        else if(init.isFixed() || init.isLazy()){
+          fixedSlots.add(layout.slot(id));
+          fixedValues.add(init.isLazy()? Variable.lazyValue(init): init.getInit());
+        }
+        else{
+          values.add(layout.slot(id));
+          valueInit.add(init);
+        }
+      });
+    }
+
+    int size = 0;
+    for(int slot: fixedSlots){
+      size = Math.max(size, slot + 1);
+    }
+
+    if(size == 0) defaults = Variable.EMPTY_VALUES;
+    else{
+      defaults = new Object[size];
+      for(int i = 0; i < fixedSlots.size(); i++){
+        defaults[fixedSlots.get(i)] = fixedValues.get(i);
+      }
+    }
+
+    int ownSize = 0;
+    for(int slot: values){
+      ownSize = Math.max(ownSize, slot + 1);
+    }
+    valuesSize = ownSize;
+
+    valueSlots = values.isEmpty()? EMPTY_SLOTS: values.stream().mapToInt(Integer::intValue).toArray();
+    valueInits = valueInit.toArray(EMPTY_INITS);
+    bitsSlots = bits.isEmpty()? EMPTY_SLOTS: bits.stream().mapToInt(Integer::intValue).toArray();
+    bitsInits = bitsInit.toArray(EMPTY_INITS);
+  }
+
+  /**获取构建此计划时动态类的变量版本*/
+  public int version(){
+    return version;
+  }
+
+  /**获取实例共享的默认值数组，数组不应当被写入*/
+  Object[] defaults(){
+    return defaults;
+  }
+
+  /**创建实例自身的初始变量值数组，数组只需容纳以初始化器产生初始值的变量，没有这样的变量时为空数组
+   *
+   * @return 变量值数组*/
+  public Object[] newValues(){
+    return valuesSize == 0? Variable.EMPTY_VALUES: new Object[valuesSize];
+  }
+
+  /**按计划为对象写入以初始化器产生的变量的初始值，常量变量也在此被赋值，对象的变量值数组应当由{@link InitializerPlan#newValues()}创建
+   *
+   * @param self 被初始化的动态对象*/
+  public void apply(DynamicObject<?> self){
+    for(int i = 0; i < valueSlots.length; i++){
+      self.varValueSet(valueSlots[i], valueInits[i].getInit());
+    }
+
+    for(int i = 0; i < bitsSlots.length; i++){
+      Initializer<?> init = bitsInits[i];
+      self.varBitsSet(bitsSlots[i], PrimitiveVariable.toBits(init.getType(), init.getInit()));
+    }
+  }
+}
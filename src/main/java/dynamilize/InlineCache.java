@@ -0,0 +1,283 @@
+package dynamilize;
+
+/**委托方法的调用点内联缓存，生成器会为每一个重写的方法分配一个独立的缓存对象，委托方法经由此缓存选择并执行函数。
+ * <p>缓存以接收者的java类型，接收者数据池的{@linkplain DataPool#selectKey() 等效池}以及等效池的{@linkplain DataPool#modifyStamp() 修改戳}作为键，
+ * 命中缓存时直接取得上一次选中的函数入口，不再经过{@link DataPool#select(String, FunctionType)}对池层次结构的遍历与哈希查找。
+ * <p>函数名称在缓存创建时即被转换为{@linkplain SymbolTable#FUNCTIONS 名称标识}，缓存未命中时也以标识选择函数。
+ * <p>缓存是多态的，最多同时保存{@link InlineCache#MAX_ENTRIES}个键，超出时按轮转顺序覆盖旧的缓存项。修改戳只在等效池所在的层次结构中的函数变更时改变，
+ * 修改戳变化的缓存项会在下一次以同一等效池调用时被替换，其他层次结构的缓存项不受影响。*/
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class InlineCache{
+  public static final int MAX_ENTRIES = 4;
+  /**定长调用方法的最大实参数量*/
+  public static final int MAX_ARITY = 6;
+
+  private final String name;
+  private final int id;
+  private final FunctionType type;
+
+  private final CacheEntry[] entries = new CacheEntry[MAX_ENTRIES];
+  private int next;
+
+  public InlineCache(String name, FunctionType type){
+    this.name = name;
+    this.id = SymbolTable.FUNCTIONS.id(name);
+    this.type = type;
+  }
+
+  public String getName(){
+    return name;
+  }
+
+  public FunctionType getType(){
+    return type;
+  }
+
+  /**此调用点的函数在接收者的数据池中是否{@linkplain DataPool#isOverridden(int) 被重写过}，若没有则委托方法可以直接调用超类方法
+   *
+   * @param pool 接收者的数据池*/
+  public boolean isOverridden(DataPool pool){
+    return pool.isOverridden(id);
+  }
+
+  /**以此调用点的函数名称和形式参数类型执行接收者的函数
+   *
+   * @param self 接收调用的动态对象
+   * @param pool 动态对象的数据池
+   * @param args 实参列表
+   * @return 函数的返回值*/
+  public Object invoke(DynamicObject<?> self, DataPool pool, Object[] args){
+    IFunctionEntry entry = select(self, pool);
+
+    ArgumentList lis = ArgumentList.asWithType(type, args);
+    Object res = entry.getFunction().invoke((DynamicObject) self, lis);
+    lis.recycle();
+    return res;
+  }
+
+  /**以定长的实参执行接收者的函数，不会产生实参数组与参数表，生成的委托方法在参数不多于{@link InlineCache#MAX_ARITY}个时使用此类方法
+   *
+   * @param self 接收调用的动态对象
+   * @param pool 动态对象的数据池
+   * @return 函数的返回值*/
+  public Object invoke0(DynamicObject<?> self, DataPool pool){
+    return select(self, pool).getFunction().invoke0((DynamicObject) self, type);
+  }
+
+  /**@see InlineCache#invoke0(DynamicObject, DataPool)*/
+  public Object invoke1(DynamicObject<?> self, DataPool pool, Object a0){
+    return select(self, pool).getFunction().invoke1((DynamicObject) self, type, a0);
+  }
+
+  /**@see InlineCache#invoke0(DynamicObject, DataPool)*/
+  public Object invoke2(DynamicObject<?> self, DataPool pool, Object a0, Object a1){
+    return select(self, pool).getFunction().invoke2((DynamicObject) self, type, a0, a1);
+  }
+
+  /**@see InlineCache#invoke0(DynamicObject, DataPool)*/
+  public Object invoke3(DynamicObject<?> self, DataPool pool, Object a0, Object a1, Object a2){
+    return select(self, pool).getFunction().invoke3((DynamicObject) self, type, a0, a1, a2);
+  }
+
+  /**@see InlineCache#invoke0(DynamicObject, DataPool)*/
+  public Object invoke4(DynamicObject<?> self, DataPool pool, Object a0, Object a1, Object a2, Object a3){
+    return select(self, pool).getFunction().invoke4((DynamicObject) self, type, a0, a1, a2, a3);
+  }
+
+  /**@see InlineCache#invoke0(DynamicObject, DataPool)*/
+  public Object invoke5(DynamicObject<?> self, DataPool pool, Object a0, Object a1, Object a2, Object a3, Object a4){
+    return select(self, pool).getFunction().invoke5((DynamicObject) self, type, a0, a1, a2, a3, a4);
+  }
+
+  /**@see InlineCache#invoke0(DynamicObject, DataPool)*/
+  public Object invoke6(DynamicObject<?> self, DataPool pool, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5){
+    return select(self, pool).getFunction().invoke6((DynamicObject) self, type, a0, a1, a2, a3, a4, a5);
+  }
+
+  /**以基本类型特化的形式执行接收者的函数，实参与返回值不会被装箱，特化形式参见{@link InlineCache#specialized(Class, Class[])}
+   *
+   * @param self 接收调用的动态对象
+   * @param pool 动态对象的数据池
+   * @return 函数的返回值*/
+  public int invokeInt(DynamicObject<?> self, DataPool pool){
+    return select(self, pool).getFunction().invokeInt((DynamicObject) self, type);
+  }
+
+  /**@see InlineCache#invokeInt(DynamicObject, DataPool)*/
+  public int invokeInt(DynamicObject<?> self, DataPool pool, int a0){
+    return select(self, pool).getFunction().invokeInt((DynamicObject) self, type, a0);
+  }
+
+  /**@see InlineCache#invokeInt(DynamicObject, DataPool)*/
+  public int invokeInt(DynamicObject<?> self, DataPool pool, int a0, int a1){
+    return select(self, pool).getFunction().invokeInt((DynamicObject) self, type, a0, a1);
+  }
+
+  /**@see InlineCache#invokeInt(DynamicObject, DataPool)*/
+  public void invokeVoid(DynamicObject<?> self, DataPool pool, int a0){
+    select(self, pool).getFunction().invokeVoid((DynamicObject) self, type, a0);
+  }
+
+  /**@see InlineCache#invokeInt(DynamicObject, DataPool)*/
+  public long invokeLong(DynamicObject<?> self, DataPool pool){
+    return select(self, pool).getFunction().invokeLong((DynamicObject) self, type);
+  }
+
+  /**@see InlineCache#invokeInt(DynamicObject, DataPool)*/
+  public long invokeLong(DynamicObject<?> self, DataPool pool, long a0){
+    return select(self, pool).getFunction().invokeLong((DynamicObject) self, type, a0);
+  }
+
+  /**@see InlineCache#invokeInt(DynamicObject, DataPool)*/
+  public long invokeLong(DynamicObject<?> self, DataPool pool, long a0, long a1){
+    return select(self, pool).getFunction().invokeLong((DynamicObject) self, type, a0, a1);
+  }
+
+  /**@see InlineCache#invokeInt(DynamicObject, DataPool)*/
+  public void invokeVoid(DynamicObject<?> self, DataPool pool, long a0){
+    select(self, pool).getFunction().invokeVoid((DynamicObject) self, type, a0);
+  }
+
+  /**@see InlineCache#invokeInt(DynamicObject, DataPool)*/
+  public float invokeFloat(DynamicObject<?> self, DataPool pool){
+    return select(self, pool).getFunction().invokeFloat((DynamicObject) self, type);
+  }
+
+  /**@see InlineCache#invokeInt(DynamicObject, DataPool)*/
+  public float invokeFloat(DynamicObject<?> self, DataPool pool, float a0){
+    return select(self, pool).getFunction().invokeFloat((DynamicObject) self, type, a0);
+  }
+
+  /**@see InlineCache#invokeInt(DynamicObject, DataPool)*/
+  public float invokeFloat(DynamicObject<?> self, DataPool pool, float a0, float a1){
+    return select(self, pool).getFunction().invokeFloat((DynamicObject) self, type, a0, a1);
+  }
+
+  /**@see InlineCache#invokeInt(DynamicObject, DataPool)*/
+  public void invokeVoid(DynamicObject<?> self, DataPool pool, float a0){
+    select(self, pool).getFunction().invokeVoid((DynamicObject) self, type, a0);
+  }
+
+  /**@see InlineCache#invokeInt(DynamicObject, DataPool)*/
+  public double invokeDouble(DynamicObject<?> self, DataPool pool){
+    return select(self, pool).getFunction().invokeDouble((DynamicObject) self, type);
+  }
+
+  /**@see InlineCache#invokeInt(DynamicObject, DataPool)*/
+  public double invokeDouble(DynamicObject<?> self, DataPool pool, double a0){
+    return select(self, pool).getFunction().invokeDouble((DynamicObject) self, type, a0);
+  }
+
+  /**@see InlineCache#invokeInt(DynamicObject, DataPool)*/
+  public double invokeDouble(DynamicObject<?> self, DataPool pool, double a0, double a1){
+    return select(self, pool).getFunction().invokeDouble((DynamicObject) self, type, a0, a1);
+  }
+
+  /**@see InlineCache#invokeInt(DynamicObject, DataPool)*/
+  public void invokeVoid(DynamicObject<?> self, DataPool pool, double a0){
+    select(self, pool).getFunction().invokeVoid((DynamicObject) self, type, a0);
+  }
+
+  /**@see InlineCache#invokeInt(DynamicObject, DataPool)*/
+  public boolean invokeBoolean(DynamicObject<?> self, DataPool pool){
+    return select(self, pool).getFunction().invokeBoolean((DynamicObject) self, type);
+  }
+
+  /**@see InlineCache#invokeInt(DynamicObject, DataPool)*/
+  public boolean invokeBoolean(DynamicObject<?> self, DataPool pool, boolean a0){
+    return select(self, pool).getFunction().invokeBoolean((DynamicObject) self, type, a0);
+  }
+
+  /**@see InlineCache#invokeInt(DynamicObject, DataPool)*/
+  public boolean invokeBoolean(DynamicObject<?> self, DataPool pool, boolean a0, boolean a1){
+    return select(self, pool).getFunction().invokeBoolean((DynamicObject) self, type, a0, a1);
+  }
+
+  /**@see InlineCache#invokeInt(DynamicObject, DataPool)*/
+  public void invokeVoid(DynamicObject<?> self, DataPool pool, boolean a0){
+    select(self, pool).getFunction().invokeVoid((DynamicObject) self, type, a0);
+  }
+
+  /**获取方法签名对应的基本类型特化调用方法的名称，{@link Function}与此类中具有此名称的方法以此签名的实参与返回值类型执行函数，特化形式包括：
+   * <ul>
+   * <li>返回基本类型的无参方法，名称为invoke与类型名，例如{@code invokeDouble}
+   * <li>接收一个基本类型参数的无返回值方法，名称为{@code invokeVoid}
+   * <li>参数与返回值为同一种基本类型的一元与二元方法，名称为invoke与类型名
+   * </ul>
+   * 基本类型仅包括int，long，float，double与boolean
+   *
+   * @param returnType 方法的返回值类型
+   * @param paramTypes 方法的参数类型
+   * @return 特化调用方法的名称，若签名没有对应的特化形式则返回null*/
+  public static String specialized(Class<?> returnType, Class<?>... paramTypes){
+    if(paramTypes.length == 1 && returnType == void.class && specializedKind(paramTypes[0]) != null) return "invokeVoid";
+
+    String kind = specializedKind(returnType);
+    if(kind == null || paramTypes.length > 2) return null;
+
+    for(Class<?> type: paramTypes){
+      if(type != returnType) return null;
+    }
+
+    return "invoke" + kind;
+  }
+
+  private static String specializedKind(Class<?> type){
+    if(type == int.class) return "Int";
+    if(type == long.class) return "Long";
+    if(type == float.class) return "Float";
+    if(type == double.class) return "Double";
+    if(type == boolean.class) return "Boolean";
+    return null;
+  }
+
+  /**从缓存中选取接收者的函数入口，若缓存未命中则从数据池中选择函数并写入缓存
+   *
+   * @param self 接收调用的动态对象
+   * @param pool 动态对象的数据池
+   * @return 选中的函数入口
+   *
+   * @throws IllegalHandleException 若接收者没有定义此函数*/
+  public IFunctionEntry select(DynamicObject<?> self, DataPool pool){
+    Class<?> clazz = self.getClass();
+    DataPool key = pool.selectKey();
+    int stamp = key.modifyStamp();
+
+    int stale = -1;
+    for(int i = 0; i < entries.length; i++){
+      CacheEntry entry = entries[i];
+      if(entry == null) break;
+      if(entry.clazz == clazz && entry.key == key){
+        if(entry.stamp == stamp) return entry.entry;
+        stale = i;
+      }
+    }
+
+    IFunctionEntry res = pool.select(id, type);
+    if(res == null)
+      throw new IllegalHandleException("no such function: " + name + type);
+
+    //已失效的同一键的缓存项被原地替换，不占用其他键的位置
+    if(stale >= 0) entries[stale] = new CacheEntry(clazz, key, stamp, res);
+    else{
+      entries[next] = new CacheEntry(clazz, key, stamp, res);
+      next = (next + 1)%MAX_ENTRIES;
+    }
+
+    return res;
+  }
+
+  private static class CacheEntry{
+    final Class<?> clazz;
+    final DataPool key;
+    final int stamp;
+    final IFunctionEntry entry;
+
+    CacheEntry(Class<?> clazz, DataPool key, int stamp, IFunctionEntry entry){
+      this.clazz = clazz;
+      this.key = key;
+      this.stamp = stamp;
+      this.entry = entry;
+    }
+  }
+}
@@ -5,6 +5,7 @@ import dynamilize.annotation.This;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
@@ -35,7 +36,7 @@ public class JavaMethodEntry implements IFunctionEntry{
       throw new IllegalHandleException("cannot assign a non-static method to function");
 
     Parameter[] parameters = invokeMethod.getParameters();
-    ArrayList<Parameter> arg = new ArrayList<>();
+    ArrayList<Class<?>> arg = new ArrayList<>();
 
     boolean thisPointer = false, superPointer = false;
     for(int i = 0; i < parameters.length; i++){
@@ -56,40 +57,13 @@ public class JavaMethodEntry implements IFunctionEntry{
 
         superPointer = true;
       }
-      else arg.add(param);
+      else arg.add(param.getType());
     }
 
-    type = FunctionType.inst(FunctionType.toTypes(arg));
+    type = FunctionType.inst(arg);
 
-    boolean thisP = thisPointer;
-    boolean superP = superPointer;
-
-    MethodHandles.Lookup lookup = MethodHandles.lookup();
     try{
-      MethodHandle call = lookup.unreflect(invokeMethod);
-      int offset = thisP? superP? 2: 1: 0;
-
-      defFunc = (self, args) -> {
-        Object[] argsArray = args.args();
-        Object[] realArgArr = ArgumentList.getList(argsArray.length + offset);
-
-        if(thisP) realArgArr[0] = self;
-
-        DataPool.ReadOnlyPool superPool = null;
-        if(thisP && superP) realArgArr[1] = owner.getSuper(self, superPool = self.baseSuperPointer());
-        else if(!thisP && superP) realArgArr[0] = owner.getSuper(self, superPool = self.baseSuperPointer());
-
-        if(argsArray.length != 0) System.arraycopy(argsArray, 0, realArgArr, offset, realArgArr.length);
-
-        try{
-          Object res = call.invokeWithArguments(realArgArr);
-          ArgumentList.recycleList(realArgArr);
-          if(superPool != null) superPool.recycle();
-          return res;
-        }catch(Throwable e){
-          throw new RuntimeException(e);
-        }
-      };
+      defFunc = new TemplateFunction(MethodHandles.lookup().unreflect(invokeMethod), arg.size(), thisPointer, superPointer, owner);
     }catch(IllegalAccessException e){
       throw new RuntimeException(e);
     }
@@ -119,4 +93,147 @@ public class JavaMethodEntry implements IFunctionEntry{
   public FunctionType getType(){
     return type;
   }
+
+  /**样版方法的入口函数，在创建方法入口时即将样版方法的句柄适配为类型固定的调用器，调用时不再需要拆分与复制实参数组。
+   * <p>调用器的类型总是{@code (DynamicObject, ReadOnlyPool, Object...)Object}，样版方法没有声明的this指针与super指针参数会被丢弃，
+   * 以实参列表调用时经由展开器直接传递实参数组，以定长的方式调用时实参直接传递给调用器*/
+  private static class TemplateFunction implements Function<Object, Object>{
+    private final int argCount;
+    private final boolean superPointer;
+    private final DataPool owner;
+
+    private final MethodHandle invoker;
+    private final MethodHandle spreader;
+
+    TemplateFunction(MethodHandle call, int argCount, boolean thisPointer, boolean superPointer, DataPool owner){
+      this.argCount = argCount;
+      this.superPointer = superPointer;
+      this.owner = owner;
+
+      MethodType type = MethodType.genericMethodType(argCount);
+      if(superPointer) type = type.insertParameterTypes(0, DataPool.ReadOnlyPool.class);
+      if(thisPointer) type = type.insertParameterTypes(0, DynamicObject.class);
+
+      MethodHandle handle = call.asType(type);
+      if(!thisPointer) handle = MethodHandles.dropArguments(handle, 0, DynamicObject.class);
+      if(!superPointer) handle = MethodHandles.dropArguments(handle, 1, DataPool.ReadOnlyPool.class);
+
+      invoker = handle;
+      spreader = handle.asSpreader(Object[].class, argCount);
+    }
+
+    private DataPool.ReadOnlyPool superPool(DynamicObject<?> self){
+      return superPointer? owner.getSuper(self, self.baseSuperPointer()): null;
+    }
+
+    @Override
+    public Object invoke(DynamicObject<Object> self, ArgumentList args){
+      DataPool.ReadOnlyPool superPool = superPool(self);
+      try{
+        return spreader.invokeExact(self, superPool, args.args());
+      }catch(Throwable e){
+        throw new RuntimeException(e);
+      }finally{
+        if(superPool != null) superPool.recycle();
+      }
+    }
+
+    @Override
+    public Object invoke0(DynamicObject<Object> self, FunctionType type){
+      if(argCount != 0) return Function.super.invoke0(self, type);
+
+      DataPool.ReadOnlyPool superPool = superPool(self);
+      try{
+        return invoker.invokeExact(self, superPool);
+      }catch(Throwable e){
+        throw new RuntimeException(e);
+      }finally{
+        if(superPool != null) superPool.recycle();
+      }
+    }
+
+    @Override
+    public Object invoke1(DynamicObject<Object> self, FunctionType type, Object a0){
+      if(argCount != 1) return Function.super.invoke1(self, type, a0);
+
+      DataPool.ReadOnlyPool superPool = superPool(self);
+      try{
+        return invoker.invokeExact(self, superPool, a0);
+      }catch(Throwable e){
+        throw new RuntimeException(e);
+      }finally{
+        if(superPool != null) superPool.recycle();
+      }
+    }
+
+    @Override
+    public Object invoke2(DynamicObject<Object> self, FunctionType type, Object a0, Object a1){
+      if(argCount != 2) return Function.super.invoke2(self, type, a0, a1);
+
+      DataPool.ReadOnlyPool superPool = superPool(self);
+      try{
+        return invoker.invokeExact(self, superPool, a0, a1);
+      }catch(Throwable e){
+        throw new RuntimeException(e);
+      }finally{
+        if(superPool != null) superPool.recycle();
+      }
+    }
+
+    @Override
+    public Object invoke3(DynamicObject<Object> self, FunctionType type, Object a0, Object a1, Object a2){
+      if(argCount != 3) return Function.super.invoke3(self, type, a0, a1, a2);
+
+      DataPool.ReadOnlyPool superPool = superPool(self);
+      try{
+        return invoker.invokeExact(self, superPool, a0, a1, a2);
+      }catch(Throwable e){
+        throw new RuntimeException(e);
+      }finally{
+        if(superPool != null) superPool.recycle();
+      }
+    }
+
+    @Override
+    public Object invoke4(DynamicObject<Object> self, FunctionType type, Object a0, Object a1, Object a2, Object a3){
+      if(argCount != 4) return Function.super.invoke4(self, type, a0, a1, a2, a3);
+
+      DataPool.ReadOnlyPool superPool = superPool(self);
+      try{
+        return invoker.invokeExact(self, superPool, a0, a1, a2, a3);
+      }catch(Throwable e){
+        throw new RuntimeException(e);
+      }finally{
+        if(superPool != null) superPool.recycle();
+      }
+    }
+
+    @Override
+    public Object invoke5(DynamicObject<Object> self, FunctionType type, Object a0, Object a1, Object a2, Object a3, Object a4){
+      if(argCount != 5) return Function.super.invoke5(self, type, a0, a1, a2, a3, a4);
+
+      DataPool.ReadOnlyPool superPool = superPool(self);
+      try{
+        return invoker.invokeExact(self, superPool, a0, a1, a2, a3, a4);
+      }catch(Throwable e){
+        throw new RuntimeException(e);
+      }finally{
+        if(superPool != null) superPool.recycle();
+      }
+    }
+
+    @Override
+    public Object invoke6(DynamicObject<Object> self, FunctionType type, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5){
+      if(argCount != 6) return Function.super.invoke6(self, type, a0, a1, a2, a3, a4, a5);
+
+      DataPool.ReadOnlyPool superPool = superPool(self);
+      try{
+        return invoker.invokeExact(self, superPool, a0, a1, a2, a3, a4, a5);
+      }catch(Throwable e){
+        throw new RuntimeException(e);
+      }finally{
+        if(superPool != null) superPool.recycle();
+      }
+    }
+  }
 }
@@ -5,19 +5,40 @@ import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 
+import static java.lang.invoke.MethodType.methodType;
+
+/**以java字段保存值的变量，被委托类型的字段在动态对象中以此类型的变量访问。
+ * <p>字段的访问句柄在创建变量时即被适配为确定的类型，每次访问均以{@link MethodHandle#invokeExact(Object...)}调用，不需要在调用时进行类型转换，
+ * 对于基本类型的字段，以对应基本类型的访问方法（如{@link JavaVariable#getInt(DynamicObject)}）读写时值也不会被装箱。*/
 @SuppressWarnings("unchecked")
 public class JavaVariable implements IVariable{
-  private final Field field;
-  private final MethodHandle setter;
+  private final String name;
+  private final boolean isConst;
+  private final Class<?> type;
+
+  /**类型为{@code (Object)Object}的读取句柄*/
   private final MethodHandle getter;
+  /**类型为{@code (Object, Object)void}的写入句柄，常量时为null*/
+  private final MethodHandle setter;
+  /**类型为{@code (Object)type}的读取句柄*/
+  private final MethodHandle typedGetter;
+  /**类型为{@code (Object, type)void}的写入句柄，常量时为null*/
+  private final MethodHandle typedSetter;
 
   public JavaVariable(Field field){
-    this.field = field;
+    this.name = field.getName();
+    this.isConst = Modifier.isFinal(field.getModifiers());
+    this.type = field.getType();
     MethodHandles.Lookup lookup = MethodHandles.lookup();
 
     try{
-      getter = lookup.unreflectGetter(field);
-      setter = isConst()? null: lookup.unreflectSetter(field);
+      MethodHandle get = lookup.unreflectGetter(field);
+      MethodHandle set = isConst? null: lookup.unreflectSetter(field);
+
+      getter = get.asType(methodType(Object.class, Object.class));
+      setter = set == null? null: set.asType(methodType(void.class, Object.class, Object.class));
+      typedGetter = get.asType(methodType(type, Object.class));
+      typedSetter = set == null? null: set.asType(methodType(void.class, Object.class, type));
     }catch(IllegalAccessException e){
       throw new IllegalHandleException(e);
     }
@@ -25,18 +46,18 @@ public class JavaVariable implements IVariable{
 
   @Override
   public String name(){
-    return field.getName();
+    return name;
   }
 
   @Override
   public boolean isConst(){
-    return Modifier.isFinal(field.getModifiers());
+    return isConst;
   }
 
   @Override
   public <T> T get(DynamicObject<?> obj){
     try{
-      return (T) getter.invoke(obj);
+      return (T) getter.invokeExact((Object) obj);
     }catch(ClassCastException e){
       throw e;
     }catch(Throwable e){
@@ -46,11 +67,136 @@ public class JavaVariable implements IVariable{
 
   @Override
   public void set(DynamicObject<?> obj, Object value){
-    if(isConst())
+    if(isConst)
       throw new IllegalHandleException("can not modifier a const variable");
 
     try{
-      setter.invoke(obj, value);
+      setter.invokeExact((Object) obj, value);
+    }catch(Throwable e){
+      throw new IllegalHandleException(e);
+    }
+  }
+
+  @Override
+  public int getInt(DynamicObject<?> obj){
+    if(type != int.class) return IVariable.super.getInt(obj);
+
+    try{
+      return (int) typedGetter.invokeExact((Object) obj);
+    }catch(Throwable e){
+      throw new IllegalHandleException(e);
+    }
+  }
+
+  @Override
+  public void setInt(DynamicObject<?> obj, int value){
+    if(type != int.class || isConst){
+      IVariable.super.setInt(obj, value);
+      return;
+    }
+
+    try{
+      typedSetter.invokeExact((Object) obj, value);
+    }catch(Throwable e){
+      throw new IllegalHandleException(e);
+    }
+  }
+
+  @Override
+  public long getLong(DynamicObject<?> obj){
+    if(type != long.class) return IVariable.super.getLong(obj);
+
+    try{
+      return (long) typedGetter.invokeExact((Object) obj);
+    }catch(Throwable e){
+      throw new IllegalHandleException(e);
+    }
+  }
+
+  @Override
+  public void setLong(DynamicObject<?> obj, long value){
+    if(type != long.class || isConst){
+      IVariable.super.setLong(obj, value);
+      return;
+    }
+
+    try{
+      typedSetter.invokeExact((Object) obj, value);
+    }catch(Throwable e){
+      throw new IllegalHandleException(e);
+    }
+  }
+
+  @Override
+  public float getFloat(DynamicObject<?> obj){
+    if(type != float.class) return IVariable.super.getFloat(obj);
+
+    try{
+      return (float) typedGetter.invokeExact((Object) obj);
+    }catch(Throwable e){
+      throw new IllegalHandleException(e);
+    }
+  }
+
+  @Override
+  public void setFloat(DynamicObject<?> obj, float value){
+    if(type != float.class || isConst){
+      IVariable.super.setFloat(obj, value);
+      return;
+    }
+
+    try{
+      typedSetter.invokeExact((Object) obj, value);
+    }catch(Throwable e){
+      throw new IllegalHandleException(e);
+    }
+  }
+
+  @Override
+  public double getDouble(DynamicObject<?> obj){
+    if(type != double.class) return IVariable.super.getDouble(obj);
+
+    try{
+      return (double) typedGetter.invokeExact((Object) obj);
+    }catch(Throwable e){
+      throw new IllegalHandleException(e);
+    }
+  }
+
+  @Override
+  public void setDouble(DynamicObject<?> obj, double value){
+    if(type != double.class || isConst){
+      IVariable.super.setDouble(obj, value);
+      return;
+    }
+
+    try{
+      typedSetter.invokeExact((Object) obj, value);
+    }catch(Throwable e){
+      throw new IllegalHandleException(e);
+    }
+  }
+
+  @Override
+  public boolean getBoolean(DynamicObject<?> obj){
+    if(type != boolean.class) return IVariable.super.getBoolean(obj);
+
+    try{
+      return (boolean) typedGetter.invokeExact((Object) obj);
+    }catch(Throwable e){
+      throw new IllegalHandleException(e);
+    }
+  }
+
+  @Override
+  public void setBoolean(DynamicObject<?> obj, boolean value){
+    if(type != boolean.class || isConst){
+      IVariable.super.setBoolean(obj, value);
+      return;
+    }
+
+    try{
+      typedSetter.invokeExact((Object) obj, value);
     }catch(Throwable e){
       throw new IllegalHandleException(e);
     }
@@ -0,0 +1,216 @@
+package dynamilize;
+
+import java.util.Arrays;
+
+/**以基本类型保存值的变量，变量的值以位模式保存在动态对象的基本类型变量数组中由{@linkplain VariableLayout#primitiveSlot(int) 变量布局}分配的槽位上，
+ * 通过{@link PrimitiveVariable#getInt(DynamicObject)}等基本类型访问方法读写时不会发生装箱。
+ * <p>变量的类型可以是int，long，float，double与boolean，以{@link PrimitiveVariable#set(DynamicObject, Object)}写入的值会被转换为变量的类型，
+ * 以{@link PrimitiveVariable#get(DynamicObject)}读取时值会被装箱为变量类型的包装类型。*/
+@SuppressWarnings("unchecked")
+public class PrimitiveVariable implements IVariable{
+  public static final long[] EMPTY_BITS = new long[0];
+
+  private final String name;
+  private final int slot;
+  private final boolean isConst;
+  private final Class<?> type;
+
+  /**创建基本类型变量
+   *
+   * @param name 变量名称
+   * @param type 变量的基本类型
+   * @param slot 变量在对象的基本类型变量数组中的槽位
+   * @param isConst 变量是否为常量，常量只能在对象初始化时被赋值
+   *
+   * @throws IllegalHandleException 若给出的类型不是支持的基本类型*/
+  public PrimitiveVariable(String name, Class<?> type, int slot, boolean isConst){
+    if(!isSupported(type))
+      throw new IllegalHandleException("unsupported primitive variable type: " + type);
+
+    this.name = name;
+    this.type = type;
+    this.slot = slot;
+    this.isConst = isConst;
+  }
+
+  /**判断类型是否可以作为基本类型变量的类型*/
+  public static boolean isSupported(Class<?> type){
+    return type == int.class || type == long.class || type == float.class || type == double.class || type == boolean.class;
+  }
+
+  /**为动态类型的实例创建初始的基本类型变量数组，数组的长度为类型的{@linkplain DynamicClass#variableLayout() 变量布局}当前已分配的基本类型槽位数量
+   *
+   * @param dynamicClass 实例的动态类型
+   * @return 基本类型变量数组*/
+  public static long[] newBits(DynamicClass dynamicClass){
+    int size = dynamicClass.variableLayout().primitiveSize();
+    return size == 0? EMPTY_BITS: new long[size];
+  }
+
+  /**从以槽位为下标的基本类型变量数组中获取变量的位模式，槽位超出数组范围时返回0
+   *
+   * @param bits 基本类型变量数组
+   * @param slot 变量的槽位
+   * @return 变量的位模式*/
+  public static long getBits(long[] bits, int slot){
+    return slot < bits.length? bits[slot]: 0;
+  }
+
+  /**向以槽位为下标的基本类型变量数组中写入变量的位模式，数组容量不足时会扩容并返回新的数组
+   *
+   * @param bits 基本类型变量数组
+   * @param slot 变量的槽位
+   * @param value 写入的位模式
+   * @return 写入后的基本类型变量数组，可能与传入的数组不同*/
+  public static long[] setBits(long[] bits, int slot, long value){
+    if(slot >= bits.length) bits = Arrays.copyOf(bits, Math.max(slot + 1, bits.length*2));
+    bits[slot] = value;
+
+    return bits;
+  }
+
+  /**将一个包装类型的值转换为给定基本类型的位模式
+   *
+   * @param type 基本类型
+   * @param value 值，为null时视为0或false
+   * @return 位模式*/
+  public static long toBits(Class<?> type, Object value){
+    if(value == null) return 0;
+    if(type == boolean.class) return ((Boolean) value)? 1: 0;
+
+    Number n = (Number) value;
+    if(type == int.class) return n.intValue();
+    if(type == long.class) return n.longValue();
+    if(type == float.class) return Float.floatToRawIntBits(n.floatValue());
+    return Double.doubleToRawLongBits(n.doubleValue());
+  }
+
+  /**获取变量在对象的基本类型变量数组中的槽位*/
+  public int slot(){
+    return slot;
+  }
+
+  /**获取变量的基本类型*/
+  public Class<?> type(){
+    return type;
+  }
+
+  @Override
+  public String name(){
+    return name;
+  }
+
+  @Override
+  public boolean isConst(){
+    return isConst;
+  }
+
+  @Override
+  public <T> T get(DynamicObject<?> obj){
+    long bits = obj.varBitsGet(slot);
+    if(type == int.class) return (T) Integer.valueOf((int) bits);
+    if(type == long.class) return (T) Long.valueOf(bits);
+    if(type == float.class) return (T) Float.valueOf(Float.intBitsToFloat((int) bits));
+    if(type == double.class) return (T) Double.valueOf(Double.longBitsToDouble(bits));
+    return (T) Boolean.valueOf(bits != 0);
+  }
+
+  @Override
+  public void set(DynamicObject<?> obj, Object value){
+    checkConst();
+    obj.varBitsSet(slot, toBits(type, value));
+  }
+
+  @Override
+  public int getInt(DynamicObject<?> obj){
+    long bits = obj.varBitsGet(slot);
+    if(type == int.class || type == long.class) return (int) bits;
+    if(type == float.class) return (int) Float.intBitsToFloat((int) bits);
+    if(type == double.class) return (int) Double.longBitsToDouble(bits);
+    return IVariable.super.getInt(obj);
+  }
+
+  @Override
+  public void setInt(DynamicObject<?> obj, int value){
+    checkConst();
+    if(type == int.class || type == long.class) obj.varBitsSet(slot, value);
+    else if(type == float.class) obj.varBitsSet(slot, Float.floatToRawIntBits(value));
+    else if(type == double.class) obj.varBitsSet(slot, Double.doubleToRawLongBits(value));
+    else IVariable.super.setInt(obj, value);
+  }
+
+  @Override
+  public long getLong(DynamicObject<?> obj){
+    long bits = obj.varBitsGet(slot);
+    if(type == int.class || type == long.class) return bits;
+    if(type == float.class) return (long) Float.intBitsToFloat((int) bits);
+    if(type == double.class) return (long) Double.longBitsToDouble(bits);
+    return IVariable.super.getLong(obj);
+  }
+
+  @Override
+  public void setLong(DynamicObject<?> obj, long value){
+    checkConst();
+    if(type == long.class) obj.varBitsSet(slot, value);
+    else if(type == int.class) obj.varBitsSet(slot, (int) value);
+    else if(type == float.class) obj.varBitsSet(slot, Float.floatToRawIntBits(value));
+    else if(type == double.class) obj.varBitsSet(slot, Double.doubleToRawLongBits(value));
+    else IVariable.super.setLong(obj, value);
+  }
+
+  @Override
+  public float getFloat(DynamicObject<?> obj){
+    long bits = obj.varBitsGet(slot);
+    if(type == float.class) return Float.intBitsToFloat((int) bits);
+    if(type == double.class) return (float) Double.longBitsToDouble(bits);
+    if(type == int.class || type == long.class) return bits;
+    return IVariable.super.getFloat(obj);
+  }
+
+  @Override
+  public void setFloat(DynamicObject<?> obj, float value){
+    checkConst();
+    if(type == float.class) obj.varBitsSet(slot, Float.floatToRawIntBits(value));
+    else if(type == double.class) obj.varBitsSet(slot, Double.doubleToRawLongBits(value));
+    else if(type == int.class) obj.varBitsSet(slot, (int) value);
+    else if(type == long.class) obj.varBitsSet(slot, (long) value);
+    else IVariable.super.setFloat(obj, value);
+  }
+
+  @Override
+  public double getDouble(DynamicObject<?> obj){
+    long bits = obj.varBitsGet(slot);
+    if(type == double.class) return Double.longBitsToDouble(bits);
+    if(type == float.class) return Float.intBitsToFloat((int) bits);
+    if(type == int.class || type == long.class) return bits;
+    return IVariable.super.getDouble(obj);
+  }
+
+  @Override
+  public void setDouble(DynamicObject<?> obj, double value){
+    checkConst();
+    if(type == double.class) obj.varBitsSet(slot, Double.doubleToRawLongBits(value));
+    else if(type == float.class) obj.varBitsSet(slot, Float.floatToRawIntBits((float) value));
+    else if(type == int.class) obj.varBitsSet(slot, (int) value);
+    else if(type == long.class) obj.varBitsSet(slot, (long) value);
+    else IVariable.super.setDouble(obj, value);
+  }
+
+  @Override
+  public boolean getBoolean(DynamicObject<?> obj){
+    if(type == boolean.class) return obj.varBitsGet(slot) != 0;
+    return IVariable.super.getBoolean(obj);
+  }
+
+  @Override
+  public void setBoolean(DynamicObject<?> obj, boolean value){
+    checkConst();
+    if(type == boolean.class) obj.varBitsSet(slot, value? 1: 0);
+    else IVariable.super.setBoolean(obj, value);
+  }
+
+  private void checkConst(){
+    if(isConst)
+      throw new IllegalHandleException("can not modifier a const variable");
+  }
+}
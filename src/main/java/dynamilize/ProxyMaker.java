@@ -1,15 +1,23 @@
 package dynamilize;
 
+import java.lang.annotation.Annotation;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.WeakHashMap;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 /**代理创建工具，用于生成类似{@linkplain  java.lang.reflect.Proxy java代理工具}的面向切面代理实例，但不同的是这允许从类型进行委托，类似于<i>cglib</i>。
  * <p>通过此工具创建的代理实例会将所有可用（非static/final/private/package private）方法调用转入代理调用处理器，在此工具中被声明为了{@link ProxyMaker#invoke(DynamicObject, Caller, ArgumentList)}])}。
  * <p>使用此工具时需要给出一个{@link DynamicMaker}用于构建动态代理实例，尽管可能你需要的只是具备代理行为的{@linkplain DynamicClass 动态类型}。
+ * <p>可以给出一个{@linkplain MethodFilter 方法过滤器}以选择需要拦截的方法，未被选中的方法不经过代理处理器，参见{@link ProxyMaker#ProxyMaker(DynamicMaker, boolean, MethodFilter)}。
+ * <p>需要组合多个处理逻辑时，可以使用{@link ProxyMaker#getChained(DynamicMaker, InterceptorChain)}以一组有序的{@linkplain Interceptor 拦截器}创建代理生成器，
+ * 拦截器链会在方法被代理时对每个方法融合为单一的调用路径。
  * <p>另外，动态类型中声明的函数也会被代理拦截，作用时机与动态类实例化的行为影响是一致的，请参阅{@link DynamicClass 动态类型函数变更的作用时机}
  * <p>你可以使用lambda表达式引用{@link ProxyMaker#getDefault(DynamicMaker, ProxyHandler)}获取默认的lambda实现，
  * 或者实现此类的抽象方法{@link ProxyMaker#invoke(DynamicObject, Caller, ArgumentList)}。
@@ -26,15 +34,65 @@ import java.util.WeakHashMap;
  * @since 1.2
  * @author EBwilson */
 public abstract class ProxyMaker{
-  private static final Map<DynamicClass, Map<ClassImplements<?>, DynamicClass>> proxyMap = new WeakHashMap<>();
-  private static final Map<ClassImplements<?>, DynamicClass> nonSuperProxy = new HashMap<>();
   public static final Class<?>[] EMPTY_CLASSES = new Class[0];
   public static final Object[] EMPTY_ARGS = new Object[0];
 
+  private static final AtomicInteger SERIAL = new AtomicInteger();
+
+  private static final ClassValue<Map<String, Set<FunctionType>>> PROXIED = new ClassValue<Map<String, Set<FunctionType>>>(){
+    @Override
+    protected Map<String, Set<FunctionType>> computeValue(Class<?> type){
+      HashMap<String, Set<FunctionType>> res = new HashMap<>();
+      for(Method method: type.getDeclaredMethods()){
+        if(Modifier.isPublic(method.getModifiers()) && !Modifier.isStatic(method.getModifiers()))
+          res.computeIfAbsent(method.getName(), e -> new HashSet<>()).add(FunctionType.from(method));
+      }
+      return res;
+    }
+  };
+
   protected final DynamicMaker maker;
+  protected final boolean direct;
+  protected final MethodFilter filter;
+
+  //代理动态类型中的代理函数会调用此生成器的处理方法，因此代理动态类型只在同一个生成器创建的实例之间共享。
+  //代理动态类型是不登记在类型池中的匿名类型，只由此生成器与代理实例持有，生成器不再被使用后即可与之一同被回收。
+  //以被代理的动态类型为超类的代理动态类型会引用其超类，因此只能以弱引用保存，否则弱键永远不会被回收，代理动态类型被回收后会在需要时重新创建
+  private final String serial = Integer.toString(SERIAL.getAndIncrement());
+  private final Map<DynamicClass, Map<ClassImplements<?>, WeakReference<DynamicClass>>> proxyMap = new WeakHashMap<>();
+  private final Map<ClassImplements<?>, DynamicClass> nonSuperProxy = new HashMap<>();
+  private final Map<DynamicClass, Map<ClassImplements<?>, WeakReference<DynamicClass>>> directProxyMap = new WeakHashMap<>();
+  /**代理动态类型中的代理函数对应的被代理动态类型的{@linkplain DynamicClass#functionVersion() 函数版本}*/
+  private final Map<DynamicClass, Integer> wrappedVersions = new WeakHashMap<>();
+  /**直接代理模式下各个代理类型共享的调用封装器在此生成器中{@linkplain ProxyMaker#bind(Caller) 绑定}的结果*/
+  private final ConcurrentHashMap<Caller, Caller> boundCallers = new ConcurrentHashMap<>();
 
   protected ProxyMaker(DynamicMaker maker){
+    this(maker, false);
+  }
+
+  /**创建代理生成器，并指定代理实例的生成模式
+   *
+   * @param maker 创建动态对象使用的生成器
+   * @param direct 为真时使用直接代理模式，被代理的方法在调用时以生成类型中的调用封装器常量直接转入{@link ProxyMaker#invoke(DynamicObject, Caller, ArgumentList)}，
+   *               不经过动态对象的函数选择，参见{@link DynamicMaker#makeProxyClassInfo(Class, Class[])}*/
+  protected ProxyMaker(DynamicMaker maker, boolean direct){
+    this(maker, direct, MethodFilter.ALL);
+  }
+
+  /**创建代理生成器，指定代理实例的生成模式与选择被代理的方法的过滤器。
+   * <p>未被过滤器选中的方法在直接代理模式下不会在代理类型中被重写，调用时直接执行基类的实现；
+   * 在一般的代理模式下则不会在代理动态类型中设置代理函数，方法调用按动态对象的函数选择直接执行基类的实现。
+   * 抽象方法没有可用的实现，因此总是会被代理。
+   * <p>直接代理模式下的代理类型按过滤器在基类与接口上选中的方法进行缓存，选中相同方法的生成器会共享代理类型，与过滤器是否为同一实例无关
+   *
+   * @param maker 创建动态对象使用的生成器
+   * @param direct 是否使用直接代理模式
+   * @param filter 选择被代理的方法的过滤器*/
+  protected ProxyMaker(DynamicMaker maker, boolean direct, MethodFilter filter){
     this.maker = maker;
+    this.direct = direct;
+    this.filter = filter;
   }
 
   /**获取代理生成器的默认实现实例，需要提供一个{@linkplain DynamicMaker 动态生成器}以构建实例
@@ -44,7 +102,34 @@ public abstract class ProxyMaker{
    *
    * @return 默认实例*/
   public static ProxyMaker getDefault(DynamicMaker maker, ProxyHandler proxyHandler){
-    return new ProxyMaker(maker){
+    return getDefault(maker, proxyHandler, false);
+  }
+
+  /**获取代理生成器的默认实现实例，并指定代理实例的生成模式。
+   * <p>在直接代理模式下，被代理方法的调用经过一次调用即可到达代理处理器，其开销与{@linkplain java.lang.reflect.Proxy java代理工具}相当，
+   * 但以已委托的动态类型为基类时仍然使用一般的代理模式
+   *
+   * @param maker 创建动态对象使用的生成器
+   * @param proxyHandler 用于代理处理的方法拦截
+   * @param direct 是否使用直接代理模式
+   *
+   * @return 默认实例
+   * @see ProxyMaker#getDefault(DynamicMaker, ProxyHandler)*/
+  public static ProxyMaker getDefault(DynamicMaker maker, ProxyHandler proxyHandler, boolean direct){
+    return getDefault(maker, proxyHandler, direct, MethodFilter.ALL);
+  }
+
+  /**获取代理生成器的默认实现实例，并指定代理实例的生成模式与选择被代理的方法的过滤器
+   *
+   * @param maker 创建动态对象使用的生成器
+   * @param proxyHandler 用于代理处理的方法拦截
+   * @param direct 是否使用直接代理模式
+   * @param filter 选择被代理的方法的过滤器
+   *
+   * @return 默认实例
+   * @see ProxyMaker#ProxyMaker(DynamicMaker, boolean, MethodFilter)*/
+  public static ProxyMaker getDefault(DynamicMaker maker, ProxyHandler proxyHandler, boolean direct, MethodFilter filter){
+    return new ProxyMaker(maker, direct, filter){
       @Override
       public Object invoke(DynamicObject<?> proxy, Caller method, ArgumentList args){
         return proxyHandler.invoke(proxy, method, args);
@@ -52,6 +137,81 @@ public abstract class ProxyMaker{
     };
   }
 
+  /**以一组有序的拦截器创建代理生成器，拦截器链在方法被代理时即对每个方法融合为调用路径，调用时不再对拦截器进行选择
+   *
+   * @param maker 创建动态对象使用的生成器
+   * @param chain 拦截器链，生成器会持有其当前内容的副本，此后对拦截器链的修改不影响生成器
+   *
+   * @return 以拦截器链处理代理调用的生成器*/
+  public static ProxyMaker getChained(DynamicMaker maker, InterceptorChain chain){
+    return getChained(maker, chain, false, MethodFilter.ALL);
+  }
+
+  /**以一组有序的拦截器创建代理生成器，并指定代理实例的生成模式与选择被代理的方法的过滤器
+   *
+   * @param maker 创建动态对象使用的生成器
+   * @param chain 拦截器链
+   * @param direct 是否使用直接代理模式
+   * @param filter 选择被代理的方法的过滤器
+   *
+   * @return 以拦截器链处理代理调用的生成器
+   * @see ProxyMaker#getChained(DynamicMaker, InterceptorChain)*/
+  public static ProxyMaker getChained(DynamicMaker maker, InterceptorChain chain, boolean direct, MethodFilter filter){
+    Interceptor[] interceptors = chain.interceptors.toArray(new Interceptor[0]);
+    List<Predicate<Caller>> conditions = new ArrayList<>(chain.conditions);
+
+    return new ProxyMaker(maker, direct, filter){
+      @Override
+      protected Caller bind(Caller caller){
+        ArrayList<Interceptor> applied = new ArrayList<>();
+        for(int i = 0; i < interceptors.length; i++){
+          if(conditions.get(i).test(caller)) applied.add(interceptors[i]);
+        }
+        return applied.isEmpty()? caller: new ChainedCaller(applied.toArray(new Interceptor[0]), caller);
+      }
+
+      @Override
+      protected Object invoke(DynamicObject<?> proxy, Caller method, ArgumentList args){
+        return method.invoke(proxy, args);
+      }
+
+      @Override
+      protected Object invoke0(DynamicObject<?> proxy, Caller method){
+        return method.invoke0(proxy);
+      }
+
+      @Override
+      protected Object invoke1(DynamicObject<?> proxy, Caller method, Object a0){
+        return method.invoke1(proxy, a0);
+      }
+
+      @Override
+      protected Object invoke2(DynamicObject<?> proxy, Caller method, Object a0, Object a1){
+        return method.invoke2(proxy, a0, a1);
+      }
+
+      @Override
+      protected Object invoke3(DynamicObject<?> proxy, Caller method, Object a0, Object a1, Object a2){
+        return method.invoke3(proxy, a0, a1, a2);
+      }
+
+      @Override
+      protected Object invoke4(DynamicObject<?> proxy, Caller method, Object a0, Object a1, Object a2, Object a3){
+        return method.invoke4(proxy, a0, a1, a2, a3);
+      }
+
+      @Override
+      protected Object invoke5(DynamicObject<?> proxy, Caller method, Object a0, Object a1, Object a2, Object a3, Object a4){
+        return method.invoke5(proxy, a0, a1, a2, a3, a4);
+      }
+
+      @Override
+      protected Object invoke6(DynamicObject<?> proxy, Caller method, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5){
+        return method.invoke6(proxy, a0, a1, a2, a3, a4, a5);
+      }
+    };
+  }
+
   public DynamicObject<Object> newProxyInstance(Class<?>[] interfaces){
     return newProxyInstance(Object.class, interfaces, EMPTY_ARGS);
   }
@@ -77,26 +237,74 @@ public abstract class ProxyMaker{
    *
    * @return 一个代理实例*/
   public <T> DynamicObject<T> newProxyInstance(Class<T> base, Class<?>[] interfaces, DynamicClass dynamicClass, Object... args){
+    if(direct && base.getAnnotation(DynamicMaker.DynamicType.class) == null)
+      return newDirectProxyInstance(base, interfaces, dynamicClass, args);
+
     DynamicClass dyClass = getProxyDyClass(dynamicClass, base, interfaces);
 
-    DynamicObject<T> inst = maker.newInstance(base, interfaces, dyClass, args);
+    return maker.newInstance(base, interfaces, dyClass, args);
+  }
+
+  /**以直接代理模式创建代理实例，被代理的方法由生成的类型直接转入此生成器，动态类型中与被代理的方法对应的函数由方法的{@linkplain DirectCaller 调用封装器}调用，
+   * 其余的函数由{@linkplain ProxyMaker#getDirectProxyDyClass(DynamicClass, Class, Class[]) 代理动态类型}中的代理函数拦截。
+   * 未给出动态类型时，实例使用此生成器持有的空白匿名动态类型，不与其他生成器共享*/
+  private <T> DynamicObject<T> newDirectProxyInstance(Class<T> base, Class<?>[] interfaces, DynamicClass dynamicClass, Object... args){
+    DynamicClass dyClass = dynamicClass == null? getNonSuperDirectDyClass(base, interfaces): getDirectProxyDyClass(dynamicClass, base, interfaces);
+
+    return maker.newProxyInstance(this, base, interfaces, dyClass, args);
+  }
+
+  //直接代理模式下方法由生成的类型转入此生成器，没有超类的代理动态类型中不需要任何函数。
+  //直接代理模式只用于非动态委托的基类，与一般代理模式使用的基类不会重叠，因此可以共用同一个表
+  private <T> DynamicClass getNonSuperDirectDyClass(Class<T> base, Class<?>... interfaces){
+    synchronized(proxyMap){
+      return nonSuperProxy.computeIfAbsent(new ClassImplements<>(base, interfaces), impl -> DynamicClass.anonymous("directProxy" + serial + "$" + impl, null));
+    }
+  }
+
+  /**获取直接代理模式下动态类型的代理动态类型，代理动态类型以给出的动态类型为直接超类，仅包含与被代理的方法不对应的函数的代理函数
+   *
+   * @param dynamicClass 被代理的动态类型
+   * @param base 委托基类
+   * @param interfaces 代理实现的接口
+   *
+   * @return 代理动态类型*/
+  private <T> DynamicClass getDirectProxyDyClass(DynamicClass dynamicClass, Class<T> base, Class<?>... interfaces){
+    synchronized(proxyMap){
+      ClassImplements<T> impl = new ClassImplements<>(base, interfaces);
+      Map<ClassImplements<?>, WeakReference<DynamicClass>> map = directProxyMap.computeIfAbsent(dynamicClass, e -> new HashMap<>());
 
-    if(dynamicClass != null){
-      for(IFunctionEntry function: dynamicClass.getFunctions()){
-        FunctionCaller caller = new FunctionCaller(function);
-        inst.setFunc(function.getName(), (s, a) -> {
-              try{
-                return invoke(s, caller, a);
-              }catch(Throwable e){
-                throwException(e);
-                return null;
-              }
-            },
-            function.getType().getTypes());
+      WeakReference<DynamicClass> ref = map.get(impl);
+      DynamicClass dyc = ref == null? null: ref.get();
+      if(dyc == null){
+        dyc = DynamicClass.anonymous(dynamicClass + "$directProxy" + serial + "$" + impl, dynamicClass);
+        map.put(impl, new WeakReference<>(dyc));
       }
+
+      wrapFunctions(dyc, dynamicClass, PROXIED.get(maker.getProxyBase(base, interfaces, filter)));
+
+      return dyc;
     }
+  }
+
+  /**将动态类型自身声明的函数包装为调用{@link ProxyMaker#invoke(DynamicObject, Caller, ArgumentList)}的代理函数，并设置到其代理动态类型中，
+   * 包装在代理动态类型上进行，由所有代理实例共享。被代理的动态类型的函数发生变更后，代理函数会在下一次创建代理实例时重新包装
+   *
+   * @param proxyClass 代理动态类型
+   * @param dynamicClass 被代理的动态类型
+   * @param skip 不需要包装的函数，可以为null*/
+  private void wrapFunctions(DynamicClass proxyClass, DynamicClass dynamicClass, Map<String, Set<FunctionType>> skip){
+    int version = dynamicClass.functionVersion();
+    Integer wrapped = wrappedVersions.get(proxyClass);
+    if(wrapped != null && wrapped == version) return;
+
+    for(IFunctionEntry function: dynamicClass.getFunctions()){
+      if(skip != null && skip.getOrDefault(function.getName(), Collections.emptySet()).contains(function.getType())) continue;
 
-    return inst;
+      proxyClass.setFunction(function.getName(), new ProxyFunction(bind(new FunctionCaller(function))), function.getType().types());
+    }
+
+    wrappedVersions.put(proxyClass, version);
   }
 
   /**从类和接口实现获取声明为代理的动态类型，参数给出的动态类型会作为该类型的直接超类，可以为空
@@ -107,36 +315,64 @@ public abstract class ProxyMaker{
    *
    * @return 声明为代理实现的动态类型*/
   private <T> DynamicClass getProxyDyClass(DynamicClass dynamicClass, Class<T> base, Class<?>... interfaces){
-    ClassImplements<T> impl = new ClassImplements<>(base, interfaces);
-    DynamicClass dyc = dynamicClass == null? nonSuperProxy.get(impl): proxyMap.computeIfAbsent(dynamicClass, e -> new HashMap<>()).get(impl);
-
-    if(dyc == null){
-      dyc = dynamicClass == null? DynamicClass.get("defProxy$" + impl): DynamicClass.declare(dynamicClass + "$proxy$" + impl, dynamicClass);
-
-      Class<?> dyBase = maker.getDynamicBase(base, interfaces);
-      for(Method method: dyBase.getDeclaredMethods()){
-        DynamicMaker.CallSuperMethod callSuper;
-        if((callSuper = method.getAnnotation(DynamicMaker.CallSuperMethod.class)) != null){
-          MethodCaller caller = new MethodCaller(method);
-          dyc.setFunction(
-              callSuper.srcMethod(),
-              (s, a) -> {
-                try{
-                  return invoke(s, caller, a);
-                }catch(Throwable e){
-                  throwException(e);
-                  return null;
-                }
-              },
-              method.getParameterTypes()
-          );
+    synchronized(proxyMap){
+      ClassImplements<T> impl = new ClassImplements<>(base, interfaces);
+      DynamicClass dyc;
+      if(dynamicClass == null) dyc = nonSuperProxy.get(impl);
+      else{
+        WeakReference<DynamicClass> ref = proxyMap.computeIfAbsent(dynamicClass, e -> new HashMap<>()).get(impl);
+        dyc = ref == null? null: ref.get();
+      }
+
+      if(dyc == null){
+        dyc = dynamicClass == null
+            ? DynamicClass.anonymous("defProxy" + serial + "$" + impl, null)
+            : DynamicClass.anonymous(dynamicClass + "$proxy" + serial + "$" + impl, dynamicClass);
+
+        Class<?> dyBase = maker.getDynamicBase(base, interfaces);
+        for(Method method: dyBase.getDeclaredMethods()){
+          DynamicMaker.CallSuperMethod callSuper;
+          if((callSuper = method.getAnnotation(DynamicMaker.CallSuperMethod.class)) != null){
+            Method source = sourceMethod(base, interfaces, callSuper.srcMethod(), method.getParameterTypes());
+            if(source != null && !filter.intercept(source)) continue;
+
+            dyc.setFunction(callSuper.srcMethod(), new ProxyFunction(bind(new MethodCaller(method))), method.getParameterTypes());
+          }
         }
+
+        if(dynamicClass == null) nonSuperProxy.put(impl, dyc);
+        else proxyMap.get(dynamicClass).put(impl, new WeakReference<>(dyc));
       }
 
-      (dynamicClass == null? nonSuperProxy: proxyMap.get(dynamicClass)).put(impl, dyc);
+      //代理函数在方法的代理函数之后设置，使动态类型中与方法同名同参数的函数覆盖对超类方法的代理
+      if(dynamicClass != null) wrapFunctions(dyc, dynamicClass, null);
+
+      return dyc;
+    }
+  }
+
+  /**查找委托类型中超类方法入口对应的被重写方法，查找顺序与生成委托类型时遍历方法的顺序一致，即先沿基类继承链查找，再查找各接口*/
+  private static Method sourceMethod(Class<?> base, Class<?>[] interfaces, String name, Class<?>[] params){
+    ArrayDeque<Class<?>> interfaceQueue = new ArrayDeque<>(Arrays.asList(interfaces));
+    for(Class<?> curr = base; curr != null; curr = curr.getSuperclass()){
+      try{
+        return curr.getDeclaredMethod(name, params);
+      }catch(NoSuchMethodException ignored){}
+      interfaceQueue.addAll(Arrays.asList(curr.getInterfaces()));
+    }
+
+    HashSet<Class<?>> visited = new HashSet<>();
+    while(!interfaceQueue.isEmpty()){
+      Class<?> curr = interfaceQueue.poll();
+      if(!visited.add(curr)) continue;
+
+      try{
+        return curr.getDeclaredMethod(name, params);
+      }catch(NoSuchMethodException ignored){}
+      interfaceQueue.addAll(Arrays.asList(curr.getInterfaces()));
     }
 
-    return dyc;
+    return null;
   }
 
   /**代理处理器，所有被代理的方法执行被拦截都会转入该方法，方法/函数都会以一个匿名函数的形式传递给这个方法
@@ -149,6 +385,164 @@ public abstract class ProxyMaker{
    * @return 返回值*/
   protected abstract Object invoke(DynamicObject<?> proxy, Caller method, ArgumentList args) throws Throwable;
 
+  /**将被代理的方法或函数的调用封装器绑定到此生成器，绑定的结果会代替原本的调用封装器传入{@link ProxyMaker#invoke(DynamicObject, Caller, ArgumentList)}。
+   * 绑定在方法或函数被代理时进行，对同一个调用封装器只会进行一次，默认直接返回原调用封装器
+   *
+   * @param caller 被代理的方法或函数的调用封装器
+   * @return 传入代理处理器的调用封装器*/
+  protected Caller bind(Caller caller){
+    return caller;
+  }
+
+  /**直接代理模式下生成的代理类型调用被代理方法的入口，实参被封装为参数表后转入{@link ProxyMaker#invoke(DynamicObject, Caller, ArgumentList)}
+   *
+   * @param proxy 动态代理实例
+   * @param caller 被拦截的方法的调用封装器
+   * @param args 实参数组
+   *
+   * @return 返回值*/
+  public final Object handle(DynamicObject<?> proxy, Caller caller, Object[] args){
+    try{
+      return invoke(proxy, bound(caller), ArgumentList.of(caller.getType(), args));
+    }catch(Throwable e){
+      throwException(e);
+      return null;
+    }
+  }
+
+  /**直接代理模式下生成的代理类型调用被代理方法的定长入口，被代理方法的参数不多于{@link InlineCache#MAX_ARITY}个时使用，
+   * 实参直接传递给{@link ProxyMaker#invoke0(DynamicObject, Caller)}等定长的处理方法，调用过程不会产生实参数组
+   *
+   * @param proxy 动态代理实例
+   * @param caller 被拦截的方法的调用封装器
+   *
+   * @return 返回值*/
+  public final Object handle0(DynamicObject<?> proxy, Caller caller){
+    try{
+      return invoke0(proxy, bound(caller));
+    }catch(Throwable e){
+      throwException(e);
+      return null;
+    }
+  }
+
+  /**@see ProxyMaker#handle0(DynamicObject, Caller)*/
+  public final Object handle1(DynamicObject<?> proxy, Caller caller, Object a0){
+    try{
+      return invoke1(proxy, bound(caller), a0);
+    }catch(Throwable e){
+      throwException(e);
+      return null;
+    }
+  }
+
+  /**@see ProxyMaker#handle0(DynamicObject, Caller)*/
+  public final Object handle2(DynamicObject<?> proxy, Caller caller, Object a0, Object a1){
+    try{
+      return invoke2(proxy, bound(caller), a0, a1);
+    }catch(Throwable e){
+      throwException(e);
+      return null;
+    }
+  }
+
+  /**@see ProxyMaker#handle0(DynamicObject, Caller)*/
+  public final Object handle3(DynamicObject<?> proxy, Caller caller, Object a0, Object a1, Object a2){
+    try{
+      return invoke3(proxy, bound(caller), a0, a1, a2);
+    }catch(Throwable e){
+      throwException(e);
+      return null;
+    }
+  }
+
+  /**@see ProxyMaker#handle0(DynamicObject, Caller)*/
+  public final Object handle4(DynamicObject<?> proxy, Caller caller, Object a0, Object a1, Object a2, Object a3){
+    try{
+      return invoke4(proxy, bound(caller), a0, a1, a2, a3);
+    }catch(Throwable e){
+      throwException(e);
+      return null;
+    }
+  }
+
+  /**@see ProxyMaker#handle0(DynamicObject, Caller)*/
+  public final Object handle5(DynamicObject<?> proxy, Caller caller, Object a0, Object a1, Object a2, Object a3, Object a4){
+    try{
+      return invoke5(proxy, bound(caller), a0, a1, a2, a3, a4);
+    }catch(Throwable e){
+      throwException(e);
+      return null;
+    }
+  }
+
+  /**@see ProxyMaker#handle0(DynamicObject, Caller)*/
+  public final Object handle6(DynamicObject<?> proxy, Caller caller, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5){
+    try{
+      return invoke6(proxy, bound(caller), a0, a1, a2, a3, a4, a5);
+    }catch(Throwable e){
+      throwException(e);
+      return null;
+    }
+  }
+
+  /**以定长的实参处理代理调用，直接代理模式与一般代理模式下被代理方法以不多于6个的实参调用时都会转入这些方法，默认将实参封装为参数表后转入{@link ProxyMaker#invoke(DynamicObject, Caller, ArgumentList)}。
+   * <p>不需要完整的参数表的实现可以重写这些方法，将调用直接转给调用封装器的{@link Caller#invoke0(DynamicObject)}等定长方法，
+   * 从而避免每次调用时封装实参，{@linkplain ProxyMaker#getChained(DynamicMaker, InterceptorChain) 拦截器链}即是如此实现的
+   *
+   * @param proxy 动态代理实例
+   * @param method 被拦截的方法
+   *
+   * @return 返回值*/
+  protected Object invoke0(DynamicObject<?> proxy, Caller method) throws Throwable{
+    return invoke(proxy, method, ArgumentList.of(method.getType(), ArgumentList.EMP_ARG));
+  }
+
+  /**@see ProxyMaker#invoke0(DynamicObject, Caller)*/
+  protected Object invoke1(DynamicObject<?> proxy, Caller method, Object a0) throws Throwable{
+    return invoke(proxy, method, ArgumentList.of(method.getType(), new Object[]{a0}));
+  }
+
+  /**@see ProxyMaker#invoke0(DynamicObject, Caller)*/
+  protected Object invoke2(DynamicObject<?> proxy, Caller method, Object a0, Object a1) throws Throwable{
+    return invoke(proxy, method, ArgumentList.of(method.getType(), new Object[]{a0, a1}));
+  }
+
+  /**@see ProxyMaker#invoke0(DynamicObject, Caller)*/
+  protected Object invoke3(DynamicObject<?> proxy, Caller method, Object a0, Object a1, Object a2) throws Throwable{
+    return invoke(proxy, method, ArgumentList.of(method.getType(), new Object[]{a0, a1, a2}));
+  }
+
+  /**@see ProxyMaker#invoke0(DynamicObject, Caller)*/
+  protected Object invoke4(DynamicObject<?> proxy, Caller method, Object a0, Object a1, Object a2, Object a3) throws Throwable{
+    return invoke(proxy, method, ArgumentList.of(method.getType(), new Object[]{a0, a1, a2, a3}));
+  }
+
+  /**@see ProxyMaker#invoke0(DynamicObject, Caller)*/
+  protected Object invoke5(DynamicObject<?> proxy, Caller method, Object a0, Object a1, Object a2, Object a3, Object a4) throws Throwable{
+    return invoke(proxy, method, ArgumentList.of(method.getType(), new Object[]{a0, a1, a2, a3, a4}));
+  }
+
+  /**@see ProxyMaker#invoke0(DynamicObject, Caller)*/
+  protected Object invoke6(DynamicObject<?> proxy, Caller method, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5) throws Throwable{
+    return invoke(proxy, method, ArgumentList.of(method.getType(), new Object[]{a0, a1, a2, a3, a4, a5}));
+  }
+
+  private Caller bound(Caller caller){
+    return caller instanceof DirectCaller? ((DirectCaller) caller).bound(this): caller;
+  }
+
+  /**创建直接代理模式下被代理方法的调用封装器，由生成的代理类型在静态初始化时调用
+   *
+   * @param superIndex 被代理方法的超类方法入口的{@linkplain DynamicMaker.CallSuperMethod#index() 索引}，方法为抽象方法时为-1
+   * @param name 方法名称
+   * @param type 方法的参数类型
+   *
+   * @return 方法的调用封装器*/
+  public static Caller directCaller(int superIndex, String name, FunctionType type){
+    return new DirectCaller(superIndex < 0? null: DynamicMaker.superFunction(superIndex, type.types().length), name, type);
+  }
+
   /**异常处理器，当代理运行中发生任何异常都会转入此方法进行处理，默认直接封装为RuntimeException抛出
    *
    * @param thr 运行过程中捕获的异常*/
@@ -156,37 +550,144 @@ public abstract class ProxyMaker{
     throw new RuntimeException(thr);
   }
 
-  public class MethodCaller implements Caller{
-    private static final Object[][] argLis = new Object[32][];
+  /**一般代理模式下设置到代理动态类型中的代理函数，调用时转入{@link ProxyMaker#invoke(DynamicObject, Caller, ArgumentList)}。
+   * <p>委托方法以定长的实参调用函数时，实参直接传递给{@link ProxyMaker#invoke0(DynamicObject, Caller)}等定长的处理方法，
+   * 需要参数表时也以{@link ArgumentList#of(FunctionType, Object...)}创建，调用过程不会经过参数表与实参数组的同步的实例池*/
+  private class ProxyFunction implements Function<Object, Object>{
+    private final Caller caller;
+
+    private ProxyFunction(Caller caller){
+      this.caller = caller;
+    }
 
-    static {
-      for(int i = 0; i < argLis.length; i++){
-        argLis[i] = new Object[i + 1];
+    @Override
+    public Object invoke(DynamicObject<Object> self, ArgumentList args){
+      try{
+        return ProxyMaker.this.invoke(self, caller, args);
+      }catch(Throwable e){
+        throwException(e);
+        return null;
       }
     }
 
+    @Override
+    public Object invoke(DynamicObject<Object> self, Object... args){
+      return invoke(self, ArgumentList.of(caller.getType(), args));
+    }
+
+    @Override
+    public Object invoke(DynamicObject<Object> self, FunctionType type, Object... args){
+      return invoke(self, ArgumentList.of(type, args));
+    }
+
+    @Override
+    public Object invoke0(DynamicObject<Object> self, FunctionType type){
+      try{
+        return ProxyMaker.this.invoke0(self, caller);
+      }catch(Throwable e){
+        throwException(e);
+        return null;
+      }
+    }
+
+    @Override
+    public Object invoke1(DynamicObject<Object> self, FunctionType type, Object a0){
+      try{
+        return ProxyMaker.this.invoke1(self, caller, a0);
+      }catch(Throwable e){
+        throwException(e);
+        return null;
+      }
+    }
+
+    @Override
+    public Object invoke2(DynamicObject<Object> self, FunctionType type, Object a0, Object a1){
+      try{
+        return ProxyMaker.this.invoke2(self, caller, a0, a1);
+      }catch(Throwable e){
+        throwException(e);
+        return null;
+      }
+    }
+
+    @Override
+    public Object invoke3(DynamicObject<Object> self, FunctionType type, Object a0, Object a1, Object a2){
+      try{
+        return ProxyMaker.this.invoke3(self, caller, a0, a1, a2);
+      }catch(Throwable e){
+        throwException(e);
+        return null;
+      }
+    }
+
+    @Override
+    public Object invoke4(DynamicObject<Object> self, FunctionType type, Object a0, Object a1, Object a2, Object a3){
+      try{
+        return ProxyMaker.this.invoke4(self, caller, a0, a1, a2, a3);
+      }catch(Throwable e){
+        throwException(e);
+        return null;
+      }
+    }
+
+    @Override
+    public Object invoke5(DynamicObject<Object> self, FunctionType type, Object a0, Object a1, Object a2, Object a3, Object a4){
+      try{
+        return ProxyMaker.this.invoke5(self, caller, a0, a1, a2, a3, a4);
+      }catch(Throwable e){
+        throwException(e);
+        return null;
+      }
+    }
+
+    @Override
+    public Object invoke6(DynamicObject<Object> self, FunctionType type, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5){
+      try{
+        return ProxyMaker.this.invoke6(self, caller, a0, a1, a2, a3, a4, a5);
+      }catch(Throwable e){
+        throwException(e);
+        return null;
+      }
+    }
+  }
+
+  /**调用被代理方法的超类实现的调用封装器，超类方法的句柄在创建时即被适配为以实参数组传递参数的确定类型，
+   * 调用时直接将参数表的实参数组传递给句柄，调用过程不依赖任何共享的状态，可以被多个线程并发调用*/
+  public class MethodCaller implements Caller{
+    /**类型为{@code (Object, Object[])Object}的调用句柄，首个参数为接收者*/
     private final MethodHandle handler;
     private final String signature;
 
     private final Method method;
+    private final String name;
     private final FunctionType type;
 
     private MethodCaller(Method method){
       this.method = method;
       this.type = FunctionType.from(method);
+      //超类方法入口的名称带有后缀，调用封装器以被代理的方法的名称为名称
+      DynamicMaker.CallSuperMethod callSuper = method.getAnnotation(DynamicMaker.CallSuperMethod.class);
+      this.name = callSuper == null? method.getName(): callSuper.srcMethod();
       signature = method.getDeclaringClass().getName() + "." + FunctionType.signature(method);
 
-      MethodHandles.Lookup lookup = MethodHandles.lookup();
-      try{
-        handler = lookup.unreflect(method);
-      }catch(IllegalAccessException e){
-        throw new RuntimeException(e);
+      //超类方法入口是私有的，需要使用动态委托类型自身保存的查找对象获取句柄
+      MethodHandle handle = DynamicMaker.getSuperMethodHandle(method);
+      if(handle == null){
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try{
+          handle = lookup.unreflect(method);
+        }catch(IllegalAccessException e){
+          throw new RuntimeException(e);
+        }
       }
+
+      int argCount = method.getParameterCount();
+      handler = handle.asType(MethodType.genericMethodType(argCount + 1)).asSpreader(Object[].class, argCount);
     }
 
     @Override
     public String getName(){
-      return method.getName();
+      return name;
     }
 
     @Override
@@ -195,13 +696,8 @@ public abstract class ProxyMaker{
     }
 
     public Object invoke(DynamicObject<?> proxy, ArgumentList args){
-      Object[] arg = argLis[args.args().length];
-      arg[0] = proxy;
-
-      if(args.args().length != 0) System.arraycopy(args.args(), 0, arg, 1, args.args().length);
-
       try{
-        return handler.invokeWithArguments(arg);
+        return handler.invokeExact((Object) proxy, args.args());
       }catch(Throwable e){
         throwException(e);
         return null;
@@ -214,6 +710,234 @@ public abstract class ProxyMaker{
     }
   }
 
+  /**直接代理模式下被代理方法的调用封装器，作为常量保存在生成的代理类型中。
+   * <p>若动态对象中存在与方法同名同参数的函数，则调用该函数，否则以{@linkplain DynamicMaker.SuperInvoker 索引入口}直接调用超类实现，与一般的动态委托方法的行为一致*/
+  public static class DirectCaller implements Caller{
+    private final int id;
+    private final String name;
+    private final FunctionType type;
+
+    /**调用超类实现的函数，方法为抽象方法时为null*/
+    private final Function<Object, Object> superFunction;
+
+    /**最近一次绑定此调用封装器的生成器与绑定结果，代理类型通常只被一个生成器使用。调用封装器是代理类型中的常量，因此只能弱引用生成器*/
+    private volatile Binding binding;
+
+    private DirectCaller(Function<Object, Object> superFunction, String name, FunctionType type){
+      this.id = SymbolTable.FUNCTIONS.id(name);
+      this.name = name;
+      this.type = type;
+      this.superFunction = superFunction;
+    }
+
+    @Override
+    public String getName(){
+      return name;
+    }
+
+    @Override
+    public FunctionType getType(){
+      return type;
+    }
+
+    private Caller bound(ProxyMaker maker){
+      Binding b = binding;
+      if(b != null && b.get() == maker){
+        Caller res = b.bound.get();
+        if(res != null) return res;
+      }
+
+      Caller res = maker.boundCallers.computeIfAbsent(this, maker::bind);
+      binding = new Binding(maker, res);
+      return res;
+    }
+
+    /**选择调用的目标，动态对象中存在与方法同名同参数的函数时为该函数，否则为超类实现*/
+    private Function<?, ?> target(DynamicObject<?> self){
+      if(self.isFuncOverridden(id)){
+        IFunctionEntry entry = self.getFunc(name, type);
+        if(entry != null && !entry.owner().isDelegate()) return entry.getFunction();
+      }
+
+      if(superFunction == null)
+        throw new IllegalHandleException("no such function: " + name + type);
+
+      return superFunction;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Object invoke(DynamicObject<?> self, ArgumentList args){
+      return ((Function) target(self)).invoke(self, args);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Object invoke0(DynamicObject<?> self){
+      return ((Function) target(self)).invoke0(self, type);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Object invoke1(DynamicObject<?> self, Object a0){
+      return ((Function) target(self)).invoke1(self, type, a0);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Object invoke2(DynamicObject<?> self, Object a0, Object a1){
+      return ((Function) target(self)).invoke2(self, type, a0, a1);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Object invoke3(DynamicObject<?> self, Object a0, Object a1, Object a2){
+      return ((Function) target(self)).invoke3(self, type, a0, a1, a2);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Object invoke4(DynamicObject<?> self, Object a0, Object a1, Object a2, Object a3){
+      return ((Function) target(self)).invoke4(self, type, a0, a1, a2, a3);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Object invoke5(DynamicObject<?> self, Object a0, Object a1, Object a2, Object a3, Object a4){
+      return ((Function) target(self)).invoke5(self, type, a0, a1, a2, a3, a4);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Object invoke6(DynamicObject<?> self, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5){
+      return ((Function) target(self)).invoke6(self, type, a0, a1, a2, a3, a4, a5);
+    }
+
+    @Override
+    public String toString(){
+      return "method: " + name + type;
+    }
+  }
+
+  /**调用封装器在生成器中的绑定结果，绑定结果由生成器强引用，此处均为弱引用*/
+  private static class Binding extends WeakReference<ProxyMaker>{
+    final WeakReference<Caller> bound;
+
+    Binding(ProxyMaker maker, Caller bound){
+      super(maker);
+      this.bound = new WeakReference<>(bound);
+    }
+  }
+
+  /**融合后的拦截器链，在方法或函数被代理时为其创建，只持有作用于该方法或函数的拦截器，链的末端为被代理的方法或函数。
+   * <p>实参只在进入链时封装一次参数表，此后参数表在整个链中传递，各拦截器收到的{@code proceed}是创建时即准备好的{@linkplain Stage 阶段}，
+   * 以下标转入下一个拦截器，调用过程中不会再创建其他对象。调用封装器的名称与参数类型与被代理的方法或函数一致*/
+  public static class ChainedCaller implements Caller{
+    private final Interceptor[] interceptors;
+    private final Caller target;
+    /**第i个阶段从第i个拦截器继续执行，最后一个阶段直接调用链的末端*/
+    private final Stage[] stages;
+
+    private ChainedCaller(Interceptor[] interceptors, Caller target){
+      this.interceptors = interceptors;
+      this.target = target;
+
+      stages = new Stage[interceptors.length + 1];
+      for(int i = 0; i < stages.length; i++){
+        stages[i] = new Stage(i);
+      }
+    }
+
+    @Override
+    public String getName(){
+      return target.getName();
+    }
+
+    @Override
+    public FunctionType getType(){
+      return target.getType();
+    }
+
+    private Object proceed(int index, DynamicObject<?> self, ArgumentList args){
+      if(index == interceptors.length) return target.invoke(self, args);
+      return interceptors[index].intercept(self, stages[index + 1], args);
+    }
+
+    @Override
+    public Object invoke(DynamicObject<?> self, ArgumentList args){
+      return proceed(0, self, args);
+    }
+
+    @Override
+    public Object invoke0(DynamicObject<?> self){
+      return proceed(0, self, ArgumentList.of(target.getType(), ArgumentList.EMP_ARG));
+    }
+
+    @Override
+    public Object invoke1(DynamicObject<?> self, Object a0){
+      return proceed(0, self, ArgumentList.of(target.getType(), new Object[]{a0}));
+    }
+
+    @Override
+    public Object invoke2(DynamicObject<?> self, Object a0, Object a1){
+      return proceed(0, self, ArgumentList.of(target.getType(), new Object[]{a0, a1}));
+    }
+
+    @Override
+    public Object invoke3(DynamicObject<?> self, Object a0, Object a1, Object a2){
+      return proceed(0, self, ArgumentList.of(target.getType(), new Object[]{a0, a1, a2}));
+    }
+
+    @Override
+    public Object invoke4(DynamicObject<?> self, Object a0, Object a1, Object a2, Object a3){
+      return proceed(0, self, ArgumentList.of(target.getType(), new Object[]{a0, a1, a2, a3}));
+    }
+
+    @Override
+    public Object invoke5(DynamicObject<?> self, Object a0, Object a1, Object a2, Object a3, Object a4){
+      return proceed(0, self, ArgumentList.of(target.getType(), new Object[]{a0, a1, a2, a3, a4}));
+    }
+
+    @Override
+    public Object invoke6(DynamicObject<?> self, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5){
+      return proceed(0, self, ArgumentList.of(target.getType(), new Object[]{a0, a1, a2, a3, a4, a5}));
+    }
+
+    @Override
+    public String toString(){
+      return target.toString();
+    }
+
+    /**拦截器链的一个阶段，作为拦截器的{@code proceed}从链中的下一个拦截器继续执行*/
+    private class Stage implements Caller{
+      private final int index;
+
+      private Stage(int index){
+        this.index = index;
+      }
+
+      @Override
+      public String getName(){
+        return target.getName();
+      }
+
+      @Override
+      public FunctionType getType(){
+        return target.getType();
+      }
+
+      @Override
+      public Object invoke(DynamicObject<?> self, ArgumentList args){
+        return proceed(index, self, args);
+      }
+
+      @Override
+      public String toString(){
+        return target.toString();
+      }
+    }
+  }
+
   public static class FunctionCaller implements Caller{
     private final String signature;
 
@@ -260,7 +984,6 @@ public abstract class ProxyMaker{
     default Object invoke(DynamicObject<?> self, Object... args){
       ArgumentList lis = ArgumentList.as(args);
       Object r = invoke(self, lis);
-      lis.type().recycle();
       lis.recycle();
       return r;
     }
@@ -271,9 +994,137 @@ public abstract class ProxyMaker{
       lis.recycle();
       return r;
     }
+
+    /**以定长的实参调用，默认将实参封装为参数表后调用{@link Caller#invoke(DynamicObject, ArgumentList)}，
+     * 直接代理模式下被代理方法的调用封装器重写了这些方法，调用超类实现时不会封装实参*/
+    default Object invoke0(DynamicObject<?> self){
+      return invoke(self, ArgumentList.of(getType(), ArgumentList.EMP_ARG));
+    }
+
+    /**@see Caller#invoke0(DynamicObject)*/
+    default Object invoke1(DynamicObject<?> self, Object a0){
+      return invoke(self, ArgumentList.of(getType(), new Object[]{a0}));
+    }
+
+    /**@see Caller#invoke0(DynamicObject)*/
+    default Object invoke2(DynamicObject<?> self, Object a0, Object a1){
+      return invoke(self, ArgumentList.of(getType(), new Object[]{a0, a1}));
+    }
+
+    /**@see Caller#invoke0(DynamicObject)*/
+    default Object invoke3(DynamicObject<?> self, Object a0, Object a1, Object a2){
+      return invoke(self, ArgumentList.of(getType(), new Object[]{a0, a1, a2}));
+    }
+
+    /**@see Caller#invoke0(DynamicObject)*/
+    default Object invoke4(DynamicObject<?> self, Object a0, Object a1, Object a2, Object a3){
+      return invoke(self, ArgumentList.of(getType(), new Object[]{a0, a1, a2, a3}));
+    }
+
+    /**@see Caller#invoke0(DynamicObject)*/
+    default Object invoke5(DynamicObject<?> self, Object a0, Object a1, Object a2, Object a3, Object a4){
+      return invoke(self, ArgumentList.of(getType(), new Object[]{a0, a1, a2, a3, a4}));
+    }
+
+    /**@see Caller#invoke0(DynamicObject)*/
+    default Object invoke6(DynamicObject<?> self, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5){
+      return invoke(self, ArgumentList.of(getType(), new Object[]{a0, a1, a2, a3, a4, a5}));
+    }
   }
 
   public interface ProxyHandler{
     Object invoke(DynamicObject<?> proxy, Caller superFunction, ArgumentList args);
   }
+
+  /**环绕拦截器，在{@linkplain InterceptorChain 拦截器链}中使用，拦截器可以在调用{@code proceed}前后添加行为，或者不调用而直接返回结果
+   * <p>实参表在整个拦截器链中传递，拦截器可以修改其中的实参，但不应当回收或者保留它*/
+  public interface Interceptor{
+    /**拦截一次方法或函数调用
+     *
+     * @param proxy 动态代理实例
+     * @param proceed 继续执行拦截器链的调用封装器，链的末端为被代理的方法或函数
+     * @param args 实参列表
+     *
+     * @return 返回值*/
+    Object intercept(DynamicObject<?> proxy, Caller proceed, ArgumentList args);
+  }
+
+  /**有序的拦截器链，先添加的拦截器位于外层，每个拦截器可以绑定到一部分方法或函数上。
+   * <p>拦截器链在方法或函数被代理时即按绑定条件筛选并融合为该方法的调用路径，调用时的开销只与实际作用于该方法的拦截器数量有关，
+   * 没有作用于该方法的拦截器时，调用直接到达被代理的方法或函数
+   * <pre>{@code
+   * ProxyMaker maker = ProxyMaker.getChained(DynamicMaker.getDefault(), new ProxyMaker.InterceptorChain()
+   *     .around((self, proceed, args) -> {
+   *       System.out.println(proceed);
+   *       return proceed.invoke(self, args);
+   *     })
+   *     .around(c -> c.getName().equals("get"), cacheInterceptor));
+   * }</pre>*/
+  public static class InterceptorChain{
+    private final ArrayList<Interceptor> interceptors = new ArrayList<>();
+    private final ArrayList<Predicate<Caller>> conditions = new ArrayList<>();
+
+    /**在链的末尾添加作用于所有方法与函数的拦截器*/
+    public InterceptorChain around(Interceptor interceptor){
+      return around(c -> true, interceptor);
+    }
+
+    /**在链的末尾添加拦截器，拦截器只作用于满足条件的方法与函数
+     *
+     * @param condition 以被代理的方法或函数的调用封装器判断拦截器是否作用于它，判断只在代理时进行一次
+     * @param interceptor 拦截器*/
+    public InterceptorChain around(Predicate<Caller> condition, Interceptor interceptor){
+      conditions.add(condition);
+      interceptors.add(interceptor);
+      return this;
+    }
+  }
+
+  /**方法过滤器，决定代理实例中的哪些方法会被拦截并转入代理处理器，判断在代理类型生成时进行，对每一个可被重写的方法只会判断一次*/
+  public interface MethodFilter{
+    /**拦截所有可用的方法*/
+    MethodFilter ALL = method -> true;
+    /**不拦截{@link Object}的{@code hashCode()}，{@code equals(Object)}与{@code toString()}方法，这些方法总是直接执行基类的实现*/
+    MethodFilter EXCLUDE_OBJECT_METHODS = method -> {
+      switch(method.getName()){
+        case "hashCode": case "toString": return method.getParameterCount() != 0;
+        case "equals": return method.getParameterCount() != 1 || method.getParameterTypes()[0] != Object.class;
+        default: return true;
+      }
+    };
+
+    /**判断方法是否需要被代理
+     *
+     * @param method 可被重写的方法，若方法在继承链上被多次重写，则为离委托基类最近的声明
+     * @return 为真时方法会被代理*/
+    boolean intercept(Method method);
+
+    /**组合两个过滤器，仅拦截同时被两个过滤器选中的方法*/
+    default MethodFilter and(MethodFilter other){
+      return method -> intercept(method) && other.intercept(method);
+    }
+
+    /**创建不拦截给定名称的方法的过滤器
+     *
+     * @param names 不被拦截的方法名称*/
+    static MethodFilter exclude(String... names){
+      HashSet<String> set = new HashSet<>(Arrays.asList(names));
+      return method -> !set.contains(method.getName());
+    }
+
+    /**创建仅拦截给定名称的方法的过滤器
+     *
+     * @param names 被拦截的方法名称*/
+    static MethodFilter include(String... names){
+      HashSet<String> set = new HashSet<>(Arrays.asList(names));
+      return method -> set.contains(method.getName());
+    }
+
+    /**创建仅拦截携带给定注解的方法的过滤器，注解需要在运行时保留
+     *
+     * @param annotation 被拦截的方法携带的注解*/
+    static MethodFilter annotated(Class<? extends Annotation> annotation){
+      return method -> method.isAnnotationPresent(annotation);
+    }
+  }
 }
@@ -0,0 +1,54 @@
+package dynamilize;
+
+/**对象在运行时添加的变量，由对象的{@linkplain VariableShape 形状}持有。变量的值位于对象的{@linkplain VariableStorage#getExtra(int) 附加变量数组}中，
+ * 下标即为变量在形状中添加的次序，因此附加变量数组的长度只与对象自身添加过的变量数量有关，与同一继承树中其他对象添加过的变量无关。
+ * <p>将此类变量{@linkplain DynamicObject#setVariable(IVariable) 设置}到对象时，数据池只以其名称转移对象的形状，并以形状中确定了下标的变量代替它*/
+class ShapeVariable implements IVariable{
+  /**只用于请求添加变量的变量的下标标记*/
+  static final int UNBOUND = -1;
+
+  private final String name;
+  private final int index;
+
+  ShapeVariable(String name){
+    this(name, UNBOUND);
+  }
+
+  ShapeVariable(String name, int index){
+    this.name = name;
+    this.index = index;
+  }
+
+  /**获取变量在对象的附加变量数组中的下标*/
+  int index(){
+    return index;
+  }
+
+  @Override
+  public String name(){
+    return name;
+  }
+
+  @Override
+  public boolean isConst(){
+    return false;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(DynamicObject<?> obj){
+    return (T) obj.varStorage().getExtra(checkIndex());
+  }
+
+  @Override
+  public void set(DynamicObject<?> obj, Object value){
+    obj.varStorage().setExtra(checkIndex(), value);
+  }
+
+  private int checkIndex(){
+    if(index == UNBOUND)
+      throw new IllegalHandleException("variable " + name + " was not added to any object");
+
+    return index;
+  }
+}
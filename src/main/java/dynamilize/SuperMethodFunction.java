@@ -0,0 +1,392 @@
+package dynamilize;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**调用委托类型超类方法的函数，被委托类型的方法池中的函数均为此类型，函数直接以{@linkplain DynamicMaker#getSuperMethodHandle(Class, int) 超类方法句柄}调用生成的超类方法入口，
+ * 不经过{@link DynamicMaker.SuperInvoker}的分派，也不需要对实参数组进行拆分。
+ * <p>以定长的方式调用时，实参直接传递给句柄，若方法签名为{@linkplain InlineCache#specialized(Class, Class[]) 基本类型特化形式}，以特化的形式调用时实参与返回值也不会被装箱。
+ * 句柄是函数对象的常量，在动态调用点中链接到此函数时，超类方法可以被内联至调用方。*/
+@SuppressWarnings("unchecked")
+public class SuperMethodFunction implements Function<Object, Object>{
+  private static final MethodType INT_GETTER = methodType(int.class, DynamicObject.class);
+  private static final MethodType INT_CONSUMER = methodType(void.class, DynamicObject.class, int.class);
+  private static final MethodType INT_UNARY = methodType(int.class, DynamicObject.class, int.class);
+  private static final MethodType INT_BINARY = methodType(int.class, DynamicObject.class, int.class, int.class);
+  private static final MethodType LONG_GETTER = methodType(long.class, DynamicObject.class);
+  private static final MethodType LONG_CONSUMER = methodType(void.class, DynamicObject.class, long.class);
+  private static final MethodType LONG_UNARY = methodType(long.class, DynamicObject.class, long.class);
+  private static final MethodType LONG_BINARY = methodType(long.class, DynamicObject.class, long.class, long.class);
+  private static final MethodType FLOAT_GETTER = methodType(float.class, DynamicObject.class);
+  private static final MethodType FLOAT_CONSUMER = methodType(void.class, DynamicObject.class, float.class);
+  private static final MethodType FLOAT_UNARY = methodType(float.class, DynamicObject.class, float.class);
+  private static final MethodType FLOAT_BINARY = methodType(float.class, DynamicObject.class, float.class, float.class);
+  private static final MethodType DOUBLE_GETTER = methodType(double.class, DynamicObject.class);
+  private static final MethodType DOUBLE_CONSUMER = methodType(void.class, DynamicObject.class, double.class);
+  private static final MethodType DOUBLE_UNARY = methodType(double.class, DynamicObject.class, double.class);
+  private static final MethodType DOUBLE_BINARY = methodType(double.class, DynamicObject.class, double.class, double.class);
+  private static final MethodType BOOLEAN_GETTER = methodType(boolean.class, DynamicObject.class);
+  private static final MethodType BOOLEAN_CONSUMER = methodType(void.class, DynamicObject.class, boolean.class);
+  private static final MethodType BOOLEAN_UNARY = methodType(boolean.class, DynamicObject.class, boolean.class);
+  private static final MethodType BOOLEAN_BINARY = methodType(boolean.class, DynamicObject.class, boolean.class, boolean.class);
+
+  private final int argCount;
+  /**参数与返回值均为{@link Object}的句柄，接收者位于首位*/
+  private final MethodHandle generic;
+  /**以实参数组传递参数的句柄*/
+  private final MethodHandle spreader;
+  /**接收者类型为{@link DynamicObject}的精确类型句柄，仅在签名为基本类型特化形式时存在*/
+  private final MethodHandle shaped;
+
+  /**以超类方法入口的句柄创建函数
+   *
+   * @param handle 超类方法入口的句柄，第一个参数为接收者*/
+  public SuperMethodFunction(MethodHandle handle){
+    MethodType type = handle.type();
+    argCount = type.parameterCount() - 1;
+
+    generic = handle.asType(MethodType.genericMethodType(argCount + 1));
+    spreader = generic.asSpreader(Object[].class, argCount);
+
+    MethodType params = type.dropParameterTypes(0, 1);
+    shaped = InlineCache.specialized(type.returnType(), params.parameterArray()) == null? null:
+        handle.asType(type.changeParameterType(0, DynamicObject.class));
+  }
+
+  @Override
+  public Object invoke(DynamicObject<Object> self, ArgumentList args){
+    try{
+      return spreader.invokeExact((Object) self, args.args());
+    }catch(Throwable e){
+      throw rethrow(e);
+    }
+  }
+
+  @Override
+  public Object invoke0(DynamicObject<Object> self, FunctionType type){
+    if(argCount != 0) return Function.super.invoke0(self, type);
+
+    try{
+      return generic.invokeExact((Object) self);
+    }catch(Throwable e){
+      throw rethrow(e);
+    }
+  }
+
+  @Override
+  public Object invoke1(DynamicObject<Object> self, FunctionType type, Object a0){
+    if(argCount != 1) return Function.super.invoke1(self, type, a0);
+
+    try{
+      return generic.invokeExact((Object) self, a0);
+    }catch(Throwable e){
+      throw rethrow(e);
+    }
+  }
+
+  @Override
+  public Object invoke2(DynamicObject<Object> self, FunctionType type, Object a0, Object a1){
+    if(argCount != 2) return Function.super.invoke2(self, type, a0, a1);
+
+    try{
+      return generic.invokeExact((Object) self, a0, a1);
+    }catch(Throwable e){
+      throw rethrow(e);
+    }
+  }
+
+  @Override
+  public Object invoke3(DynamicObject<Object> self, FunctionType type, Object a0, Object a1, Object a2){
+    if(argCount != 3) return Function.super.invoke3(self, type, a0, a1, a2);
+
+    try{
+      return generic.invokeExact((Object) self, a0, a1, a2);
+    }catch(Throwable e){
+      throw rethrow(e);
+    }
+  }
+
+  @Override
+  public Object invoke4(DynamicObject<Object> self, FunctionType type, Object a0, Object a1, Object a2, Object a3){
+    if(argCount != 4) return Function.super.invoke4(self, type, a0, a1, a2, a3);
+
+    try{
+      return generic.invokeExact((Object) self, a0, a1, a2, a3);
+    }catch(Throwable e){
+      throw rethrow(e);
+    }
+  }
+
+  @Override
+  public Object invoke5(DynamicObject<Object> self, FunctionType type, Object a0, Object a1, Object a2, Object a3, Object a4){
+    if(argCount != 5) return Function.super.invoke5(self, type, a0, a1, a2, a3, a4);
+
+    try{
+      return generic.invokeExact((Object) self, a0, a1, a2, a3, a4);
+    }catch(Throwable e){
+      throw rethrow(e);
+    }
+  }
+
+  @Override
+  public Object invoke6(DynamicObject<Object> self, FunctionType type, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5){
+    if(argCount != 6) return Function.super.invoke6(self, type, a0, a1, a2, a3, a4, a5);
+
+    try{
+      return generic.invokeExact((Object) self, a0, a1, a2, a3, a4, a5);
+    }catch(Throwable e){
+      throw rethrow(e);
+    }
+  }
+
+  @Override
+  public int invokeInt(DynamicObject<Object> self, FunctionType type){
+    if(shaped != null && shaped.type() == INT_GETTER){
+      try{
+        return (int) shaped.invokeExact(self);
+      }catch(Throwable e){
+        throw rethrow(e);
+      }
+    }
+    return Function.super.invokeInt(self, type);
+  }
+
+  @Override
+  public int invokeInt(DynamicObject<Object> self, FunctionType type, int a0){
+    if(shaped != null && shaped.type() == INT_UNARY){
+      try{
+        return (int) shaped.invokeExact(self, a0);
+      }catch(Throwable e){
+        throw rethrow(e);
+      }
+    }
+    return Function.super.invokeInt(self, type, a0);
+  }
+
+  @Override
+  public int invokeInt(DynamicObject<Object> self, FunctionType type, int a0, int a1){
+    if(shaped != null && shaped.type() == INT_BINARY){
+      try{
+        return (int) shaped.invokeExact(self, a0, a1);
+      }catch(Throwable e){
+        throw rethrow(e);
+      }
+    }
+    return Function.super.invokeInt(self, type, a0, a1);
+  }
+
+  @Override
+  public void invokeVoid(DynamicObject<Object> self, FunctionType type, int a0){
+    if(shaped != null && shaped.type() == INT_CONSUMER){
+      try{
+        shaped.invokeExact(self, a0);
+        return;
+      }catch(Throwable e){
+        throw rethrow(e);
+      }
+    }
+    Function.super.invokeVoid(self, type, a0);
+  }
+
+  @Override
+  public long invokeLong(DynamicObject<Object> self, FunctionType type){
+    if(shaped != null && shaped.type() == LONG_GETTER){
+      try{
+        return (long) shaped.invokeExact(self);
+      }catch(Throwable e){
+        throw rethrow(e);
+      }
+    }
+    return Function.super.invokeLong(self, type);
+  }
+
+  @Override
+  public long invokeLong(DynamicObject<Object> self, FunctionType type, long a0){
+    if(shaped != null && shaped.type() == LONG_UNARY){
+      try{
+        return (long) shaped.invokeExact(self, a0);
+      }catch(Throwable e){
+        throw rethrow(e);
+      }
+    }
+    return Function.super.invokeLong(self, type, a0);
+  }
+
+  @Override
+  public long invokeLong(DynamicObject<Object> self, FunctionType type, long a0, long a1){
+    if(shaped != null && shaped.type() == LONG_BINARY){
+      try{
+        return (long) shaped.invokeExact(self, a0, a1);
+      }catch(Throwable e){
+        throw rethrow(e);
+      }
+    }
+    return Function.super.invokeLong(self, type, a0, a1);
+  }
+
+  @Override
+  public void invokeVoid(DynamicObject<Object> self, FunctionType type, long a0){
+    if(shaped != null && shaped.type() == LONG_CONSUMER){
+      try{
+        shaped.invokeExact(self, a0);
+        return;
+      }catch(Throwable e){
+        throw rethrow(e);
+      }
+    }
+    Function.super.invokeVoid(self, type, a0);
+  }
+
+  @Override
+  public float invokeFloat(DynamicObject<Object> self, FunctionType type){
+    if(shaped != null && shaped.type() == FLOAT_GETTER){
+      try{
+        return (float) shaped.invokeExact(self);
+      }catch(Throwable e){
+        throw rethrow(e);
+      }
+    }
+    return Function.super.invokeFloat(self, type);
+  }
+
+  @Override
+  public float invokeFloat(DynamicObject<Object> self, FunctionType type, float a0){
+    if(shaped != null && shaped.type() == FLOAT_UNARY){
+      try{
+        return (float) shaped.invokeExact(self, a0);
+      }catch(Throwable e){
+        throw rethrow(e);
+      }
+    }
+    return Function.super.invokeFloat(self, type, a0);
+  }
+
+  @Override
+  public float invokeFloat(DynamicObject<Object> self, FunctionType type, float a0, float a1){
+    if(shaped != null && shaped.type() == FLOAT_BINARY){
+      try{
+        return (float) shaped.invokeExact(self, a0, a1);
+      }catch(Throwable e){
+        throw rethrow(e);
+      }
+    }
+    return Function.super.invokeFloat(self, type, a0, a1);
+  }
+
+  @Override
+  public void invokeVoid(DynamicObject<Object> self, FunctionType type, float a0){
+    if(shaped != null && shaped.type() == FLOAT_CONSUMER){
+      try{
+        shaped.invokeExact(self, a0);
+        return;
+      }catch(Throwable e){
+        throw rethrow(e);
+      }
+    }
+    Function.super.invokeVoid(self, type, a0);
+  }
+
+  @Override
+  public double invokeDouble(DynamicObject<Object> self, FunctionType type){
+    if(shaped != null && shaped.type() == DOUBLE_GETTER){
+      try{
+        return (double) shaped.invokeExact(self);
+      }catch(Throwable e){
+        throw rethrow(e);
+      }
+    }
+    return Function.super.invokeDouble(self, type);
+  }
+
+  @Override
+  public double invokeDouble(DynamicObject<Object> self, FunctionType type, double a0){
+    if(shaped != null && shaped.type() == DOUBLE_UNARY){
+      try{
+        return (double) shaped.invokeExact(self, a0);
+      }catch(Throwable e){
+        throw rethrow(e);
+      }
+    }
+    return Function.super.invokeDouble(self, type, a0);
+  }
+
+  @Override
+  public double invokeDouble(DynamicObject<Object> self, FunctionType type, double a0, double a1){
+    if(shaped != null && shaped.type() == DOUBLE_BINARY){
+      try{
+        return (double) shaped.invokeExact(self, a0, a1);
+      }catch(Throwable e){
+        throw rethrow(e);
+      }
+    }
+    return Function.super.invokeDouble(self, type, a0, a1);
+  }
+
+  @Override
+  public void invokeVoid(DynamicObject<Object> self, FunctionType type, double a0){
+    if(shaped != null && shaped.type() == DOUBLE_CONSUMER){
+      try{
+        shaped.invokeExact(self, a0);
+        return;
+      }catch(Throwable e){
+        throw rethrow(e);
+      }
+    }
+    Function.super.invokeVoid(self, type, a0);
+  }
+
+  @Override
+  public boolean invokeBoolean(DynamicObject<Object> self, FunctionType type){
+    if(shaped != null && shaped.type() == BOOLEAN_GETTER){
+      try{
+        return (boolean) shaped.invokeExact(self);
+      }catch(Throwable e){
+        throw rethrow(e);
+      }
+    }
+    return Function.super.invokeBoolean(self, type);
+  }
+
+  @Override
+  public boolean invokeBoolean(DynamicObject<Object> self, FunctionType type, boolean a0){
+    if(shaped != null && shaped.type() == BOOLEAN_UNARY){
+      try{
+        return (boolean) shaped.invokeExact(self, a0);
+      }catch(Throwable e){
+        throw rethrow(e);
+      }
+    }
+    return Function.super.invokeBoolean(self, type, a0);
+  }
+
+  @Override
+  public boolean invokeBoolean(DynamicObject<Object> self, FunctionType type, boolean a0, boolean a1){
+    if(shaped != null && shaped.type() == BOOLEAN_BINARY){
+      try{
+        return (boolean) shaped.invokeExact(self, a0, a1);
+      }catch(Throwable e){
+        throw rethrow(e);
+      }
+    }
+    return Function.super.invokeBoolean(self, type, a0, a1);
+  }
+
+  @Override
+  public void invokeVoid(DynamicObject<Object> self, FunctionType type, boolean a0){
+    if(shaped != null && shaped.type() == BOOLEAN_CONSUMER){
+      try{
+        shaped.invokeExact(self, a0);
+        return;
+      }catch(Throwable e){
+        throw rethrow(e);
+      }
+    }
+    Function.super.invokeVoid(self, type, a0);
+  }
+
+  private static <T extends Throwable> RuntimeException rethrow(Throwable thr) throws T{
+    throw (T) thr;
+  }
+}
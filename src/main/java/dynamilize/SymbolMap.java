@@ -0,0 +1,118 @@
+package dynamilize;
+
+/**以{@linkplain SymbolTable 符号标识}为键的紧凑映射，采用开放寻址的散列表，容量只与映射中的元素数量有关，而与全局符号表中标识的最大值无关。
+ * <p>数据池与形状等结构通常只包含少量的名称，若以标识为下标直接使用数组，数组的长度会随整个程序中驻留的名称数量增长，使用此映射可以避免这种开销。
+ * <p>写入时若容量不足会返回一个扩容后的新映射，原映射不会被改变，因此持有者应当总是使用{@link SymbolMap#put(int, Object)}的返回值。
+ * 容量足够时写入会直接修改此映射的数组，因此映射只允许单一的写入方，且不保证安全发布：与写入并发的其他线程可能读到键而读不到值，
+ * 或者读到尚未填充完毕的扩容后的映射。需要跨线程读取时，持有者应当自行提供同步，或者只写入副本并以volatile字段发布写入完毕的映射。*/
+@SuppressWarnings("unchecked")
+class SymbolMap<V>{
+  private static final SymbolMap<?> EMPTY = new SymbolMap<>(0);
+
+  /**键为标识加一，0表示空位*/
+  private final int[] keys;
+  private final Object[] values;
+  private int size;
+
+  private SymbolMap(int capacity){
+    keys = new int[capacity];
+    values = new Object[capacity];
+  }
+
+  /**获取空映射，空映射是共享的，写入时总是返回新的映射*/
+  static <V> SymbolMap<V> empty(){
+    return (SymbolMap<V>) EMPTY;
+  }
+
+  private static int hash(int id){
+    int h = id*0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  /**以标识获取值，若映射中没有此标识则返回null*/
+  V get(int id){
+    int[] k = keys;
+    if(k.length == 0) return null;
+
+    int mask = k.length - 1, key = id + 1;
+    for(int i = hash(id) & mask;; i = (i + 1) & mask){
+      int curr = k[i];
+      if(curr == key) return (V) values[i];
+      if(curr == 0) return null;
+    }
+  }
+
+  /**写入标识的值，若标识已存在则替换其值
+   *
+   * @return 写入后的映射，容量不足时为扩容后的新映射，否则为此映射自身*/
+  SymbolMap<V> put(int id, V value){
+    if((size + 1)*2 > keys.length){
+      SymbolMap<V> res = new SymbolMap<>(Math.max(4, keys.length*2));
+      for(int i = 0; i < keys.length; i++){
+        if(keys[i] != 0) res.insert(keys[i] - 1, (V) values[i]);
+      }
+      res.insert(id, value);
+      return res;
+    }
+
+    insert(id, value);
+    return this;
+  }
+
+  private void insert(int id, V value){
+    int mask = keys.length - 1, key = id + 1;
+    for(int i = hash(id) & mask;; i = (i + 1) & mask){
+      int curr = keys[i];
+      if(curr == key){
+        values[i] = value;
+        return;
+      }
+      if(curr == 0){
+        values[i] = value;
+        keys[i] = key;
+        size++;
+        return;
+      }
+    }
+  }
+
+  /**创建此映射的副本，副本与此映射互不影响*/
+  SymbolMap<V> copy(){
+    if(size == 0) return empty();
+
+    SymbolMap<V> res = new SymbolMap<>(keys.length);
+    System.arraycopy(keys, 0, res.keys, 0, keys.length);
+    System.arraycopy(values, 0, res.values, 0, values.length);
+    res.size = size;
+    return res;
+  }
+
+  /**映射中元素的数量*/
+  int size(){
+    return size;
+  }
+
+  /**映射中最大的标识加一，映射为空时为0*/
+  int bound(){
+    int res = 0;
+    for(int key: keys){
+      res = Math.max(res, key);
+    }
+    return res;
+  }
+
+  /**散列表的容量，与{@link SymbolMap#idAt(int)}和{@link SymbolMap#valueAt(int)}配合遍历映射*/
+  int capacity(){
+    return keys.length;
+  }
+
+  /**获取散列表中位置上的标识，位置为空时返回-1*/
+  int idAt(int index){
+    return keys[index] - 1;
+  }
+
+  /**获取散列表中位置上的值，位置为空时返回null*/
+  V valueAt(int index){
+    return (V) values[index];
+  }
+}
@@ -0,0 +1,64 @@
+package dynamilize;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**全局符号表，将函数与变量的名称驻留为紧凑的整数标识，数据池，形状与变量表以此标识为键在{@linkplain SymbolMap 紧凑的开放寻址映射}中查找函数与变量，
+ * 使运行时的热路径不再需要对名称字符串求散列与比较。标识只用于查找，动态对象的变量值以{@linkplain VariableLayout 变量布局}分配的槽位
+ * 或{@linkplain VariableShape 形状}中的下标索引，而不以标识为下标。
+ * <p>函数与变量分别使用独立的名称空间{@link SymbolTable#FUNCTIONS}与{@link SymbolTable#VARIABLES}，使每一个名称空间的标识都尽可能紧凑，
+ * 以字符串为参数的公开API只会在入口处进行一次转换。
+ * <p>标识在驻留后不会被回收，同一运行时中同一名称的标识总是相同的，但不同运行时之间的标识不保证一致，因此不应持久化标识。*/
+public class SymbolTable{
+  /**函数名称的符号表*/
+  public static final SymbolTable FUNCTIONS = new SymbolTable();
+  /**变量名称的符号表*/
+  public static final SymbolTable VARIABLES = new SymbolTable();
+
+  private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+  private volatile String[] names = new String[16];
+  private int size;
+
+  /**获取名称的标识，若名称尚未被驻留则为其分配一个新的标识
+   *
+   * @param name 名称
+   * @return 名称的标识*/
+  public int id(String name){
+    Integer res = ids.get(name);
+    if(res != null) return res;
+
+    synchronized(this){
+      res = ids.get(name);
+      if(res != null) return res;
+
+      int id = size++;
+      if(id >= names.length) names = Arrays.copyOf(names, names.length*2);
+      names[id] = name;
+      ids.put(name, id);
+
+      return id;
+    }
+  }
+
+  /**查找名称的标识，不同于{@link SymbolTable#id(String)}，名称未被驻留时不会分配新的标识
+   *
+   * @param name 名称
+   * @return 名称的标识，若名称未被驻留则返回-1*/
+  public int lookup(String name){
+    Integer res = ids.get(name);
+    return res == null? -1: res;
+  }
+
+  /**获取标识对应的名称
+   *
+   * @param id 名称的标识
+   * @return 被驻留的名称*/
+  public String name(int id){
+    return names[id];
+  }
+
+  /**获取已驻留的名称数量，所有已分配的标识都小于此值*/
+  public int size(){
+    return size;
+  }
+}
@@ -1,14 +1,128 @@
 package dynamilize;
 
+import java.util.Arrays;
+
+/**以动态对象的变量值数组保存值的变量，变量的值位于对象的变量值数组中由{@linkplain VariableLayout 变量布局}分配的槽位上，
+ * 读写变量即为对数组的一次下标访问。*/
 public class Variable implements IVariable{
+  public static final Object[] EMPTY_VALUES = new Object[0];
+
+  /**对象自身的变量值数组中写入的null的标记，数组中的null表示对象未写入过此槽位*/
+  private static final Object NULL = new Object();
+  /**未在创建时给出槽位的变量的槽位标记*/
+  private static final int UNRESOLVED = -1;
+
   private final String name;
+  private final int slot;
   private final boolean isConst;
+  //以名称创建的变量在访问时以实例的变量布局解析槽位，并缓存最近一次解析的结果，实例的布局与缓存不同时重新解析
+  private volatile Resolved resolved;
 
+  /**创建以名称访问的变量，变量的槽位在首次访问时由实例的{@linkplain VariableLayout 变量布局}解析
+   *
+   * @param name 变量名称
+   * @param isConst 变量是否为常量
+   *
+   * @deprecated 变量的值已改为保存在对象的变量值数组的槽位上，应当使用{@link Variable#Variable(String, int, boolean)}在创建时给出槽位*/
+  @Deprecated
   public Variable(String name, boolean isConst){
+    this(name, UNRESOLVED, isConst);
+  }
+
+  /**创建变量
+   *
+   * @param name 变量名称
+   * @param slot 变量在对象的变量值数组中的槽位，参见{@link VariableLayout#slot(int)}
+   * @param isConst 变量是否为常量，常量只能在对象初始化时被赋值*/
+  public Variable(String name, int slot, boolean isConst){
     this.name = name;
+    this.slot = slot;
     this.isConst = isConst;
   }
 
+  /**从对象自身的变量值数组中获取变量值，对象未写入过槽位时取类型共享的默认值数组中的值，槽位超出数组范围时返回null。
+   * 返回值可能是{@linkplain Variable#lazyValue(Initializer) 延迟初始化的占位值}，由调用方负责初始化
+   *
+   * @param values 对象自身的变量值数组
+   * @param defaults 类型的{@linkplain InitializerPlan 初始化计划}给出的默认值数组
+   * @param slot 变量的槽位
+   * @return 变量值*/
+  public static Object getValue(Object[] values, Object[] defaults, int slot){
+    if(slot < values.length){
+      Object res = values[slot];
+      if(res != null) return res == NULL? null: res;
+    }
+
+    return slot < defaults.length? defaults[slot]: null;
+  }
+
+  /**创建延迟初始化的变量的占位值，占位值保存在默认值数组中，在变量首次被读取时以初始化器产生的值写入对象自身的变量值数组，
+   * 占位值不持有任何对象的状态，可以被同一类型的所有实例共享
+   *
+   * @param init 变量的初始化器
+   * @return 占位值*/
+  static Object lazyValue(Initializer<?> init){
+    return new LazyValue(init);
+  }
+
+  static boolean isLazyValue(Object value){
+    return value instanceof LazyValue;
+  }
+
+  /**执行占位值的初始化器，获取延迟初始化的变量的初始值*/
+  static Object initLazy(Object lazyValue){
+    return ((LazyValue) lazyValue).init.getInit();
+  }
+
+  /**向对象自身的以变量槽位为下标的变量值数组中写入变量值，数组容量不足时会扩容并返回新的数组。
+   * 写入的null以标记保存，使对象写入过的槽位不再取默认值
+   *
+   * @param values 对象自身的变量值数组
+   * @param slot 变量的槽位
+   * @param value 写入的值
+   * @return 写入后的变量值数组，可能与传入的数组不同*/
+  public static Object[] setValue(Object[] values, int slot, Object value){
+    if(slot >= values.length) values = Arrays.copyOf(values, Math.max(slot + 1, values.length*2));
+    values[slot] = value == null? NULL: value;
+
+    return values;
+  }
+
+  /**获取变量在对象的变量值数组中的槽位，以{@linkplain Variable#Variable(String, boolean) 名称创建}的变量没有固定的槽位，此时返回-1*/
+  public int slot(){
+    return slot;
+  }
+
+  private int slot(DynamicObject<?> obj){
+    if(slot != UNRESOLVED) return slot;
+
+    VariableLayout layout = obj.getDyClass().variableLayout();
+    Resolved res = resolved;
+    if(res == null || res.layout != layout){
+      res = new Resolved(layout, layout.slot(SymbolTable.VARIABLES.id(name)));
+      resolved = res;
+    }
+    return res.slot;
+  }
+
+  private static class Resolved{
+    final VariableLayout layout;
+    final int slot;
+
+    Resolved(VariableLayout layout, int slot){
+      this.layout = layout;
+      this.slot = slot;
+    }
+  }
+
+  private static class LazyValue{
+    final Initializer<?> init;
+
+    LazyValue(Initializer<?> init){
+      this.init = init;
+    }
+  }
+
   @Override
   public String name(){
     return name;
@@ -21,11 +135,14 @@ public class Variable implements IVariable{
 
   @Override
   public <T> T get(DynamicObject<?> obj){
-    return obj.varValueGet(name);
+    return obj.varValueGet(slot(obj));
   }
 
   @Override
   public void set(DynamicObject<?> obj, Object value){
-    obj.varValueSet(name, value);
+    if(isConst)
+      throw new IllegalHandleException("can not modifier a const variable");
+
+    obj.varValueSet(slot(obj), value);
   }
 }
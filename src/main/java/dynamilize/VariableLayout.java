@@ -0,0 +1,81 @@
+package dynamilize;
+
+/**动态类型的变量布局，为变量名称分配动态对象的变量值数组中的槽位，动态对象以槽位为下标在一个紧凑的数组中保存其变量值。
+ * <p>同一继承树中的所有{@linkplain DynamicClass 动态类}共享同一个布局，因此一个名称在整个继承树中只有一个槽位，
+ * 父类声明的变量与子类声明的同名变量总是位于同一槽位，对象的变量值数组不需要随类型不同而重新排列。
+ * <p>槽位只会分配而不会被回收，分配后的槽位不会再改变，这保证了已创建的对象的变量值数组总是有效的。
+ * 在类型上声明的变量在声明时即分配槽位。对象在运行时添加的变量不在布局中分配槽位，而是由对象的{@linkplain VariableShape 形状}确定其在对象的附加变量数组中的下标，
+ * 布局只持有形状树的根。*/
+public class VariableLayout{
+  /**以{@linkplain SymbolTable#VARIABLES 变量名称标识}为键的槽位表，写入时复制，已发布的映射不会再被改变*/
+  private volatile SymbolMap<Integer> slots = SymbolMap.empty();
+  private volatile int size;
+  /**基本类型变量的槽位表，与{@link VariableLayout#slots}相同，槽位位于对象的基本类型变量数组中*/
+  private volatile SymbolMap<Integer> primitiveSlots = SymbolMap.empty();
+  private volatile int primitiveSize;
+
+  private final VariableShape rootShape = new VariableShape();
+
+  /**获取变量名称的槽位，若名称尚未分配槽位则为其分配一个新的槽位
+   *
+   * @param id 变量名称的标识
+   * @return 变量的槽位*/
+  public int slot(int id){
+    int res = lookup(id);
+    if(res >= 0) return res;
+
+    synchronized(this){
+      Integer curr = slots.get(id);
+      if(curr != null) return curr;
+
+      int slot = size++;
+      slots = slots.copy().put(id, slot);
+
+      return slot;
+    }
+  }
+
+  /**查找变量名称的槽位，不同于{@link VariableLayout#slot(int)}，名称未分配槽位时不会分配新的槽位
+   *
+   * @param id 变量名称的标识
+   * @return 变量的槽位，若名称未分配槽位则返回-1*/
+  public int lookup(int id){
+    Integer res = slots.get(id);
+    return res == null? -1: res;
+  }
+
+  /**获取基本类型变量名称的槽位，若名称尚未分配基本类型槽位则为其分配一个新的槽位，基本类型变量的槽位与{@link VariableLayout#slot(int)}相互独立，
+   * 位于对象的{@linkplain PrimitiveVariable 基本类型变量数组}中
+   *
+   * @param id 变量名称的标识
+   * @return 变量在基本类型变量数组中的槽位*/
+  public int primitiveSlot(int id){
+    Integer res = primitiveSlots.get(id);
+    if(res != null) return res;
+
+    synchronized(this){
+      res = primitiveSlots.get(id);
+      if(res != null) return res;
+
+      int slot = primitiveSize++;
+      primitiveSlots = primitiveSlots.copy().put(id, slot);
+
+      return slot;
+    }
+  }
+
+  /**获取已分配的基本类型槽位数量*/
+  public int primitiveSize(){
+    return primitiveSize;
+  }
+
+  /**获取此布局的形状树的根，即没有添加过任何变量的对象的{@linkplain VariableShape 形状}*/
+  public VariableShape rootShape(){
+    return rootShape;
+  }
+
+  /**获取已分配的槽位数量，所有槽位都小于此值*/
+  public int size(){
+    return size;
+  }
+}
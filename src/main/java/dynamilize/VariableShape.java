@@ -0,0 +1,69 @@
+package dynamilize;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**动态对象在运行时添加的变量集合的形状，类似于V8引擎中的隐藏类。
+ * <p>形状是不可变的，一个形状描述了对象在其动态类型声明的变量之外添加过的一组变量，对象添加新的变量时会沿形状的转移树移动到包含该变量的子形状，
+ * 以相同的顺序添加了相同变量的对象总是到达同一个形状，因此这些对象共享全部的变量元数据，每个对象只需要保存一个形状的引用。
+ * <p>形状中的变量以其在形状中的深度为下标，值保存在对象的{@linkplain VariableStorage#getExtra(int) 附加变量数组}中，与动态类型声明的变量的槽位相互独立，
+ * 类型此后声明的新变量也不会与之冲突。下标记录在转移得到的子形状上，不经过{@linkplain VariableLayout 变量布局}分配，
+ * 因此对象的附加变量数组只需要容纳对象自身添加过的变量。形状树的根由变量布局持有。*/
+public class VariableShape{
+  private final VariableShape parent;
+  private final ShapeVariable variable;
+  private final int size;
+
+  /**以{@linkplain SymbolTable#VARIABLES 变量名称标识}为键的变量表，包含此形状及其所有祖先形状中的变量，创建后不再变更*/
+  private final SymbolMap<IVariable> table;
+  private final ConcurrentHashMap<Integer, VariableShape> transitions = new ConcurrentHashMap<>();
+
+  VariableShape(){
+    this.parent = null;
+    this.variable = null;
+    this.size = 0;
+    this.table = SymbolMap.empty();
+  }
+
+  private VariableShape(VariableShape parent, int id, String name){
+    this.parent = parent;
+    this.variable = new ShapeVariable(name, parent.size);
+    this.size = parent.size + 1;
+    this.table = parent.table.copy().put(id, variable);
+  }
+
+  /**以变量名称的标识获取此形状中的变量
+   *
+   * @param id 变量名称的标识
+   * @return 变量对象，若形状中没有此变量则返回null*/
+  public IVariable get(int id){
+    return table.get(id);
+  }
+
+  /**获取添加了给定名称的变量的形状，若形状中已有同名的变量则直接返回此形状。新变量的下标为此形状的变量数量，
+   * 转移得到的子形状会被缓存，此后添加同名变量的对象都会转移到同一个子形状
+   *
+   * @param name 添加的变量名称
+   * @return 转移后的形状*/
+  public VariableShape transition(String name){
+    int id = SymbolTable.VARIABLES.id(name);
+    if(get(id) != null) return this;
+
+    return transitions.computeIfAbsent(id, i -> new VariableShape(this, i, name));
+  }
+
+  /**获取此形状中变量的数量，即对象的附加变量数组需要的长度*/
+  public int size(){
+    return size;
+  }
+
+  /**获取此形状中的所有变量，按添加的顺序排列*/
+  public IVariable[] getVariables(){
+    IVariable[] res = new IVariable[size];
+    VariableShape curr = this;
+    for(int i = size - 1; i >= 0; i--){
+      res[i] = curr.variable;
+      curr = curr.parent;
+    }
+    return res;
+  }
+}
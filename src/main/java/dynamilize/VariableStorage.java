@@ -0,0 +1,81 @@
+package dynamilize;
+
+import java.util.Arrays;
+
+/**动态对象的变量存储，持有对象的变量值数组，基本类型变量数组与附加变量数组，生成的委托类型为每一个实例分配一个存储。
+ * <p>以{@linkplain Initializer#ofValue(Object, boolean) 固定的值}初始化的变量与延迟初始化的变量的初始值位于类型的{@linkplain InitializerPlan 初始化计划}的默认值数组中，
+ * 由同一计划创建的所有实例共享且从不写入。对象自身的变量值数组只保存初始化器产生的值与对象写入过的值，未写入的槽位读取默认值，
+ * 因此即使类型中还有以工厂函数初始化的变量，固定的默认值也不会被复制到每一个实例中。
+ * <p>附加变量数组保存对象在运行时添加的变量的值，以变量在对象的{@linkplain VariableShape 形状}中的下标访问，长度只与对象自身添加过的变量数量有关。
+ * <p>对存储的所有写入，包括数组的扩容以及延迟初始化变量的初始化，都在存储自身的锁下进行，
+ * 读取已初始化的变量则不需要加锁。{@linkplain DynamicObject#getAndUpdateVar(String, Calculator) 变量的原子操作}也持有同一个锁，
+ * 因此原子操作与普通的变量写入之间同样是原子的。
+ * <p>存储只能通过{@link DynamicObject#varStorage()}获取，锁不是动态对象自身，外部代码对动态对象加锁不会与变量的读写互相影响。*/
+public class VariableStorage{
+  /**实例共享的默认值数组，不会被写入*/
+  private final Object[] defaults;
+  private volatile Object[] values;
+  private volatile long[] bits;
+  private volatile Object[] extras = Variable.EMPTY_VALUES;
+
+  /**为动态类型的实例创建变量存储，初始的变量值由类型的{@linkplain InitializerPlan 初始化计划}给出
+   *
+   * @param dynamicClass 实例的动态类型*/
+  public VariableStorage(DynamicClass dynamicClass){
+    InitializerPlan plan = dynamicClass.getInitializerPlan();
+    defaults = plan.defaults();
+    values = plan.newValues();
+    bits = PrimitiveVariable.newBits(dynamicClass);
+  }
+
+  /**获取槽位上的变量值，延迟初始化的变量会在此时初始化，且初始化器只会执行一次
+   *
+   * @see Variable#getValue(Object[], Object[], int)*/
+  public Object getValue(int slot){
+    Object res = Variable.getValue(values, defaults, slot);
+    if(!Variable.isLazyValue(res)) return res;
+
+    synchronized(this){
+      res = Variable.getValue(values, defaults, slot);
+      if(!Variable.isLazyValue(res)) return res;
+
+      res = Variable.initLazy(res);
+      values = Variable.setValue(values, slot, res);
+      return res;
+    }
+  }
+
+  /**@see Variable#setValue(Object[], int, Object)*/
+  public synchronized void setValue(int slot, Object value){
+    values = Variable.setValue(values, slot, value);
+  }
+
+  /**获取附加变量数组中下标上的值，下标超出数组范围时返回null
+   *
+   * @param index 变量在对象的形状中的下标*/
+  public Object getExtra(int index){
+    Object[] arr = extras;
+    return index < arr.length? arr[index]: null;
+  }
+
+  /**向附加变量数组中写入值，数组容量不足时会扩容
+   *
+   * @param index 变量在对象的形状中的下标
+   * @param value 写入的值*/
+  public synchronized void setExtra(int index, Object value){
+    Object[] arr = extras;
+    if(index >= arr.length) arr = Arrays.copyOf(arr, Math.max(index + 1, arr.length*2));
+    arr[index] = value;
+    extras = arr;
+  }
+
+  /**@see PrimitiveVariable#getBits(long[], int)*/
+  public long getBits(int slot){
+    return PrimitiveVariable.getBits(bits, slot);
+  }
+
+  /**@see PrimitiveVariable#setBits(long[], int, long)*/
+  public synchronized void setBits(int slot, long value){
+    bits = PrimitiveVariable.setBits(bits, slot, value);
+  }
+}
@@ -0,0 +1,53 @@
+package dynamilize;
+
+import java.util.List;
+
+/**动态类型的扁平化变量表，将一个{@linkplain DynamicClass 动态类}整个继承链上声明的变量与委托基类的字段变量一次性展开为以{@linkplain SymbolTable#VARIABLES 变量名称标识}为键的{@linkplain SymbolMap 紧凑映射}，
+ * 解析变量时不再需要沿父池逐级查找，解析的开销与动态类型的继承深度无关。
+ * <p>变量表的解析结果与{@link DataPool#getVariable(int)}在池层次结构上逐级查找的结果一致，即动态类继承链上由近到远的变量优先，其次为委托基类的字段。
+ * 实例在运行时添加的变量不在变量表中，它们由实例的{@linkplain VariableShape 形状}解析，且优先于变量表。
+ * <p>与{@linkplain FunctionTable 函数表}相同，变量表由动态类按需构建，并记录构建时动态类的变量版本，继承链上任意动态类声明或修改变量后，变量表会在下一次使用时重建。
+ * 变量表构建后即不再变更，可以被多个线程共享。*/
+public class VariableTable{
+  private final int version;
+  private final SymbolMap<IVariable> table;
+
+  /**以继承链上由近到远的池构建变量表
+   *
+   * @param version 构建时动态类的变量版本
+   * @param pools 动态类继承链上由近到远排列的池
+   * @param basePool 委托基类的池，可以为null*/
+  public VariableTable(int version, List<DataPool> pools, DataPool basePool){
+    this.version = version;
+
+    SymbolMap<IVariable> res = SymbolMap.empty();
+    for(DataPool pool: pools){
+      res = collect(res, pool);
+    }
+    if(basePool != null) res = collect(res, basePool);
+
+    table = res;
+  }
+
+  private static SymbolMap<IVariable> collect(SymbolMap<IVariable> table, DataPool pool){
+    SymbolMap<IVariable> vars = pool.variables();
+    for(int i = 0; i < vars.capacity(); i++){
+      int id = vars.idAt(i);
+      if(id >= 0 && table.get(id) == null) table = table.put(id, vars.valueAt(i));
+    }
+    return table;
+  }
+
+  /**获取构建此变量表时动态类的变量版本*/
+  public int version(){
+    return version;
+  }
+
+  /**以变量名称的标识从变量表中获取变量
+   *
+   * @param id 变量名称的标识
+   * @return 变量对象，若变量表中没有此变量则返回null*/
+  public IVariable get(int id){
+    return table.get(id);
+  }
+}
@@ -209,6 +209,12 @@ public class ASMGenerator extends AbstractClassGenerator implements Opcodes{
       if(invoke.returnTo() != null) context.assign(codeCount, invoke.returnTo().name());
     }
 
+    @Override
+    public void visitInvokeDynamic(IInvokeDynamic<?> invoke){
+      context.ref(codeCount, invoke.args().stream().map(ILocal::name).toArray(String[]::new));
+      if(invoke.returnTo() != null) context.assign(codeCount, invoke.returnTo().name());
+    }
+
     @Override
     public void visitNewInstance(INewInstance<?> newInstance){
       context.ref(codeCount, newInstance.params().stream().map(ILocal::name).toArray(String[]::new));
@@ -510,6 +516,62 @@ public class ASMGenerator extends AbstractClassGenerator implements Opcodes{
     }
   }
 
+  @Override
+  public void visitInvokeDynamic(IInvokeDynamic<?> invoke){
+    for(ILocal<?> arg: invoke.args()){
+      if(!context.inStackCode(codeCount)){
+        methodVisitor.visitVarInsn(
+            getLoadType(arg.type()),
+            localIndex.get(arg.name())
+        );
+      }
+    }
+
+    IMethod<?, ?> bootstrap = invoke.bootstrapMethod();
+    Handle handle = new Handle(
+        H_INVOKESTATIC,
+        bootstrap.owner().internalName(),
+        bootstrap.name(),
+        bootstrap.typeDescription(),
+        Modifier.isInterface(bootstrap.owner().modifiers())
+    );
+
+    Object[] bootstrapArgs = new Object[invoke.bootstrapArgs().length];
+    for(int i = 0; i < bootstrapArgs.length; i++){
+      Object arg = invoke.bootstrapArgs()[i];
+      bootstrapArgs[i] = arg instanceof IClass<?> c? Type.getType(c.realName()): arg;
+    }
+
+    StringBuilder desc = new StringBuilder("(");
+    for(ILocal<?> arg: invoke.args()){
+      desc.append(arg.type().realName());
+    }
+    desc.append(")").append(invoke.returnType().realName());
+
+    methodVisitor.visitInvokeDynamicInsn(
+        invoke.name(),
+        desc.toString(),
+        handle,
+        bootstrapArgs
+    );
+
+    if(invoke.returnTo() == null){
+      if(invoke.returnType() != ClassInfo.VOID_TYPE){
+        methodVisitor.visitInsn(invoke.returnType() == LONG_TYPE || invoke.returnType() == DOUBLE_TYPE? POP2: POP);
+      }
+    }
+    else{
+      castAssign(invoke.returnType(), invoke.returnTo().type());
+
+      if(context.inStackCode(codeCount)) return;
+
+      methodVisitor.visitVarInsn(
+          getStoreType(invoke.returnTo().type()),
+          localIndex.get(invoke.returnTo().name())
+      );
+    }
+  }
+
   @Override
   public void visitGetField(IGetField<?, ?> getField){
     if(!Modifier.isStatic(getField.source().modifiers())){
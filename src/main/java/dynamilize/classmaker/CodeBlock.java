@@ -193,6 +193,12 @@ public class CodeBlock<R> implements ICodeBlock<R>{
     );
   }
 
+  public final <Ret> void invokeDynamic(IMethod<?, ?> bootstrap, Object[] bootstrapArgs, String name, IClass<Ret> returnType, ILocal<? extends Ret> returnTo, ILocal<?>... args){
+    codes().add(
+        new InvokeDynamic<>(bootstrap, bootstrapArgs, name, returnType, returnTo, args)
+    );
+  }
+
   public final <T extends R> void returnValue(ILocal<T> local){
     codes().add(
         new Return<>(local)
@@ -566,6 +572,57 @@ public class CodeBlock<R> implements ICodeBlock<R>{
     }
   }
 
+  protected static class InvokeDynamic<R> implements IInvokeDynamic<R>{
+    IMethod<?, ?> bootstrap;
+    Object[] bootstrapArgs;
+    String name;
+    IClass<R> returnType;
+    ILocal<? extends R> returnTo;
+    List<ILocal<?>> args;
+
+    public InvokeDynamic(IMethod<?, ?> bootstrap, Object[] bootstrapArgs, String name, IClass<R> returnType, ILocal<? extends R> returnTo, ILocal<?>... args){
+      this.bootstrap = bootstrap;
+      this.bootstrapArgs = bootstrapArgs;
+      this.name = name;
+      this.returnType = returnType;
+      this.returnTo = returnType != ClassInfo.VOID_TYPE? returnTo: null;
+      this.args = Arrays.asList(args);
+
+      if(!Modifier.isStatic(bootstrap.modifiers()))
+        throw new IllegalHandleException("bootstrap method must be static");
+    }
+
+    @Override
+    public IMethod<?, ?> bootstrapMethod(){
+      return bootstrap;
+    }
+
+    @Override
+    public Object[] bootstrapArgs(){
+      return bootstrapArgs;
+    }
+
+    @Override
+    public String name(){
+      return name;
+    }
+
+    @Override
+    public IClass<R> returnType(){
+      return returnType;
+    }
+
+    @Override
+    public List<ILocal<?>> args(){
+      return args;
+    }
+
+    @Override
+    public ILocal<? extends R> returnTo(){
+      return returnTo;
+    }
+  }
+
   protected static class Compare<T> implements ICompare<T>{
     ILocal<T> left;
     ILocal<T> right;
@@ -24,6 +24,9 @@ public class DefaultReadVisitor implements ElementVisitor{
   @Override
   public void visitInvoke(IInvoke<?> invoke){}
 
+  @Override
+  public void visitInvokeDynamic(IInvokeDynamic<?> invoke){}
+
   @Override
   public void visitGetField(IGetField<?, ?> getField){}
 
@@ -13,6 +13,8 @@ public interface ElementVisitor{
 
   void visitInvoke(IInvoke<?> invoke);
 
+  void visitInvokeDynamic(IInvokeDynamic<?> invoke);
+
   void visitGetField(IGetField<?, ?> getField);
 
   void visitPutField(IPutField<?, ?> putField);
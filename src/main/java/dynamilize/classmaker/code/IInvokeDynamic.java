@@ -0,0 +1,32 @@
+package dynamilize.classmaker.code;
+
+import dynamilize.classmaker.ElementVisitor;
+
+import java.util.List;
+
+/**动态调用点，对应字节码中的invokedynamic指令，调用点在首次执行时由引导方法链接到实际的调用目标
+ * <p>引导方法必须为静态方法，其参数列表前三个参数依次为{@link java.lang.invoke.MethodHandles.Lookup}，{@link String}与{@link java.lang.invoke.MethodType}，
+ * 其余参数由{@link IInvokeDynamic#bootstrapArgs()}提供，这些参数只能是字符串，基本类型的包装类型或者{@link IClass}*/
+public interface IInvokeDynamic<R> extends Element{
+  @Override
+  default void accept(ElementVisitor visitor){
+    visitor.visitInvokeDynamic(this);
+  }
+
+  @Override
+  default ElementKind kind(){
+    return ElementKind.INVOKEDYNAMIC;
+  }
+
+  IMethod<?, ?> bootstrapMethod();
+
+  Object[] bootstrapArgs();
+
+  String name();
+
+  IClass<R> returnType();
+
+  List<ILocal<?>> args();
+
+  ILocal<? extends R> returnTo();
+}
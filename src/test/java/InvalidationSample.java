@@ -0,0 +1,179 @@
+import dynamilize.DynamicClass;
+import dynamilize.DynamicMaker;
+import dynamilize.DynamicObject;
+import dynamilize.FunctionCallSite;
+import dynamilize.FunctionTable;
+import dynamilize.FunctionType;
+import dynamilize.IllegalHandleException;
+import dynamilize.InlineCache;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**检查函数与变量变更后各级缓存的失效：委托方法的调用点缓存，invokedynamic调用点的链接，函数表的重载匹配缓存，以及变量表，检查失败时抛出异常。
+ * <p>每项检查都会先反复调用使缓存建立，再变更函数，确认之后的调用能观察到变更，且变更不会影响无关的实例与类型*/
+public class InvalidationSample{
+  private static final int WARMUP = 1000;
+
+  public static class Unit{
+    public String name(){
+      return "unit";
+    }
+
+    public int power(int level){
+      return level;
+    }
+  }
+
+  public static void main(String[] args){
+    hotUpdate(DynamicMaker.getDefault(), "cache");
+    hotUpdate(DynamicMaker.getDefault(true), "indy");
+    relink(DynamicMaker.getDefault(true));
+    overloads(DynamicMaker.getDefault());
+    variables(DynamicMaker.getDefault());
+
+    System.out.println("invalidation checks passed");
+  }
+
+  /**以调用点缓存或invokedynamic模式生成的委托方法，在类型函数，父类型函数与实例函数变更后都应观察到新的函数*/
+  private static void hotUpdate(DynamicMaker maker, String prefix){
+    DynamicClass base = DynamicClass.get(prefix + "Base");
+    DynamicClass sub = DynamicClass.declare(prefix + "Sub", base);
+    DynamicClass other = DynamicClass.get(prefix + "Other");
+
+    Unit a = maker.newInstance(Unit.class, sub).self();
+    Unit b = maker.newInstance(Unit.class, sub).self();
+    Unit c = maker.newInstance(Unit.class, other).self();
+
+    repeat(() -> check(a.name().equals("unit"), prefix + ": untouched method"));
+
+    base.setFunction("name", (self, arg) -> "base");
+    repeat(() -> check(a.name().equals("base"), prefix + ": super class change"));
+
+    sub.setFunction("name", (self, sup, arg) -> "sub>" + sup.invokeFunc("name", arg));
+    repeat(() -> check(a.name().equals("sub>base"), prefix + ": class change"));
+
+    base.setFunction("name", (self, arg) -> "base2");
+    repeat(() -> check(a.name().equals("sub>base2"), prefix + ": super class change under override"));
+
+    ((DynamicObject<?>) a).setFunc("name", (self, arg) -> "own");
+    repeat(() -> check(a.name().equals("own"), prefix + ": instance change"));
+    check(b.name().equals("sub>base2"), prefix + ": instance change leaked to sibling");
+
+    other.setFunction("name", (self, arg) -> "other");
+    check(a.name().equals("own") && b.name().equals("sub>base2") && c.name().equals("other"), prefix + ": unrelated class change");
+
+    //接收者数量超过调用点缓存的容量后，每个接收者仍然选中各自的函数
+    ArrayList<Unit> units = new ArrayList<>();
+    for(int i = 0; i < InlineCache.MAX_ENTRIES*4; i++){
+      DynamicClass dyClass = DynamicClass.get(prefix + "Poly" + i);
+      int level = i;
+      dyClass.setIntFunction("power", (self, l) -> l + level);
+      units.add(maker.newInstance(Unit.class, dyClass).self());
+    }
+    repeat(() -> {
+      for(int i = 0; i < units.size(); i++){
+        check(units.get(i).power(1) == i + 1, prefix + ": megamorphic call site");
+      }
+    });
+
+    DynamicClass.get(prefix + "Poly0").setIntFunction("power", (self, l) -> -l);
+    check(units.get(0).power(1) == -1 && units.get(1).power(1) == 2, prefix + ": change after megamorphic");
+  }
+
+  /**invokedynamic调用点重新链接的次数超过{@link FunctionCallSite#MAX_RELINK}后退化为调用点缓存，此后的函数变更仍然应当生效*/
+  private static void relink(DynamicMaker maker){
+    DynamicClass dyClass = DynamicClass.get("relink");
+    Unit unit = maker.newInstance(Unit.class, dyClass).self();
+
+    for(int i = 0; i < FunctionCallSite.MAX_RELINK*2; i++){
+      int level = i;
+      dyClass.setIntFunction("power", (self, l) -> l*level);
+      repeat(() -> check(unit.power(2) == level*2, "indy: relink " + level));
+    }
+  }
+
+  /**实参类型与形参类型不同时函数表缓存的匹配结果（包括未能匹配的结果），在函数变更后应当失效，实参类型的种类超过{@link FunctionTable#MAX_RESOLVED}后匹配结果仍然正确*/
+  private static void overloads(DynamicMaker maker){
+    DynamicClass dyClass = DynamicClass.get("overloads");
+    DynamicObject<Unit> unit = maker.newInstance(Unit.class, dyClass);
+
+    dyClass.setFunction("describe", (self, arg) -> "chars", CharSequence.class);
+    repeat(() -> check(unit.invokeFunc("describe", "text").equals("chars"), "table: subclass argument"));
+    repeat(() -> check(!matches(unit, "describe", new ArrayList<>()), "table: unmatched argument"));
+
+    dyClass.setFunction("describe", (self, arg) -> "chars2", CharSequence.class);
+    repeat(() -> check(unit.invokeFunc("describe", "text").equals("chars2"), "table: replaced function after cached match"));
+
+    dyClass.setFunction("describe", (self, arg) -> "collection", Collection.class);
+    repeat(() -> check(unit.invokeFunc("describe", new ArrayList<>()).equals("collection"), "table: new overload after cached mismatch"));
+
+    Object[] values = {"s", new StringBuilder(), new StringBuffer(), new ArrayList<>(), new LinkedList<>(), new ArrayDeque<>(), new HashSet<>(),
+        new TreeSet<>(), new LinkedHashSet<>(), new PriorityQueue<>(), new HashMap<>(), new TreeMap<>(), new LinkedHashMap<>(), new Hashtable<>(),
+        new IdentityHashMap<>(), new WeakHashMap<>(), BigInteger.ONE, BigDecimal.ONE, new Object(), new int[0]};
+    check(values.length*values.length > FunctionTable.MAX_RESOLVED, "table: not enough argument types");
+
+    dyClass.setFunction("pair", (self, arg) -> "chars", CharSequence.class, Object.class);
+    dyClass.setFunction("pair", (self, arg) -> "collection", Collection.class, Object.class);
+    for(int round = 0; round < 3; round++){
+      for(Object first: values){
+        for(Object second: values){
+          String message = "table: overflowed match for " + first.getClass() + ", " + second.getClass();
+          if(first instanceof CharSequence) check(unit.invokeFunc("pair", first, second).equals("chars"), message);
+          else if(first instanceof Collection) check(unit.invokeFunc("pair", first, second).equals("collection"), message);
+          else check(!matches(unit, "pair", first, second), message);
+        }
+      }
+    }
+  }
+
+  /**类型或父类型声明变量后，新创建的实例应当通过重建的变量表看到变量的声明，已创建的实例保留自己的变量值*/
+  private static void variables(DynamicMaker maker){
+    DynamicClass base = DynamicClass.get("varBase");
+    DynamicClass sub = DynamicClass.declare("varSub", base);
+
+    base.setVariable("health", 10, false);
+    DynamicObject<Unit> first = maker.newInstance(Unit.class, sub);
+    repeat(() -> check(first.<Integer>getVar("health") == 10, "variables: inherited variable"));
+
+    base.setVariable("mana", 3, false);
+    DynamicObject<Unit> second = maker.newInstance(Unit.class, sub);
+    repeat(() -> check(second.<Integer>getVar("mana") == 3, "variables: variable declared in super class later"));
+
+    sub.setVariable("health", 20, false);
+    DynamicObject<Unit> third = maker.newInstance(Unit.class, sub);
+    repeat(() -> check(third.<Integer>getVar("health") == 20, "variables: variable redeclared in sub class"));
+    check(first.<Integer>getVar("health") == 10, "variables: existing instance changed by redeclaration");
+
+    base.setVariable("health", 30, true);
+    DynamicObject<Unit> baseUnit = maker.newInstance(Unit.class, base);
+    check(baseUnit.<Integer>getVar("health") == 30, "variables: variable redeclared in super class");
+    check(maker.newInstance(Unit.class, sub).<Integer>getVar("health") == 20, "variables: super redeclaration overrode sub class");
+    try{
+      baseUnit.setVar("health", 1);
+      throw new AssertionError("variables: constant variable modified");
+    }catch(IllegalHandleException ignored){}
+
+    first.setVar("shield", 5);
+    repeat(() -> check(first.<Integer>getVar("shield") == 5, "variables: instance variable"));
+    try{
+      second.getVar("shield");
+      throw new AssertionError("variables: instance variable leaked to sibling");
+    }catch(IllegalHandleException ignored){}
+  }
+
+  private static boolean matches(DynamicObject<?> self, String name, Object... args){
+    return self.getFunc(name, FunctionType.inst(args)) != null;
+  }
+
+  private static void repeat(Runnable check){
+    for(int i = 0; i < WARMUP; i++){
+      check.run();
+    }
+  }
+
+  private static void check(boolean condition, String message){
+    if(!condition) throw new AssertionError(message);
+  }
+}
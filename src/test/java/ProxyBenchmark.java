@@ -0,0 +1,76 @@
+import dynamilize.DynamicMaker;
+import dynamilize.ProxyMaker;
+
+import java.lang.reflect.Proxy;
+
+/**对比代理调用的开销：直接调用，java代理，一般代理模式，直接代理模式下的代理处理器，以及直接代理模式下不作用于被调用方法的拦截器链。
+ * <p>实参与返回值限制在整数装箱的缓存范围内，以参数{@code -Xmx64m -verbose:gc}运行可以观察到直接代理模式的调用不会产生垃圾*/
+public class ProxyBenchmark{
+  private static final int WARMUP = 5;
+  private static final int ROUNDS = 20_000_000;
+
+  public interface Service{
+    int add(int a, int b);
+    String name();
+  }
+
+  public static class ServiceImpl implements Service{
+    @Override
+    public int add(int a, int b){
+      return a + b;
+    }
+
+    @Override
+    public String name(){
+      return "impl";
+    }
+  }
+
+  public static void main(String[] args){
+    DynamicMaker maker = DynamicMaker.getDefault();
+    ServiceImpl target = new ServiceImpl();
+
+    Service jdkProxy = (Service) Proxy.newProxyInstance(
+        Service.class.getClassLoader(),
+        new Class<?>[]{Service.class},
+        (proxy, method, arg) -> method.invoke(target, arg)
+    );
+    ServiceImpl proxy = ProxyMaker.getDefault(maker, (self, method, arg) -> method.invoke(self, arg))
+        .newProxyInstance(ServiceImpl.class).self();
+    ServiceImpl direct = ProxyMaker.getDefault(maker, (self, method, arg) -> method.invoke(self, arg), true)
+        .newProxyInstance(ServiceImpl.class).self();
+    ServiceImpl chained = ProxyMaker.getChained(maker, new ProxyMaker.InterceptorChain()
+            .around(c -> c.getName().equals("name"), (self, proceed, arg) -> "intercepted"),
+        true, ProxyMaker.MethodFilter.ALL
+    ).newProxyInstance(ServiceImpl.class).self();
+
+    if(chained.add(1, 2) != 3 || !chained.name().equals("intercepted"))
+      throw new AssertionError("chained proxy");
+
+    bench("direct call", target);
+    bench("java.lang.reflect.Proxy", jdkProxy);
+    bench("proxy", proxy);
+    bench("direct proxy", direct);
+    bench("direct chained proxy", chained);
+  }
+
+  private static void bench(String name, Service service){
+    for(int i = 0; i < WARMUP; i++){
+      run(service, ROUNDS/10);
+    }
+
+    long time = System.nanoTime();
+    int res = run(service, ROUNDS);
+    time = System.nanoTime() - time;
+
+    System.out.println(name + ": " + (double) time/ROUNDS + " ns/call (" + res + ")");
+  }
+
+  private static int run(Service service, int rounds){
+    int res = 0;
+    for(int i = 0; i < rounds; i++){
+      res += service.add(i & 63, 1);
+    }
+    return res;
+  }
+}
@@ -0,0 +1,61 @@
+import dynamilize.DynamicClass;
+import dynamilize.DynamicMaker;
+import dynamilize.InlineCache;
+import dynamilize.ProxyMaker;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+
+/**反复创建并丢弃代理生成器，检查生成器与其代理动态类型在不再被引用后可以被回收，检查失败时抛出异常。
+ * <p>委托方法的{@linkplain InlineCache 调用点缓存}会保留最近的几个接收者选中的函数，因此最后使用的少数生成器可能仍然可达，
+ * 但其数量不会超过缓存的容量，与创建过的生成器数量无关*/
+public class ProxyGcSample{
+  public static class Adder{
+    public int add(int a, int b){
+      return a + b;
+    }
+  }
+
+  public static void main(String[] args) throws InterruptedException{
+    DynamicMaker maker = DynamicMaker.getDefault();
+    DynamicClass dyClass = DynamicClass.get("ProxyGcSample");
+    dyClass.setFunction("add", (self, a) -> (int) a.get(0) + (int) a.get(1) + 1, int.class, int.class);
+
+    ArrayList<WeakReference<ProxyMaker>> makers = new ArrayList<>();
+    for(int i = 0; i < 128; i++){
+      for(boolean direct: new boolean[]{false, true}){
+        ProxyMaker proxyMaker = ProxyMaker.getDefault(maker, (self, method, arg) -> method.invoke(self, arg), direct);
+
+        check(proxyMaker.newProxyInstance(Adder.class).self().add(1, 2) == 3, "proxy without dynamic class");
+        check(proxyMaker.newProxyInstance(Adder.class, dyClass).self().add(1, 2) == 4, "proxy with dynamic class");
+
+        makers.add(new WeakReference<>(proxyMaker));
+      }
+    }
+
+    for(int i = 0; i < 20 && alive(makers) > InlineCache.MAX_ENTRIES; i++){
+      System.gc();
+      Thread.sleep(50);
+    }
+
+    check(alive(makers) <= InlineCache.MAX_ENTRIES, alive(makers) + " of " + makers.size() + " proxy makers are still reachable");
+
+    //被代理的动态类型在代理生成器被回收后仍然可以正常使用
+    dyClass.setFunction("add", (self, a) -> (int) a.get(0) + (int) a.get(1) + 2, int.class, int.class);
+    check(maker.newInstance(Adder.class, dyClass).self().add(1, 2) == 5, "dynamic class after proxy makers collected");
+
+    System.out.println("proxy makers collected: " + (makers.size() - alive(makers)) + "/" + makers.size());
+  }
+
+  private static int alive(ArrayList<WeakReference<ProxyMaker>> refs){
+    int res = 0;
+    for(WeakReference<ProxyMaker> ref: refs){
+      if(ref.get() != null) res++;
+    }
+    return res;
+  }
+
+  private static void check(boolean condition, String message){
+    if(!condition) throw new AssertionError(message);
+  }
+}
@@ -0,0 +1,172 @@
+import dynamilize.DynamicClass;
+import dynamilize.DynamicMaker;
+import dynamilize.ProxyMaker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**检查代理实例在一般代理模式与直接代理模式下的行为：方法调用的实参与返回值经过代理处理器后保持正确，动态类型的函数同样被代理，拦截器链按顺序作用于满足条件的方法，直接代理类型以过滤器选中的方法区分，检查失败时抛出异常*/
+public class ProxyModesSample{
+  public static class Target{
+    public int counter;
+
+    public String none(){
+      return "none";
+    }
+
+    public int one(int a){
+      return a + 1;
+    }
+
+    public long two(long a, double b){
+      return a + (long) b;
+    }
+
+    public String three(String a, char b, boolean c){
+      return a + b + c;
+    }
+
+    public int six(int a, int b, int c, int d, int e, int f){
+      return a + b + c + d + e + f;
+    }
+
+    public int seven(int a, int b, int c, int d, int e, int f, int g){
+      return a + b + c + d + e + f + g;
+    }
+
+    public void increase(float amount){
+      counter += (int) amount;
+    }
+  }
+
+  public static void main(String[] args){
+    DynamicMaker maker = DynamicMaker.getDefault();
+
+    for(boolean direct: new boolean[]{false, true}){
+      arguments(maker, direct);
+      dynamicClass(maker, direct);
+      chained(maker, direct);
+    }
+    filters(maker);
+
+    System.out.println("proxy checks passed");
+  }
+
+  /**每一次代理调用都会经过代理处理器，处理器收到的实参与方法的实参一致，基本类型实参与返回值被正确地装箱与拆箱*/
+  private static void arguments(DynamicMaker maker, boolean direct){
+    String mode = direct? "direct": "proxy";
+    ArrayList<String> calls = new ArrayList<>();
+    Target target = ProxyMaker.getDefault(maker, (self, method, arg) -> {
+      calls.add(method.getName() + Arrays.toString(arg.args()));
+      return method.invoke(self, arg);
+    }, direct).newProxyInstance(Target.class).self();
+
+    check(target.none().equals("none"), mode + ": no argument");
+    check(target.one(1) == 2, mode + ": one argument");
+    check(target.two(1L << 40, 2.5) == (1L << 40) + 2, mode + ": wide arguments");
+    check(target.three("a", 'b', true).equals("abtrue"), mode + ": mixed arguments");
+    check(target.six(1, 2, 3, 4, 5, 6) == 21, mode + ": six arguments");
+    check(target.seven(1, 2, 3, 4, 5, 6, 7) == 28, mode + ": seven arguments");
+    target.increase(3.5f);
+    check(target.counter == 3, mode + ": void method");
+
+    check(calls.equals(Arrays.asList(
+        "none[]", "one[1]", "two[1099511627776, 2.5]", "three[a, b, true]", "six[1, 2, 3, 4, 5, 6]", "seven[1, 2, 3, 4, 5, 6, 7]", "increase[3.5]"
+    )), mode + ": handler calls " + calls);
+
+    Target replaced = ProxyMaker.getDefault(maker, (self, method, arg) -> {
+      if(method.getName().equals("one")) return 42;
+      arg.args()[0] = 10L;
+      return method.invoke(self, arg);
+    }, direct).newProxyInstance(Target.class).self();
+    check(replaced.one(1) == 42, mode + ": handler result");
+    check(replaced.two(1, 1) == 11, mode + ": argument replaced by handler");
+  }
+
+  /**以动态类型创建的代理实例，动态类型的函数在类型层面被代理并由所有代理实例共享，动态类型的函数变更后，
+   * 下一次创建代理实例时函数会被重新包装，此后所有代理实例都以新的函数被代理。动态类型自身的实例不会被代理*/
+  private static void dynamicClass(DynamicMaker maker, boolean direct){
+    String mode = direct? "direct": "proxy";
+    DynamicClass dyClass = DynamicClass.get(mode + "Proxied");
+    dyClass.setIntFunction("one", (self, a) -> a*10);
+
+    ArrayList<String> calls = new ArrayList<>();
+    ProxyMaker proxyMaker = ProxyMaker.getDefault(maker, (self, method, arg) -> {
+      calls.add(method.getName());
+      return method.invoke(self, arg);
+    }, direct);
+    Target first = proxyMaker.newProxyInstance(Target.class, dyClass).self();
+    Target plain = maker.newInstance(Target.class, dyClass).self();
+
+    check(first.one(2) == 20 && calls.size() == 1, mode + ": dynamic function proxied");
+    check(plain.one(2) == 20 && calls.size() == 1, mode + ": dynamic class instance proxied");
+
+    dyClass.setIntFunction("one", (self, a) -> a*100);
+    dyClass.setFunction("none", (self, arg) -> "dynamic");
+    Target second = proxyMaker.newProxyInstance(Target.class, dyClass).self();
+    calls.clear();
+
+    check(second.one(2) == 200 && second.none().equals("dynamic"), mode + ": changed functions in new proxy");
+    check(first.one(2) == 200 && first.none().equals("dynamic"), mode + ": changed functions in existing proxy");
+    check(calls.equals(Arrays.asList("one", "none", "one", "none")), mode + ": changed functions proxied " + calls);
+    check(plain.one(2) == 200 && calls.size() == 4, mode + ": dynamic class instance proxied after change");
+  }
+
+  /**先添加的拦截器位于外层，拦截器只作用于满足条件的方法，拦截器可以修改实参或者不继续调用链，创建生成器后对拦截器链的修改不影响生成器*/
+  private static void chained(DynamicMaker maker, boolean direct){
+    String mode = direct? "direct": "proxy";
+    ArrayList<String> trace = new ArrayList<>();
+    ProxyMaker.InterceptorChain chain = new ProxyMaker.InterceptorChain()
+        .around((self, proceed, arg) -> {
+          trace.add("outer>" + proceed.getName());
+          Object res = proceed.invoke(self, arg);
+          trace.add("outer<" + proceed.getName());
+          return res;
+        })
+        .around(c -> c.getName().equals("one"), (self, proceed, arg) -> {
+          trace.add("inner");
+          arg.args()[0] = (int) arg.args()[0]*2;
+          return proceed.invoke(self, arg);
+        })
+        .around(c -> c.getName().equals("none"), (self, proceed, arg) -> "intercepted");
+
+    ProxyMaker proxyMaker = ProxyMaker.getChained(maker, chain, direct, ProxyMaker.MethodFilter.EXCLUDE_OBJECT_METHODS);
+    chain.around((self, proceed, arg) -> {
+      throw new AssertionError(mode + ": interceptor added after creating the proxy maker");
+    });
+    Target target = proxyMaker.newProxyInstance(Target.class).self();
+
+    check(target.one(5) == 11, mode + ": argument changed by inner interceptor");
+    check(trace.equals(Arrays.asList("outer>one", "inner", "outer<one")), mode + ": interceptor order " + trace);
+
+    trace.clear();
+    check(target.none().equals("intercepted"), mode + ": short circuit interceptor");
+    check(target.seven(1, 1, 1, 1, 1, 1, 1) == 7, mode + ": interceptor for other methods");
+    check(trace.equals(Arrays.asList("outer>none", "outer<none", "outer>seven", "outer<seven")), mode + ": interceptor conditions " + trace);
+
+    trace.clear();
+    target.toString();
+    check(trace.isEmpty(), mode + ": filtered method intercepted");
+  }
+
+  /**直接代理模式下，选中相同方法的不同过滤器实例共用同一个代理类型，选中不同方法的过滤器生成不同的代理类型，未给出动态类型的代理实例使用各自生成器的动态类型*/
+  private static void filters(DynamicMaker maker){
+    ProxyMaker.ProxyHandler handler = (self, method, arg) -> method.invoke(self, arg);
+    Class<?> first = ProxyMaker.getDefault(maker, handler, true, ProxyMaker.MethodFilter.include("one")).newProxyInstance(Target.class).self().getClass();
+    Class<?> second = ProxyMaker.getDefault(maker, handler, true, ProxyMaker.MethodFilter.include("one")).newProxyInstance(Target.class).self().getClass();
+    Class<?> other = ProxyMaker.getDefault(maker, handler, true, ProxyMaker.MethodFilter.include("two")).newProxyInstance(Target.class).self().getClass();
+
+    check(first == second, "filters: same selection generated another class");
+    check(first != other, "filters: different selection shared a class");
+    check(!first.getName().equals(other.getName()), "filters: different selection shared a class name");
+
+    ProxyMaker proxyMaker = ProxyMaker.getDefault(maker, handler, true);
+    DynamicClass own = proxyMaker.newProxyInstance(Target.class).getDyClass();
+    check(proxyMaker.newProxyInstance(Target.class).getDyClass() == own, "filters: dynamic class of the same proxy maker");
+    check(ProxyMaker.getDefault(maker, handler, true).newProxyInstance(Target.class).getDyClass() != own, "filters: dynamic class shared between proxy makers");
+  }
+
+  private static void check(boolean condition, String message){
+    if(!condition) throw new AssertionError(message);
+  }
+}
@@ -0,0 +1,282 @@
+import dynamilize.DynamicClass;
+import dynamilize.DynamicMaker;
+import dynamilize.DynamicObject;
+import dynamilize.IllegalHandleException;
+import dynamilize.Initializer;
+import dynamilize.Variable;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**检查动态对象的变量在各种保存方式下的行为：类型声明的槽位变量，实例自身的变量，基本类型变量，以工厂函数初始化与延迟初始化的变量，实例间共享的默认值，以及多线程下的原子操作，检查失败时抛出异常*/
+public class VariableSample{
+  public static class Entity{
+    public int level = 1;
+  }
+
+  public static void main(String[] args) throws InterruptedException{
+    DynamicMaker maker = DynamicMaker.getDefault();
+
+    slots(maker);
+    shapes(maker);
+    primitives(maker);
+    initializers(maker);
+    sharedDefaults(maker);
+    atomics(maker);
+
+    System.out.println("variable checks passed");
+  }
+
+  /**类型层次结构中声明的变量保存在实例的槽位中，实例之间互不影响，委托类型的java字段仍然作为变量访问，以名称创建的变量在访问时解析槽位*/
+  private static void slots(DynamicMaker maker){
+    DynamicClass base = DynamicClass.get("slotBase");
+    DynamicClass sub = DynamicClass.declare("slotSub", base);
+    base.setVariable("name", "base", false);
+    sub.setVariable("tag", "sub", false);
+
+    DynamicObject<Entity> a = maker.newInstance(Entity.class, sub);
+    DynamicObject<Entity> b = maker.newInstance(Entity.class, sub);
+    check(a.getVar("name").equals("base") && a.getVar("tag").equals("sub"), "slots: declared variables");
+
+    a.setVar("name", "a");
+    b.setVar("tag", "b");
+    check(a.getVar("name").equals("a") && a.getVar("tag").equals("sub"), "slots: write to own slot");
+    check(b.getVar("name").equals("base") && b.getVar("tag").equals("b"), "slots: instances share slots");
+
+    a.setVar("level", 5);
+    check(a.self().level == 5 && a.<Integer>getVar("level") == 5, "slots: java field variable");
+
+    @SuppressWarnings("deprecation")
+    Variable legacy = new Variable("legacy", false);
+    a.setVariable(legacy);
+    a.setVar("legacy", "a");
+    legacy.set(b, "b");
+    check(legacy.get(a).equals("a") && a.getVar("legacy").equals("a") && legacy.get(b).equals("b"), "slots: variable created by name");
+  }
+
+  /**实例上未经类型声明而直接设置的变量，以不同的顺序设置变量的实例之间互不影响，这些变量不占用类型布局的槽位，
+   * 多个线程同时为同一实例添加不同的变量时不会丢失变量*/
+  private static void shapes(DynamicMaker maker) throws InterruptedException{
+    DynamicClass dyClass = DynamicClass.get("shapes");
+    DynamicObject<Entity> a = maker.newInstance(Entity.class, dyClass);
+    DynamicObject<Entity> b = maker.newInstance(Entity.class, dyClass);
+    DynamicObject<Entity> c = maker.newInstance(Entity.class, dyClass);
+
+    for(int i = 0; i < 16; i++){
+      a.setVar("v" + i, i);
+      b.setVar("v" + (15 - i), -i);
+      c.setVar("v" + i, 0);
+    }
+    for(int i = 0; i < 16; i++){
+      check(a.<Integer>getVar("v" + i) == i, "shapes: variable v" + i + " of first instance");
+      check(b.<Integer>getVar("v" + i) == i - 15, "shapes: variable v" + i + " of second instance");
+      check(c.<Integer>getVar("v" + i) == 0, "shapes: variable v" + i + " of third instance");
+    }
+
+    a.setVar("only", "a");
+    check(a.getVar("only").equals("a"), "shapes: added variable");
+    try{
+      c.getVar("only");
+      throw new AssertionError("shapes: variable leaked to instance with the same shape");
+    }catch(IllegalHandleException ignored){}
+
+    int declared = dyClass.variableLayout().size();
+    dyClass.setVariable("declaredLater", "declared", false);
+    check(a.<Integer>getVar("v0") == 0 && a.getVar("only").equals("a"), "shapes: added variables after a later declaration");
+    a.setVar("declaredLater", "a");
+    check(a.getVar("declaredLater").equals("a") && a.<Integer>getVar("v15") == 15, "shapes: variable declared after instances added variables");
+    check(dyClass.variableLayout().size() == declared + 1, "shapes: added variables took layout slots");
+
+    DynamicObject<Entity> shared = maker.newInstance(Entity.class, dyClass);
+    ArrayList<Thread> workers = new ArrayList<>();
+    for(int t = 0; t < 4; t++){
+      int thread = t;
+      workers.add(new Thread(() -> {
+        for(int i = 0; i < 256; i++){
+          shared.setVar("t" + thread + "_" + i, i);
+        }
+      }));
+    }
+    for(Thread worker: workers){
+      worker.start();
+    }
+    for(Thread worker: workers){
+      worker.join();
+    }
+    for(int t = 0; t < 4; t++){
+      for(int i = 0; i < 256; i++){
+        check(shared.<Integer>getVar("t" + t + "_" + i) == i, "shapes: lost concurrently added variable t" + t + "_" + i);
+      }
+    }
+  }
+
+  /**基本类型变量以基本类型访问方法读写，也可以与一般的变量一样以包装类型读写*/
+  private static void primitives(DynamicMaker maker){
+    DynamicClass dyClass = DynamicClass.get("primitives");
+    dyClass.setVariable("health", int.class, 10, false);
+    dyClass.setVariable("exp", long.class, 1L << 40, false);
+    dyClass.setVariable("speed", float.class, 2, false);
+    dyClass.setVariable("ratio", double.class, 0.5, false);
+    dyClass.setVariable("alive", boolean.class, true, false);
+
+    DynamicObject<Entity> a = maker.newInstance(Entity.class, dyClass);
+    DynamicObject<Entity> b = maker.newInstance(Entity.class, dyClass);
+    check(a.getVarInt("health") == 10 && a.getVarLong("exp") == 1L << 40 && a.getVarFloat("speed") == 2f
+        && a.getVarDouble("ratio") == 0.5 && a.getVarBoolean("alive"), "primitives: initial values");
+
+    a.setVarInt("health", 7);
+    a.calculateVarInt("health", v -> v*3);
+    a.setVarLong("exp", a.getVarLong("exp") + 1);
+    a.setVarFloat("speed", 1.5f);
+    a.setVarDouble("ratio", 0.25);
+    a.setVarBoolean("alive", false);
+    check(a.getVarInt("health") == 21 && a.getVarLong("exp") == (1L << 40) + 1 && a.getVarFloat("speed") == 1.5f
+        && a.getVarDouble("ratio") == 0.25 && !a.getVarBoolean("alive"), "primitives: typed writes");
+    check(b.getVarInt("health") == 10 && b.getVarBoolean("alive"), "primitives: instances share values");
+
+    check(a.<Integer>getVar("health") == 21, "primitives: boxed read");
+    a.setVar("health", 4);
+    check(a.getVarInt("health") == 4, "primitives: boxed write");
+  }
+
+  /**工厂函数在每个实例创建时执行，延迟初始化的变量在首次读取时才执行且只执行一次，读取前赋值则不会执行，通过{@link DynamicClass#getVarInit()}放入或移除的初始化器对之后创建的实例生效*/
+  private static void initializers(DynamicMaker maker){
+    AtomicInteger eager = new AtomicInteger(), lazy = new AtomicInteger();
+    DynamicClass dyClass = DynamicClass.get("initializers");
+    dyClass.setVariable("eager", () -> eager.incrementAndGet(), false);
+    dyClass.setLazyVariable("lazy", () -> "lazy" + lazy.incrementAndGet(), false);
+
+    DynamicObject<Entity> a = maker.newInstance(Entity.class, dyClass);
+    DynamicObject<Entity> b = maker.newInstance(Entity.class, dyClass);
+    check(eager.get() == 2 && a.<Integer>getVar("eager") == 1 && b.<Integer>getVar("eager") == 2, "initializers: producer per instance");
+    check(lazy.get() == 0, "initializers: lazy producer ran on instantiation");
+
+    check(a.getVar("lazy").equals("lazy1") && a.getVar("lazy").equals("lazy1") && lazy.get() == 1, "initializers: lazy producer on first read");
+    b.setVar("lazy", "assigned");
+    check(b.getVar("lazy").equals("assigned") && lazy.get() == 1, "initializers: lazy producer after assignment");
+
+
+    dyClass.getVarInit().put("mapped", Initializer.ofValue("mapped", false));
+    dyClass.getVarInit().put("mappedInt", new Initializer<>(() -> 3, false, int.class));
+    DynamicObject<Entity> c = maker.newInstance(Entity.class, dyClass);
+    check(c.getVar("mapped").equals("mapped") && c.getVarInt("mappedInt") == 3, "initializers: variable declared through getVarInit");
+
+    dyClass.getVarInit().remove("eager");
+    check(maker.newInstance(Entity.class, dyClass).getVar("eager") == null && eager.get() == 3, "initializers: initializer removed through getVarInit");
+  }
+
+  /**实例共享固定的初始值，类型中同时有以工厂函数初始化的变量时也是如此，任意实例的写入，包括写入null与延迟初始化变量的初始化，都不会被其他实例观察到*/
+  private static void sharedDefaults(DynamicMaker maker){
+    AtomicInteger lazy = new AtomicInteger();
+    DynamicClass dyClass = DynamicClass.get("sharedDefaults");
+    dyClass.setVariable("name", "default", false);
+    dyClass.setVariable("count", 0, false);
+    dyClass.setLazyVariable("lazy", () -> lazy.incrementAndGet(), false);
+
+    DynamicObject<?>[] entities = new DynamicObject<?>[8];
+    for(int i = 0; i < entities.length; i++){
+      entities[i] = maker.newInstance(Entity.class, dyClass);
+    }
+
+    entities[0].setVar("name", "first");
+    entities[1].calculateVar("count", (Integer v) -> v + 1);
+    check(entities[2].<Integer>getVar("lazy") == 1, "shared defaults: lazy variable");
+    check(entities[0].getVar("name").equals("first") && entities[1].<Integer>getVar("count") == 1, "shared defaults: write");
+    for(int i = 3; i < entities.length; i++){
+      check(entities[i].getVar("name").equals("default") && entities[i].<Integer>getVar("count") == 0, "shared defaults: write leaked to instance " + i);
+    }
+    check(entities[3].<Integer>getVar("lazy") == 2, "shared defaults: lazy initialization leaked");
+
+    dyClass.setVariable("name", "changed", false);
+    check(entities[4].getVar("name").equals("default"), "shared defaults: existing instance changed by new default");
+    check(maker.newInstance(Entity.class, dyClass).getVar("name").equals("changed"), "shared defaults: new default");
+
+    AtomicInteger produced = new AtomicInteger();
+    DynamicClass mixed = DynamicClass.get("mixedDefaults");
+    mixed.setVariable("fixed", "default", false);
+    mixed.setVariable("produced", () -> produced.incrementAndGet(), false);
+    mixed.setLazyVariable("lazy", () -> "lazy", false);
+    DynamicObject<Entity> a = maker.newInstance(Entity.class, mixed);
+    DynamicObject<Entity> b = maker.newInstance(Entity.class, mixed);
+    check(a.getVar("fixed").equals("default") && a.<Integer>getVar("produced") == 1 && b.<Integer>getVar("produced") == 2, "shared defaults: mixed initializers");
+
+    a.setVar("fixed", null);
+    check(a.getVar("fixed") == null && b.getVar("fixed").equals("default"), "shared defaults: null written over a shared default");
+    check(a.getVar("lazy").equals("lazy") && b.getVar("fixed").equals("default"), "shared defaults: lazy initialization with producers");
+  }
+
+  /**多个线程同时以原子操作更新同一对象的变量，同时另一线程向对象添加新的变量使变量数组扩容，更新不会丢失；
+   * 延迟初始化的变量在并发的首次读取下只初始化一次；原子操作使用的锁不是对象自身*/
+  private static void atomics(DynamicMaker maker) throws InterruptedException{
+    int threads = 8, rounds = 10000;
+    AtomicInteger lazy = new AtomicInteger();
+    DynamicClass dyClass = DynamicClass.get("atomics");
+    dyClass.setVariable("hits", int.class, 0, false);
+    dyClass.setVariable("total", 0, false);
+    dyClass.setVariable("cas", 0, false);
+    dyClass.setVariable("casRef", 0, false);
+    dyClass.setLazyVariable("lazy", () -> lazy.incrementAndGet(), false);
+    DynamicObject<Entity> entity = maker.newInstance(Entity.class, dyClass);
+
+    ArrayList<Thread> workers = new ArrayList<>();
+    for(int t = 0; t < threads; t++){
+      workers.add(new Thread(() -> {
+        check(entity.<Integer>getVar("lazy") == 1, "atomics: lazy variable value");
+        for(int i = 0; i < rounds; i++){
+          entity.getAndAddVarInt("hits", 1);
+          entity.accumulateVar("total", 2, Integer::sum);
+
+          int curr;
+          do{
+            curr = entity.getVar("cas");
+          }while(!entity.compareAndSetVarEquals("cas", curr, curr + 1));
+
+          Integer ref;
+          do{
+            ref = entity.getVar("casRef");
+          }while(!entity.compareAndSetVar("casRef", ref, ref + 1));
+        }
+      }));
+    }
+    workers.add(new Thread(() -> {
+      for(int round = 0; round < 40; round++){
+        for(int i = 0; i < 256; i++){
+          entity.setVar("extra" + i, round);
+        }
+      }
+    }));
+
+    for(Thread worker: workers){
+      worker.start();
+    }
+    for(Thread worker: workers){
+      worker.join();
+    }
+
+    check(entity.getVarInt("hits") == threads*rounds, "atomics: lost getAndAddVarInt updates, " + entity.getVarInt("hits"));
+    check(entity.<Integer>getVar("total") == threads*rounds*2, "atomics: lost accumulateVar updates, " + entity.getVar("total"));
+    check(entity.<Integer>getVar("cas") == threads*rounds, "atomics: lost compareAndSetVarEquals updates, " + entity.getVar("cas"));
+    check(entity.<Integer>getVar("casRef") == threads*rounds, "atomics: lost compareAndSetVar updates, " + entity.getVar("casRef"));
+
+    String label = "label";
+    entity.setVar("label", label);
+    check(!entity.compareAndSetVar("label", new String(label), "other"), "atomics: compareAndSetVar compared by equals");
+    check(entity.compareAndSetVar("label", label, "other"), "atomics: compareAndSetVar with the current object");
+    check(entity.compareAndSetVarEquals("label", new String("other"), label), "atomics: compareAndSetVarEquals compared by reference");
+    check(lazy.get() == 1, "atomics: lazy variable initialized " + lazy.get() + " times");
+    for(int i = 0; i < 256; i++){
+      check(entity.<Integer>getVar("extra" + i) == 39, "atomics: lost variable extra" + i);
+    }
+
+    Thread other = new Thread(() -> entity.getAndAddVarInt("hits", 1));
+    synchronized(entity){
+      other.start();
+      other.join(10000);
+    }
+    check(!other.isAlive(), "atomics: atomic operation blocked by a lock on the object");
+  }
+
+  private static void check(boolean condition, String message){
+    if(!condition) throw new AssertionError(message);
+  }
+}